@@ -1,6 +1,7 @@
 plugins {
     id("io.github.kaktushose.jda.commands.convention.java")
     id("io.github.kaktushose.jda.commands.convention.maven-central-deploy")
+    alias(libs.plugins.jmh)
 }
 
 val mockitoAgent = configurations.create("mockitoAgent")
@@ -27,6 +28,8 @@ dependencies {
 
     testImplementation(project(":testing"))
     mockitoAgent(libs.mockito.core) { isTransitive = false }
+
+    jmh(libs.mockito.core)
 }
 
 group = "io.github.kaktushose.jda-commands"
@@ -37,6 +40,11 @@ tasks.test {
     jvmArgs("-javaagent:${mockitoAgent.asPath}")
 }
 
+jmh {
+    profilers.add("gc")
+    jvmArgsAppend.add("-javaagent:${mockitoAgent.asPath}")
+}
+
 tasks.named<JavaCompile>("compileTestJava") {
     options.compilerArgs.add("-parameters")
 }
\ No newline at end of file
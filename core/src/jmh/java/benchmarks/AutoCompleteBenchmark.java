@@ -0,0 +1,115 @@
+package benchmarks;
+
+import io.github.kaktushose.jdac.annotations.interactions.AutoComplete;
+import io.github.kaktushose.jdac.annotations.interactions.Command;
+import io.github.kaktushose.jdac.annotations.interactions.Interaction;
+import io.github.kaktushose.jdac.annotations.interactions.Param;
+import io.github.kaktushose.jdac.dispatching.JDAEventListener;
+import io.github.kaktushose.jdac.dispatching.events.interactions.AutoCompleteEvent;
+import io.github.kaktushose.jdac.dispatching.events.interactions.CommandEvent;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.interactions.AutoCompleteQuery;
+import net.dv8tion.jda.api.interactions.DiscordLocale;
+import net.dv8tion.jda.api.interactions.InteractionType;
+import net.dv8tion.jda.api.interactions.commands.CommandAutoCompleteInteraction;
+import net.dv8tion.jda.api.requests.restaction.interactions.AutoCompleteCallbackAction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/// Measures the cost of dispatching an auto complete event through the [JDAEventListener], comparing a lazy runtime
+/// with a runtime that gets promoted, which is what every auto complete event paid before runtimes were started
+/// lazily: an execution thread, a queue and an entry in the runtime map.
+///
+/// Run with `./gradlew :core:jmh`, the allocations per event are reported as `gc.alloc.rate.norm`.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AutoCompleteBenchmark {
+
+    private static final Semaphore replied = new Semaphore(0);
+
+    private JDAEventListener listener;
+    private CommandAutoCompleteInteractionEvent lazy;
+    private CommandAutoCompleteInteractionEvent promoted;
+
+    @Setup
+    public void setup() {
+        listener = new JDAEventListener(MockedJDA.start(Completions.class));
+        lazy = event("lazy");
+        promoted = event("promoted");
+    }
+
+    @Benchmark
+    public void lazy() throws InterruptedException {
+        dispatch(lazy);
+    }
+
+    @Benchmark
+    public void promoted() throws InterruptedException {
+        dispatch(promoted);
+    }
+
+    private void dispatch(CommandAutoCompleteInteractionEvent event) throws InterruptedException {
+        listener.onGenericInteractionCreate(event);
+        replied.acquire();
+    }
+
+    private static CommandAutoCompleteInteractionEvent event(String command) {
+        CommandAutoCompleteInteractionEvent event = mock(CommandAutoCompleteInteractionEvent.class, MockedJDA.stubOnly());
+        when(event.getJDA()).thenReturn(mock(JDA.class, MockedJDA.stubOnly()));
+        when(event.getType()).thenReturn(InteractionType.COMMAND_AUTOCOMPLETE);
+        when(event.getUser()).thenReturn(mock(User.class, MockedJDA.stubOnly()));
+        when(event.getUserLocale()).thenReturn(DiscordLocale.ENGLISH_US);
+        when(event.getGuildLocale()).thenReturn(DiscordLocale.ENGLISH_US);
+
+        CommandAutoCompleteInteraction interaction = mock(CommandAutoCompleteInteraction.class, MockedJDA.stubOnly());
+        when(interaction.getFullCommandName()).thenReturn(command);
+        when(event.getInteraction()).thenReturn(interaction);
+
+        AutoCompleteQuery query = mock(AutoCompleteQuery.class, MockedJDA.stubOnly());
+        when(query.getName()).thenReturn("query");
+        when(query.getValue()).thenReturn("");
+        when(event.getFocusedOption()).thenReturn(query);
+
+        AutoCompleteCallbackAction action = mock(AutoCompleteCallbackAction.class, MockedJDA.stubOnly());
+        when(event.replyChoices(anyCollection())).then(_ -> {
+            replied.release();
+            return action;
+        });
+        return event;
+    }
+
+    @Interaction
+    public static class Completions {
+
+        @AutoComplete("lazy")
+        public void onLazy(AutoCompleteEvent event) {
+            event.replyChoice("name", "value");
+        }
+
+        // behaves like every runtime did before they were started lazily
+        @AutoComplete("promoted")
+        public void onPromoted(AutoCompleteEvent event) {
+            event.runtimeId();
+            event.replyChoice("name", "value");
+            event.closeRuntime();
+        }
+
+        @Command("lazy")
+        public void lazy(CommandEvent event, @Param(name = "query") String query) { }
+
+        @Command("promoted")
+        public void promoted(CommandEvent event, @Param(name = "query") String query) { }
+    }
+}
@@ -0,0 +1,67 @@
+package benchmarks;
+
+import io.github.kaktushose.jdac.annotations.i18n.Bundle;
+import io.github.kaktushose.jdac.definitions.description.Descriptor;
+import io.github.kaktushose.jdac.message.emoji.EmojiResolver;
+import io.github.kaktushose.jdac.message.i18n.FluavaLocalizer;
+import io.github.kaktushose.jdac.message.i18n.I18n;
+import io.github.kaktushose.jdac.message.i18n.internal.BundleFinder;
+import io.github.kaktushose.jdac.message.i18n.internal.BundleFinder.InteractionBundle;
+import io.github.kaktushose.jdac.message.placeholder.PlaceholderResolver;
+import io.github.kaktushose.jdac.message.resolver.MessageResolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/// Measures the message resolution of an `event.reply("key")` call without an explicit bundle. Compares the
+/// precomputed bundle of the interaction, bound to [BundleFinder#INTERACTION] by the event handler, with the
+/// previous implementation, which searched the whole call stack.
+///
+/// Run with `./gradlew :core:jmh`.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BundleFinderBenchmark {
+
+    private static final InteractionBundle interaction = new InteractionBundle(
+            Replies.class, "reply", MethodType.methodType(String.class), "replies"
+    );
+
+    private final Replies replies = new Replies(new MessageResolver(List.of(
+            new PlaceholderResolver(),
+            new I18n(new BundleFinder(Descriptor.REFLECTIVE), FluavaLocalizer.create(Locale.ENGLISH)),
+            new EmojiResolver(List.of())
+    )));
+
+    @Benchmark
+    public String scoped() {
+        return ScopedValue.where(BundleFinder.INTERACTION, interaction).call(replies::reply);
+    }
+
+    @Benchmark
+    public String stackWalk() {
+        return replies.reply();
+    }
+
+    @Bundle("replies")
+    public static class Replies {
+
+        private final MessageResolver resolver;
+
+        private Replies(MessageResolver resolver) {
+            this.resolver = resolver;
+        }
+
+        // resolves the message like event.reply("greeting") would do inside an interaction method
+        public String reply() {
+            return resolver.resolve("greeting", Locale.ENGLISH, Map.of());
+        }
+    }
+}
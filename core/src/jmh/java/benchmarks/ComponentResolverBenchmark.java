@@ -0,0 +1,95 @@
+package benchmarks;
+
+import io.github.kaktushose.jdac.message.placeholder.PlaceholderResolver;
+import io.github.kaktushose.jdac.message.resolver.ComponentResolver;
+import io.github.kaktushose.jdac.message.resolver.DataObjectResolver;
+import net.dv8tion.jda.api.components.actionrow.ActionRow;
+import net.dv8tion.jda.api.components.buttons.Button;
+import net.dv8tion.jda.api.components.container.Container;
+import net.dv8tion.jda.api.components.container.ContainerChildComponent;
+import net.dv8tion.jda.api.components.section.Section;
+import net.dv8tion.jda.api.components.selections.SelectOption;
+import net.dv8tion.jda.api.components.selections.StringSelectMenu;
+import net.dv8tion.jda.api.components.separator.Separator;
+import net.dv8tion.jda.api.components.textdisplay.TextDisplay;
+import net.dv8tion.jda.api.components.utils.ComponentDeserializer;
+import net.dv8tion.jda.api.components.utils.ComponentSerializer;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/// Compares the direct walk of [ComponentResolver] with the previous implementation, which serialized the component
+/// to JSON, resolved the textual fields with a [DataObjectResolver] and deserialized the result, on a [Container] with
+/// 30 children.
+///
+/// Run with `./gradlew :core:jmh`.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ComponentResolverBenchmark {
+
+    private static final Map<String, Object> placeholders = Map.of("user", "Kaktus", "count", 42);
+
+    private final PlaceholderResolver placeholderResolver = new PlaceholderResolver();
+    private final ComponentResolver<Container> componentResolver = new ComponentResolver<>(placeholderResolver, Container.class);
+    private final DataObjectResolver jsonResolver = new DataObjectResolver(
+            placeholderResolver, Set.of("content", "label", "placeholder", "value", "description")
+    );
+    private final ComponentSerializer serializer = new ComponentSerializer();
+    private Container container;
+
+    @Setup
+    public void setup() {
+        List<ContainerChildComponent> children = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            children.add(TextDisplay.of("Hello { $user }, this is line %d of { $count }".formatted(i)));
+        }
+        for (int i = 0; i < 6; i++) {
+            children.add(Section.of(
+                    Button.primary("section-" + i, "Open { $user }"),
+                    TextDisplay.of("Section %d for { $user }".formatted(i))
+            ));
+        }
+        for (int i = 0; i < 4; i++) {
+            children.add(ActionRow.of(
+                    Button.primary("first-" + i, "First { $count }"),
+                    Button.secondary("second-" + i, "Second { $count }"),
+                    Button.danger("third-" + i, "Third { $count }")
+            ));
+        }
+        for (int i = 0; i < 2; i++) {
+            children.add(ActionRow.of(StringSelectMenu.create("menu-" + i)
+                    .setPlaceholder("Choose, { $user }")
+                    .addOptions(
+                            SelectOption.of("Option A { $count }", "a").withDescription("The first option"),
+                            SelectOption.of("Option B { $count }", "b").withDescription("The second option")
+                    )
+                    .build()
+            ));
+        }
+        for (int i = 0; i < 8; i++) {
+            children.add(Separator.createDivider(Separator.Spacing.SMALL));
+        }
+        container = Container.of(children);
+    }
+
+    @Benchmark
+    public Container direct() {
+        return componentResolver.resolve(container, Locale.ENGLISH, placeholders);
+    }
+
+    @Benchmark
+    public Container json() {
+        DataObject data = jsonResolver.resolve(serializer.serialize(container), Locale.ENGLISH, placeholders);
+        return new ComponentDeserializer(serializer.getFileUploads(container)).deserializeAs(Container.class, data);
+    }
+}
@@ -0,0 +1,45 @@
+package benchmarks;
+
+import io.github.kaktushose.jdac.definitions.interactions.CustomId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Compares [CustomId#parse(String)] with the previous implementation, which matched the custom id against the
+/// regexes of the UUID based and the independent format and split it afterwards. The previous implementation didn't
+/// accept the compact runtime ids, thus it rejects them.
+///
+/// Run with `./gradlew :core:jmh`.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomIdBenchmark {
+
+    private static final String BOUND_CUSTOM_ID_REGEX = "^jdac\\.[0-9a-fA-F-]{36}\\.-?\\d+$";
+    private static final String INDEPENDENT_CUSTOM_ID_REGEX = "^jdac\\.independent\\.-?\\d+$";
+
+    @Param({
+            "jdac.0f4c3b2a-6d1e-4f8a-9b7c-5e2d1a0b9c8d.-1428719624",
+            "jdac.Xq3_a-Bc.-1428719624",
+            "jdac.independent.1428719624",
+            "foreign-button"
+    })
+    public String customId;
+
+    @Benchmark
+    public Object parse() {
+        return CustomId.parse(customId);
+    }
+
+    @Benchmark
+    public Object regex() {
+        if (!(customId.matches(BOUND_CUSTOM_ID_REGEX) || customId.matches(INDEPENDENT_CUSTOM_ID_REGEX))) {
+            return null;
+        }
+        String[] split = customId.split("\\.");
+        return new CustomId(split[1], split[2]);
+    }
+}
@@ -0,0 +1,87 @@
+package benchmarks;
+
+import io.github.kaktushose.jdac.definitions.description.Descriptor;
+import io.github.kaktushose.jdac.definitions.description.Invoker;
+import io.github.kaktushose.jdac.definitions.description.MethodDescription;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/// Compares the [Invoker]s of [Descriptor#REFLECTIVE] and [Descriptor#METHOD_HANDLES] for handlers with 0 to 6
+/// parameters.
+///
+/// Run with `./gradlew :core:jmh`.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InvokerBenchmark {
+
+    @Param({"0", "1", "2", "3", "4", "5", "6"})
+    public int arity;
+
+    private final Handlers handlers = new Handlers();
+    private Invoker reflective;
+    private Invoker methodHandles;
+    private List<Object> arguments;
+
+    @Setup
+    public void setup() {
+        reflective = invoker(Descriptor.REFLECTIVE);
+        methodHandles = invoker(Descriptor.METHOD_HANDLES);
+        arguments = Collections.nCopies(arity, "argument");
+    }
+
+    @Benchmark
+    public Object reflective() throws Exception {
+        return reflective.invoke(handlers, arguments);
+    }
+
+    @Benchmark
+    public Object methodHandles() throws Exception {
+        return methodHandles.invoke(handlers, arguments);
+    }
+
+    private Invoker invoker(Descriptor descriptor) {
+        return descriptor.describe(Handlers.class).methods().stream()
+                .filter(method -> method.name().equals("handler") && method.parameters().size() == arity)
+                .findFirst()
+                .map(MethodDescription::invoker)
+                .orElseThrow();
+    }
+
+    public static class Handlers {
+
+        public String handler() {
+            return "";
+        }
+
+        public String handler(String a) {
+            return a;
+        }
+
+        public String handler(String a, String b) {
+            return b;
+        }
+
+        public String handler(String a, String b, String c) {
+            return c;
+        }
+
+        public String handler(String a, String b, String c, String d) {
+            return d;
+        }
+
+        public String handler(String a, String b, String c, String d, String e) {
+            return e;
+        }
+
+        public String handler(String a, String b, String c, String d, String e, String f) {
+            return f;
+        }
+    }
+}
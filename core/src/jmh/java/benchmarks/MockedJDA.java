@@ -0,0 +1,57 @@
+package benchmarks;
+
+import io.github.kaktushose.jdac.JDACommands;
+import io.github.kaktushose.jdac.definitions.description.ClassFinder;
+import io.github.kaktushose.jdac.property.internal.JDACIntrospectionImpl;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.emoji.ApplicationEmoji;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.requests.restaction.CommandListUpdateAction;
+import net.dv8tion.jda.api.utils.cache.SnowflakeCacheView;
+import org.mockito.MockSettings;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/// Starts a [JDACommands] instance on top of a mocked [JDA], just enough to dispatch mocked interaction events.
+///
+/// All mocks are stub only, so that invocations aren't recorded and don't distort the measured allocations.
+final class MockedJDA {
+
+    private MockedJDA() { }
+
+    /// Creates [MockSettings] for a mock that doesn't record its invocations.
+    ///
+    /// @return the [MockSettings]
+    static MockSettings stubOnly() {
+        return withSettings().stubOnly();
+    }
+
+    /// Creates a mocked [JDA] and starts a [JDACommands] instance for the given interaction class.
+    ///
+    /// @param interaction the interaction class to register
+    /// @return the [JDACIntrospectionImpl] of the started [JDACommands] instance
+    @SuppressWarnings("unchecked")
+    static JDACIntrospectionImpl start(Class<?> interaction) {
+        JDA jda = mock(JDA.class, stubOnly());
+
+        SnowflakeCacheView<Guild> guildCache = mock(SnowflakeCacheView.class, stubOnly());
+        when(guildCache.iterator()).thenReturn(Collections.emptyIterator());
+        when(jda.getGuildCache()).thenReturn(guildCache);
+
+        RestAction<List<ApplicationEmoji>> emojis = mock(RestAction.class, stubOnly());
+        when(emojis.complete()).thenReturn(List.of());
+        when(jda.retrieveApplicationEmojis()).thenReturn(emojis);
+
+        CommandListUpdateAction updateAction = mock(CommandListUpdateAction.class, stubOnly().defaultAnswer(RETURNS_SELF));
+        when(jda.updateCommands()).thenReturn(updateAction);
+
+        JDACommands jdaCommands = JDACommands.builder(jda)
+                .classFinders(ClassFinder.explicit(interaction))
+                .start();
+        return (JDACIntrospectionImpl) jdaCommands.introspection();
+    }
+}
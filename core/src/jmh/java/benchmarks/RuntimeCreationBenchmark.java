@@ -0,0 +1,61 @@
+package benchmarks;
+
+import io.github.kaktushose.jdac.annotations.interactions.Command;
+import io.github.kaktushose.jdac.annotations.interactions.Interaction;
+import io.github.kaktushose.jdac.dispatching.Runtime;
+import io.github.kaktushose.jdac.dispatching.events.interactions.CommandEvent;
+import io.github.kaktushose.jdac.dispatching.handling.EventHandlers;
+import io.github.kaktushose.jdac.property.internal.JDACIntrospectionImpl;
+import net.dv8tion.jda.api.JDA;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/// Compares the creation of a [Runtime] with shared [EventHandlers] against creating a new set of [EventHandlers] per
+/// [Runtime], which is what every runtime did before the handlers were shared.
+///
+/// Run with `./gradlew :core:jmh`, the allocations per runtime are reported as `gc.alloc.rate.norm`.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RuntimeCreationBenchmark {
+
+    private JDACIntrospectionImpl introspection;
+    private EventHandlers handlers;
+    private JDA jda;
+
+    @Setup
+    public void setup() {
+        introspection = MockedJDA.start(Commands.class);
+        handlers = EventHandlers.create(introspection);
+        jda = mock(JDA.class, MockedJDA.stubOnly());
+    }
+
+    @Benchmark
+    public Runtime shared() {
+        return create(handlers);
+    }
+
+    @Benchmark
+    public Runtime perRuntime() {
+        return create(EventHandlers.create(introspection));
+    }
+
+    private Runtime create(EventHandlers handlers) {
+        Runtime runtime = Runtime.startNew("runtime", introspection, handlers, jda, _ -> { });
+        runtime.close();
+        return runtime;
+    }
+
+    @Interaction
+    public static class Commands {
+
+        @Command("command")
+        public void onCommand(CommandEvent event) { }
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.kaktushose.jdac;
 
+import io.github.kaktushose.jdac.definitions.description.CachingDescriptor;
 import io.github.kaktushose.jdac.definitions.description.ClassFinder;
 import io.github.kaktushose.jdac.definitions.description.Descriptor;
 import io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition.ReplyConfig;
@@ -13,6 +14,9 @@ import io.github.kaktushose.jdac.dispatching.instance.Instantiator;
 import io.github.kaktushose.jdac.dispatching.middleware.Middleware;
 import io.github.kaktushose.jdac.dispatching.middleware.Priority;
 import io.github.kaktushose.jdac.dispatching.middleware.internal.Middlewares;
+import io.github.kaktushose.jdac.dispatching.reply.AcknowledgementStrategy;
+import io.github.kaktushose.jdac.dispatching.runtime.ExecutionMode;
+import io.github.kaktushose.jdac.dispatching.runtime.RuntimeIdGenerator;
 import io.github.kaktushose.jdac.dispatching.validation.Validator;
 import io.github.kaktushose.jdac.dispatching.validation.internal.Validators;
 import io.github.kaktushose.jdac.embeds.EmbedConfig;
@@ -43,6 +47,7 @@ import io.github.kaktushose.jdac.property.extension.Extension;
 import io.github.kaktushose.jdac.property.extension.ExtensionFilter;
 import io.github.kaktushose.jdac.property.internal.JDACIntrospectionImpl;
 import io.github.kaktushose.jdac.property.internal.extension.Extensions;
+import io.github.kaktushose.jdac.register.CommandSync;
 import io.github.kaktushose.jdac.scope.DefaultGuildScopeProvider;
 import io.github.kaktushose.jdac.scope.GuildScopeProvider;
 import io.github.kaktushose.proteus.Proteus;
@@ -121,10 +126,14 @@ public class JDACBuilder {
         properties.addFallback(EXTENSION_FILTER, _ -> new ExtensionFilter(ExtensionFilter.FilterStrategy.EXCLUDE, List.of()));
 
         properties.addFallback(EXPIRATION_STRATEGY, _ -> ExpirationStrategy.AFTER_15_MINUTES);
+        properties.addFallback(RUNTIME_ID_GENERATOR, _ -> RuntimeIdGenerator.compact());
+        properties.addFallback(EXECUTION_MODE, _ -> ExecutionMode.DEDICATED_THREAD);
+        properties.addFallback(ACKNOWLEDGEMENT_STRATEGY, _ -> AcknowledgementStrategy.DEFER);
         properties.addFallback(GLOBAL_COMMAND_CONFIG, _ -> new CommandConfig());
         properties.addFallback(GLOBAL_REPLY_CONFIG, _ -> new ReplyConfig());
         properties.addFallback(SHUTDOWN_JDA, _ -> true);
         properties.addFallback(LOCALIZE_COMMANDS, _ -> true);
+        properties.addFallback(COMMAND_SYNC, _ -> CommandSync.OVERWRITE);
         properties.addFallback(LOCALIZER, _ -> FluavaLocalizer.create(Locale.ENGLISH));
         properties.addFallback(PERMISSION_PROVIDER, _ -> new DefaultPermissionsProvider());
         properties.addFallback(ERROR_MESSAGE_FACTORY, ctx -> new DefaultErrorMessageFactory(ctx.get(MESSAGE_RESOLVER)));
@@ -211,6 +220,10 @@ public class JDACBuilder {
         return addBuilderProperty(EMOJI_SOURCES, _ -> List.of(sources));
     }
 
+    /// Defaults to [Descriptor#REFLECTIVE]. Use [Descriptor#METHOD_HANDLES] to invoke interaction methods through
+    /// method handles instead of reflection. Custom [Descriptor]s can be wrapped in a [CachingDescriptor], so that
+    /// each [Class] is only described once.
+    ///
     /// @param descriptor the [Descriptor] to be used
     public JDACBuilder descriptor(Descriptor descriptor) {
         return addBuilderProperty(DESCRIPTOR, _ -> descriptor);
@@ -238,6 +251,37 @@ public class JDACBuilder {
         return addBuilderProperty(EXPIRATION_STRATEGY, _ -> strategy);
     }
 
+    /// Sets the [RuntimeIdGenerator] used to create the ids of new [`Runtimes`]({@docRoot}/index.html#runtime-concept-heading).
+    ///
+    /// Defaults to [RuntimeIdGenerator#compact()]. Custom ids using the legacy UUID format are accepted regardless of
+    /// the configured generator.
+    ///
+    /// @param generator The [RuntimeIdGenerator] to be used
+    public JDACBuilder runtimeIdGenerator(RuntimeIdGenerator generator) {
+        return addBuilderProperty(RUNTIME_ID_GENERATOR, _ -> generator);
+    }
+
+    /// Sets the [ExecutionMode] that defines how the events of [`Runtimes`]({@docRoot}/index.html#runtime-concept-heading)
+    /// are executed.
+    ///
+    /// Defaults to [ExecutionMode#DEDICATED_THREAD]. Consider [ExecutionMode#mailbox()] if your bot keeps a lot of
+    /// runtimes open at the same time.
+    ///
+    /// @param mode The [ExecutionMode] to be used
+    public JDACBuilder executionMode(ExecutionMode mode) {
+        return addBuilderProperty(EXECUTION_MODE, _ -> mode);
+    }
+
+    /// Sets the [AcknowledgementStrategy] that defines how interactions are acknowledged when replying to them.
+    ///
+    /// Defaults to [AcknowledgementStrategy#DEFER]. Use [AcknowledgementStrategy#adaptive()] to reply directly to
+    /// interactions if the reply is ready in time.
+    ///
+    /// @param strategy The [AcknowledgementStrategy] to be used
+    public JDACBuilder acknowledgementStrategy(AcknowledgementStrategy strategy) {
+        return addBuilderProperty(ACKNOWLEDGEMENT_STRATEGY, _ -> strategy);
+    }
+
     /// @param priority   The [Priority] with what the [Middleware] should be registered
     /// @param middleware The to be registered [Middleware]
     public JDACBuilder middleware(Priority priority, Middleware middleware) {
@@ -309,6 +353,16 @@ public class JDACBuilder {
         return addBuilderProperty(LOCALIZE_COMMANDS, _ -> localize);
     }
 
+    /// Sets the [CommandSync] that defines how commands are synchronized with Discord.
+    ///
+    /// Defaults to [CommandSync#OVERWRITE]. Use [CommandSync#fingerprint()] to only send commands to Discord if they
+    /// changed since the last start.
+    ///
+    /// @param commandSync The [CommandSync] to be used
+    public JDACBuilder commandSync(CommandSync commandSync) {
+        return addBuilderProperty(COMMAND_SYNC, _ -> commandSync);
+    }
+
 
     /// Specifies a way to filter found implementations of [Extension] if you have clashing or cycling dependencies for example.
     ///
@@ -6,13 +6,16 @@ import io.github.kaktushose.jdac.annotations.interactions.Interaction;
 import io.github.kaktushose.jdac.annotations.interactions.StringMenu;
 import io.github.kaktushose.jdac.definitions.description.ClassFinder;
 import io.github.kaktushose.jdac.definitions.interactions.CustomId;
+import io.github.kaktushose.jdac.definitions.interactions.DefinitionId;
+import io.github.kaktushose.jdac.definitions.interactions.InteractionRegistry;
+import io.github.kaktushose.jdac.definitions.interactions.command.SlashCommandDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.component.ButtonDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.component.menu.SelectMenuDefinition;
 import io.github.kaktushose.jdac.dispatching.JDAEventListener;
+import io.github.kaktushose.jdac.dispatching.runtime.RuntimeMetrics;
 import io.github.kaktushose.jdac.embeds.Embed;
 import io.github.kaktushose.jdac.embeds.EmbedConfig;
 import io.github.kaktushose.jdac.embeds.EmbedDataSource;
-import io.github.kaktushose.jdac.embeds.internal.Embeds;
 import io.github.kaktushose.jdac.exceptions.internal.JDACException;
 import io.github.kaktushose.jdac.internal.JDAContext;
 import io.github.kaktushose.jdac.internal.logging.JDACLogger;
@@ -22,6 +25,7 @@ import io.github.kaktushose.jdac.property.JDACProperty;
 import io.github.kaktushose.jdac.property.JDACScope;
 import io.github.kaktushose.jdac.property.events.FrameworkShutdownEvent;
 import io.github.kaktushose.jdac.property.events.FrameworkStartEvent;
+import io.github.kaktushose.jdac.property.events.GuildCommandsUpdateEvent;
 import io.github.kaktushose.jdac.property.internal.JDACInternalProperties;
 import io.github.kaktushose.jdac.property.internal.JDACIntrospectionImpl;
 import io.github.kaktushose.jdac.property.internal.extension.Extensions;
@@ -33,6 +37,7 @@ import net.dv8tion.jda.api.sharding.ShardManager;
 import org.slf4j.Logger;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static io.github.kaktushose.jdac.property.JDACProperty.LOCALIZATION_FUNCTION;
 import static io.github.kaktushose.jdac.property.JDACProperty.LOCALIZE_COMMANDS;
@@ -57,7 +62,9 @@ public final class JDACommands {
                 introspection.get(JDACInternalProperties.JDA_CONTEXT),
                 introspection.get(JDACProperty.GUILD_SCOPE_PROVIDER),
                 introspection.get(JDACInternalProperties.INTERACTION_REGISTRY),
-                introspection.get(LOCALIZE_COMMANDS) ? introspection.get(LOCALIZATION_FUNCTION) : (_) -> Map.of()
+                introspection.get(LOCALIZE_COMMANDS) ? introspection.get(LOCALIZATION_FUNCTION) : (_) -> Map.of(),
+                introspection.get(JDACProperty.COMMAND_SYNC),
+                introspection::publish
         );
 
         this.jdaEventListener = new JDAEventListener(introspection);
@@ -107,9 +114,19 @@ public final class JDACommands {
         ScopedValue.where(JDACIntrospectionImpl.INTROSPECTION, introspection).run(() -> {
             ClassFinder classFinder = introspection.get(JDACProperty.MERGED_CLASS_FINDER);
 
-            introspection.get(JDACInternalProperties.INTERACTION_REGISTRY).index(classFinder.search(Interaction.class), introspection.get(JDACProperty.GLOBAL_COMMAND_CONFIG));
+            InteractionRegistry registry = introspection.get(JDACInternalProperties.INTERACTION_REGISTRY);
+            registry.index(classFinder.search(Interaction.class), introspection.get(JDACProperty.GLOBAL_COMMAND_CONFIG));
+            var commands = registry.find(SlashCommandDefinition.class);
+            introspection.get(JDACInternalProperties.MIDDLEWARES).index(registry.definitions().stream()
+                            .map(definition -> definition.classDescription().clazz())
+                            .collect(Collectors.toSet()),
+                    commands
+            );
+            introspection.get(JDACInternalProperties.BUNDLE_FINDER).index(registry.definitions());
+            jdaEventListener.index(commands);
             updater.updateAllCommands();
 
+            jdaEventListener.start();
             introspection.get(JDACInternalProperties.JDA_CONTEXT).performTask(it -> it.addEventListener(jdaEventListener), false);
 
             log.debug("Run Extension#onStart()");
@@ -132,19 +149,24 @@ public final class JDACommands {
         JDAContext jdaContext = introspection.get(JDACInternalProperties.JDA_CONTEXT);
 
         jdaContext.performTask(jda -> jda.removeEventListener(jdaEventListener), false);
+        jdaEventListener.shutdown();
 
         if (introspection.get(JDACProperty.SHUTDOWN_JDA)) {
             jdaContext.shutdown();
         }
     }
 
-    /// Updates all slash commands that are registered with [CommandScope#GUILD]
+    /// Updates all slash commands that are registered with [CommandScope#GUILD] for all guilds the bot is in.
+    ///
+    /// The commands are sent asynchronously, use [GuildCommandsUpdateEvent] to track the progress.
     public void updateGuildCommands() {
-        updateGuildCommands(List.of());
+        updater.updateGuildCommands(null);
     }
 
     /// Updates all slash commands that are registered with [CommandScope#GUILD] for the given [Guild]s.
     ///
+    /// The commands are sent asynchronously, use [GuildCommandsUpdateEvent] to track the progress.
+    ///
     /// @param guilds a [Collection] of guilds to update.
     public void updateGuildCommands(Collection<Guild> guilds) {
         updater.updateGuildCommands(Objects.requireNonNull(guilds));
@@ -159,8 +181,8 @@ public final class JDACommands {
     /// @param button the name of the button in the format `FullClassNameWithPackage.method``
     /// @return the JDA [Button]
     public Button getButton(Class<?> origin, String button) {
-        var id = String.valueOf((origin.getName() + button).hashCode());
-        var definition = introspection.get(JDACInternalProperties.INTERACTION_REGISTRY).find(ButtonDefinition.class, false, it -> it.definitionId().equals(id));
+        var id = DefinitionId.hash(origin.getName(), button);
+        var definition = introspection.get(JDACInternalProperties.INTERACTION_REGISTRY).findById(ButtonDefinition.class, false, id);
         return definition.toJDAEntity(CustomId.independent(definition.definitionId()));
     }
 
@@ -174,11 +196,19 @@ public final class JDACommands {
     /// @param menu   the name of the button in the format `FullClassNameWithPackage.method``
     /// @return the JDA [SelectMenu]
     public SelectMenu getSelectMenu(Class<?> origin, String menu) {
-        var id = String.valueOf((origin.getName() + menu).hashCode());
-        var definition = introspection.get(JDACInternalProperties.INTERACTION_REGISTRY).find(SelectMenuDefinition.class, false, it -> it.definitionId().equals(id));
+        var id = DefinitionId.hash(origin.getName(), menu);
+        var definition = introspection.get(JDACInternalProperties.INTERACTION_REGISTRY).findById(SelectMenuDefinition.class, false, id);
         return (SelectMenu) definition.toJDAEntity(CustomId.independent(definition.definitionId()));
     }
 
+    /// Gets a snapshot of the [RuntimeMetrics], containing the amount of live
+    /// [`Runtimes`]({@docRoot}/index.html#runtime-concept-heading) and the lag of their expiration.
+    ///
+    /// @return the current [RuntimeMetrics]
+    public RuntimeMetrics runtimeMetrics() {
+        return jdaEventListener.metrics();
+    }
+
     /// Gets an [Embed] based on the given name.
     ///
     /// Use [#findEmbed(String)] if you cannot ensure that the [Embed] exists.
@@ -197,12 +227,7 @@ public final class JDACommands {
     /// @param name the name of the [Embed]
     /// @return an [Optional] holding the [Embed] or an empty [Optional] if an [Embed] with the given name doesn't exist
     public Optional<Embed> findEmbed(String name) {
-        Embeds embeds = introspection.get(JDACInternalProperties.EMBEDS);
-
-        if (!embeds.exists(name)) {
-            return Optional.empty();
-        }
-        return Optional.of(embeds.get(name));
+        return introspection.get(JDACInternalProperties.EMBEDS).find(name);
     }
 
     /// Gets the [JDACIntrospection] instance with scope [JDACScope#INITIALIZED].
@@ -14,6 +14,10 @@ public record AnnotationDescription<T extends Annotation>(
         Collection<AnnotationDescription<?>> annotations
 ) implements Description {
 
+    public AnnotationDescription {
+        annotations = AnnotationIndex.of(annotations);
+    }
+
     /// @return the annotations type
     /// @see Annotation#annotationType()
     @SuppressWarnings("unchecked")
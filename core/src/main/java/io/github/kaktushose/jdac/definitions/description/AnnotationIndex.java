@@ -0,0 +1,44 @@
+package io.github.kaktushose.jdac.definitions.description;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+
+/// An unmodifiable [Collection] of [AnnotationDescription]s that additionally indexes them by their
+/// [type][AnnotationDescription#type()], allowing [Description#findAnnotation(Class)] to run in constant time.
+///
+/// If an annotation type is present more than once, the first occurrence is indexed.
+final class AnnotationIndex extends AbstractCollection<AnnotationDescription<?>> {
+
+    private final List<AnnotationDescription<?>> annotations;
+    private final Map<Class<? extends Annotation>, AnnotationDescription<?>> byType;
+
+    private AnnotationIndex(Collection<AnnotationDescription<?>> annotations) {
+        this.annotations = List.copyOf(annotations);
+        this.byType = HashMap.newHashMap(this.annotations.size());
+        for (AnnotationDescription<?> annotation : this.annotations) {
+            byType.putIfAbsent(annotation.type(), annotation);
+        }
+    }
+
+    static Collection<AnnotationDescription<?>> of(Collection<AnnotationDescription<?>> annotations) {
+        return annotations instanceof AnnotationIndex
+                ? annotations
+                : new AnnotationIndex(annotations);
+    }
+
+    @Nullable AnnotationDescription<?> find(Class<? extends Annotation> type) {
+        return byType.get(type);
+    }
+
+    @Override
+    public Iterator<AnnotationDescription<?>> iterator() {
+        return annotations.iterator();
+    }
+
+    @Override
+    public int size() {
+        return annotations.size();
+    }
+}
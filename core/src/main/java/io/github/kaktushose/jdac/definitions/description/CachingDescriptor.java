@@ -0,0 +1,35 @@
+package io.github.kaktushose.jdac.definitions.description;
+
+/// A [Descriptor] that memoizes the [ClassDescription]s built by another [Descriptor].
+///
+/// The [ClassDescription]s are stored per [Class] with help of [ClassValue], thus they don't prevent classes (and
+/// their class loaders) from being unloaded. Since all [Description]s are immutable, the same instance is returned
+/// for every call with the same [Class].
+public final class CachingDescriptor implements Descriptor {
+
+    private final Descriptor descriptor;
+    private final ClassValue<ClassDescription> cache = new ClassValue<>() {
+        @Override
+        protected ClassDescription computeValue(Class<?> type) {
+            return descriptor.describe(type);
+        }
+    };
+
+    /// Constructs a new [CachingDescriptor].
+    ///
+    /// @param descriptor the [Descriptor] to build the [ClassDescription]s with
+    public CachingDescriptor(Descriptor descriptor) {
+        this.descriptor = descriptor;
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// The [ClassDescription] is only built on the first call for each [Class].
+    ///
+    /// @param clazz {@inheritDoc}
+    /// @return {@inheritDoc}
+    @Override
+    public ClassDescription describe(Class<?> clazz) {
+        return cache.get(clazz);
+    }
+}
@@ -19,7 +19,7 @@ public record ClassDescription(
 ) implements Description {
 
     public ClassDescription {
-        annotations = Collections.unmodifiableCollection(annotations);
+        annotations = AnnotationIndex.of(annotations);
         methods = Collections.unmodifiableCollection(methods);
     }
 
@@ -26,6 +26,9 @@ public sealed interface Description permits AnnotationDescription, ClassDescript
     /// @return an [Optional] holding the [Annotation] if present at this element or else an empty [Optional]
     @SuppressWarnings("unchecked")
     default <T extends Annotation> Optional<T> findAnnotation(Class<T> type) {
+        if (annotations() instanceof AnnotationIndex index) {
+            return Optional.ofNullable(index.find(type)).map(ann -> (T) ann.value());
+        }
         return annotations().stream()
                 .filter(ann -> ann.type().equals(type))
                 .map(ann -> ((T) ann.value()))
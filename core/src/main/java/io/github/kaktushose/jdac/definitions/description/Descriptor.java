@@ -1,13 +1,20 @@
 package io.github.kaktushose.jdac.definitions.description;
 
+import io.github.kaktushose.jdac.definitions.description.reflective.MethodHandleDescriptor;
 import io.github.kaktushose.jdac.definitions.description.reflective.ReflectiveDescriptor;
 
 /// A [Descriptor] takes a [Class] as input and transforms it into a [ClassDescription].
 @FunctionalInterface
 public interface Descriptor {
 
-    /// the default [Descriptor], which builds [ClassDescription] using [java.lang.reflect]
-    Descriptor REFLECTIVE = new ReflectiveDescriptor();
+    /// the default [Descriptor], which builds [ClassDescription] using [java.lang.reflect]. The built
+    /// [ClassDescription]s are cached, see [CachingDescriptor].
+    Descriptor REFLECTIVE = new CachingDescriptor(new ReflectiveDescriptor());
+
+    /// A [Descriptor] like [#REFLECTIVE], but the [Invoker]s of the built [MethodDescription]s call the methods
+    /// through [java.lang.invoke.MethodHandle]s, see [MethodHandleDescriptor]. The built [ClassDescription]s are
+    /// cached, see [CachingDescriptor].
+    Descriptor METHOD_HANDLES = new CachingDescriptor(new MethodHandleDescriptor());
 
     /// Transforms the given [Class] into a [ClassDescription].
     ///
@@ -27,7 +27,7 @@ public record MethodDescription(
 
     public MethodDescription {
         parameters = Collections.unmodifiableSequencedCollection(parameters);
-        annotations = Collections.unmodifiableCollection(annotations);
+        annotations = AnnotationIndex.of(annotations);
     }
 
     /// Gets the parameter matching the given name if any.
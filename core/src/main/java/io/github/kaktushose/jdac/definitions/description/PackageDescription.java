@@ -9,4 +9,9 @@ import java.util.Collection;
 public record PackageDescription(
         String name,
         Collection<AnnotationDescription<?>> annotations
-) implements Description { }
+) implements Description {
+
+    public PackageDescription {
+        annotations = AnnotationIndex.of(annotations);
+    }
+}
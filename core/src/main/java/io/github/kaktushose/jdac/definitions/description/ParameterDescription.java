@@ -4,7 +4,6 @@ import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.ParameterizedType;
 import java.util.Collection;
-import java.util.Collections;
 
 /// A [Description] that describes a parameter.
 ///
@@ -21,7 +20,7 @@ public record ParameterDescription(
 ) implements Description {
 
     public ParameterDescription {
-        annotations = Collections.unmodifiableCollection(annotations);
+        annotations = AnnotationIndex.of(annotations);
     }
 
     @Override
@@ -0,0 +1,151 @@
+package io.github.kaktushose.jdac.definitions.description.reflective;
+
+import io.github.kaktushose.jdac.definitions.description.Descriptor;
+import io.github.kaktushose.jdac.definitions.description.Invoker;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Iterator;
+import java.util.SequencedCollection;
+
+/// A [ReflectiveDescriptor] that calls methods through [MethodHandle]s instead of [Method#invoke(Object, Object...)].
+///
+/// For each method a [MethodHandle] adapted to take and return [Object]s is created once. Methods with up to
+/// [#MAX_SPECIALIZED_ARITY] parameters get an [Invoker] specialized for their arity, passing the arguments directly
+/// to [MethodHandle#invokeExact(Object...)] without copying them into an array first. Methods with more parameters
+/// spread an array of the arguments instead.
+///
+/// Exceptions thrown by the invoked method are wrapped in an [InvocationTargetException], just like
+/// [Method#invoke(Object, Object...)] does. If no [MethodHandle] can be created for a method, e.g. because its
+/// class isn't accessible, the [Invoker] of [ReflectiveDescriptor] is used as a fallback.
+///
+/// @implNote Unlike [Method#invoke(Object, Object...)], arguments of the wrong type result in a [ClassCastException]
+/// wrapped in an [InvocationTargetException] instead of an [IllegalArgumentException]. The framework always passes
+/// the arguments matching the method signature, thus this only matters if an [Invoker] is called manually.
+///
+/// @see Descriptor#METHOD_HANDLES
+public class MethodHandleDescriptor extends ReflectiveDescriptor {
+
+    /// The maximum amount of parameters a method can have to get an arity specialized [Invoker].
+    public static final int MAX_SPECIALIZED_ARITY = 6;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /// {@inheritDoc}
+    ///
+    /// @param method {@inheritDoc}
+    /// @return an [Invoker] calling a [MethodHandle] of the given [Method]
+    @Override
+    protected Invoker invoker(Method method) {
+        MethodHandle handle;
+        try {
+            // unlike core reflection, method handle lookups require the module to read the module of the target class
+            MethodHandleDescriptor.class.getModule().addReads(method.getDeclaringClass().getModule());
+            handle = LOOKUP.unreflect(method);
+        } catch (IllegalAccessException _) {
+            return super.invoker(method);
+        }
+        int arity = method.getParameterCount();
+
+        // static methods ignore the passed instance
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+
+        if (arity > MAX_SPECIALIZED_ARITY) {
+            MethodHandle spreader = handle.asSpreader(Object[].class, arity)
+                    .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+            return (instance, arguments) -> {
+                Object[] array = arguments.toArray();
+                checkArity(array.length, arity);
+                try {
+                    return spreader.invokeExact(instance, array);
+                } catch (Throwable t) {
+                    throw new InvocationTargetException(t);
+                }
+            };
+        }
+
+        MethodHandle generic = handle.asType(MethodType.genericMethodType(arity + 1));
+        return switch (arity) {
+            case 0 -> (instance, arguments) -> {
+                checkArity(arguments.size(), 0);
+                try {
+                    return generic.invokeExact(instance);
+                } catch (Throwable t) {
+                    throw new InvocationTargetException(t);
+                }
+            };
+            case 1 -> (instance, arguments) -> {
+                Iterator<Object> it = iterator(arguments, 1);
+                Object a = it.next();
+                try {
+                    return generic.invokeExact(instance, a);
+                } catch (Throwable t) {
+                    throw new InvocationTargetException(t);
+                }
+            };
+            case 2 -> (instance, arguments) -> {
+                Iterator<Object> it = iterator(arguments, 2);
+                Object a = it.next(), b = it.next();
+                try {
+                    return generic.invokeExact(instance, a, b);
+                } catch (Throwable t) {
+                    throw new InvocationTargetException(t);
+                }
+            };
+            case 3 -> (instance, arguments) -> {
+                Iterator<Object> it = iterator(arguments, 3);
+                Object a = it.next(), b = it.next(), c = it.next();
+                try {
+                    return generic.invokeExact(instance, a, b, c);
+                } catch (Throwable t) {
+                    throw new InvocationTargetException(t);
+                }
+            };
+            case 4 -> (instance, arguments) -> {
+                Iterator<Object> it = iterator(arguments, 4);
+                Object a = it.next(), b = it.next(), c = it.next(), d = it.next();
+                try {
+                    return generic.invokeExact(instance, a, b, c, d);
+                } catch (Throwable t) {
+                    throw new InvocationTargetException(t);
+                }
+            };
+            case 5 -> (instance, arguments) -> {
+                Iterator<Object> it = iterator(arguments, 5);
+                Object a = it.next(), b = it.next(), c = it.next(), d = it.next(), e = it.next();
+                try {
+                    return generic.invokeExact(instance, a, b, c, d, e);
+                } catch (Throwable t) {
+                    throw new InvocationTargetException(t);
+                }
+            };
+            default -> (instance, arguments) -> {
+                Iterator<Object> it = iterator(arguments, 6);
+                Object a = it.next(), b = it.next(), c = it.next(), d = it.next(), e = it.next(), f = it.next();
+                try {
+                    return generic.invokeExact(instance, a, b, c, d, e, f);
+                } catch (Throwable t) {
+                    throw new InvocationTargetException(t);
+                }
+            };
+        };
+    }
+
+    private static Iterator<Object> iterator(SequencedCollection<Object> arguments, int arity) {
+        checkArity(arguments.size(), arity);
+        return arguments.iterator();
+    }
+
+    // same message as Method#invoke
+    private static void checkArity(int actual, int expected) {
+        if (actual != expected) {
+            throw new IllegalArgumentException("wrong number of arguments: %d expected: %d".formatted(actual, expected));
+        }
+    }
+}
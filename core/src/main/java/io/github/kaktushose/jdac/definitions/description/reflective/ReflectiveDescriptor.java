@@ -50,10 +50,18 @@ public class ReflectiveDescriptor implements Descriptor {
                 method.getModifiers(),
                 parameters,
                 annotationList(method.getAnnotations()),
-                (instance, arguments) -> method.invoke(instance, arguments.toArray())
+                invoker(method)
         );
     }
 
+    /// Creates the [Invoker] used to call the given [Method].
+    ///
+    /// @param method the [Method] to create the [Invoker] for
+    /// @return an [Invoker] calling [Method#invoke(Object, Object...)]
+    protected Invoker invoker(Method method) {
+        return (instance, arguments) -> method.invoke(instance, arguments.toArray());
+    }
+
     private ParameterDescription parameter(Parameter parameter) {
         @Nullable Class<?>[] arguments = { };
         if (parameter.getParameterizedType() instanceof ParameterizedType type) {
@@ -15,11 +15,13 @@ import java.util.stream.Collectors;
 /// @param classDescription  the [ClassDescription] of the declaring class of the [#methodDescription()]
 /// @param methodDescription the [MethodDescription] of the method this definition is bound to
 /// @param rules             the rules this autocomplete handler can handle
+/// @param id                the [DefinitionId] of this auto complete handler
 @UnstableApi
 public record AutoCompleteDefinition(
         ClassDescription classDescription,
         MethodDescription methodDescription,
-        Set<AutoCompleteRule> rules
+        Set<AutoCompleteRule> rules,
+        DefinitionId id
 )
         implements InteractionDefinition {
 
@@ -36,7 +38,8 @@ public record AutoCompleteDefinition(
                         .map(command -> new AutoCompleteRule(command, Arrays.stream(autoComplete.options())
                                 .filter(it -> !it.isBlank())
                                 .collect(Collectors.toSet()))
-                        ).collect(Collectors.toSet())
+                        ).collect(Collectors.toSet()),
+                        DefinitionId.of(clazz, method)
                 )).orElseThrow();
     }
 
@@ -50,6 +53,11 @@ public record AutoCompleteDefinition(
         return Collections.emptyList();
     }
 
+    @Override
+    public PermissionMask permissionMask() {
+        return PermissionMask.EMPTY;
+    }
+
     /// Representation of an auto complete rule.
     ///
     /// @param command the name of the slash command or the name of the method handling the command
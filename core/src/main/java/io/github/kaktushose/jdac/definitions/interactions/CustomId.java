@@ -2,21 +2,27 @@ package io.github.kaktushose.jdac.definitions.interactions;
 
 import io.github.kaktushose.jdac.definitions.Definition;
 import io.github.kaktushose.jdac.exceptions.internal.JDACException;
+import org.jspecify.annotations.Nullable;
 
 /// Representation of a custom id used in modals, buttons or select menus.
 ///
 /// @param runtimeId    the id of the [`Runtime`]({@docRoot}/index.html#runtime-concept-heading) this custom id is bound to
 ///                     or the literal `independent`.
 /// @param definitionId the [Definition#definitionId()]
-/// @implNote the custom id has the following format: `jdac.runtimeId.definitionId`
+/// @implNote the custom id has the following format: `jdac.runtimeId.definitionId`. The runtime id consists of up to
+/// [#MAX_RUNTIME_ID_LENGTH] url safe base64 characters, which includes the legacy UUID format.
 public record CustomId(String runtimeId, String definitionId) {
-    public static final String BOUND_CUSTOM_ID_REGEX = "^jdac\\.[0-9a-fA-F-]{36}\\.-?\\d+$";
+    /// The maximum length of a runtime id, which is the length of the legacy UUID format.
+    public static final int MAX_RUNTIME_ID_LENGTH = 36;
+    public static final String BOUND_CUSTOM_ID_REGEX = "^jdac\\.[0-9a-zA-Z_-]{1,%d}\\.-?\\d+$".formatted(MAX_RUNTIME_ID_LENGTH);
     private static final String PREFIX = "jdac";
-    private static final String INDEPENDENT_ID = "independent";
+    /// The literal used instead of a runtime id by runtime-independent custom ids.
+    public static final String INDEPENDENT_ID = "independent";
     public static final String INDEPENDENT_CUSTOM_ID_REGEX = "^jdac\\.%s\\.-?\\d+$".formatted(INDEPENDENT_ID);
+    private static final int RUNTIME_ID_START = PREFIX.length() + 1;
 
     public CustomId {
-        if (!runtimeId.matches("[0-9a-fA-F-]{36}") && !runtimeId.equals(INDEPENDENT_ID)) {
+        if (!runtimeId.equals(INDEPENDENT_ID) && !isRuntimeId(runtimeId, 0, runtimeId.length())) {
             throw new IllegalArgumentException(JDACException.errorMessage("invalid-runtime-id"));
         }
     }
@@ -25,12 +31,32 @@ public record CustomId(String runtimeId, String definitionId) {
     ///
     /// @param customId the custom id String
     /// @return the [CustomId]
+    /// @throws IllegalArgumentException if the passed custom id doesn't conform to the jda-commands format
     public static CustomId fromMerged(String customId) {
-        if (isInvalid(customId)) {
+        CustomId parsed = parse(customId);
+        if (parsed == null) {
             throw new IllegalArgumentException(JDACException.errorMessage("invalid-custom-id"));
         }
-        var split = customId.split("\\.");
-        return new CustomId(split[1], split[2]);
+        return parsed;
+    }
+
+    /// Parses the given String in a single pass, returning `null` if the String isn't a custom id of jda-commands.
+    ///
+    /// Use this instead of calling [#isInvalid(String)] followed by [#fromMerged(String)] if the custom id might be
+    /// foreign, e.g. because it was created by another bot framework.
+    ///
+    /// @param customId the custom id String
+    /// @return the [CustomId] or `null` if the passed custom id doesn't conform to the jda-commands format
+    @Nullable public static CustomId parse(String customId) {
+        int definitionStart = definitionIdStart(customId);
+        if (definitionStart < 0) {
+            return null;
+        }
+        int runtimeEnd = definitionStart - 1;
+        String runtimeId = runtimeEnd - RUNTIME_ID_START == INDEPENDENT_ID.length() && customId.startsWith(INDEPENDENT_ID, RUNTIME_ID_START)
+                ? INDEPENDENT_ID
+                : customId.substring(RUNTIME_ID_START, runtimeEnd);
+        return new CustomId(runtimeId, customId.substring(definitionStart));
     }
 
     /// Constructs a new runtime-independent [CustomId] from the given definition id.
@@ -45,12 +71,56 @@ public record CustomId(String runtimeId, String definitionId) {
     ///
     /// @return `true` if the passed custom id *doesn't* conform to the jda-commands format
     public static boolean isInvalid(String customId) {
-        return !(customId.matches(BOUND_CUSTOM_ID_REGEX) || customId.matches(INDEPENDENT_CUSTOM_ID_REGEX));
+        return definitionIdStart(customId) < 0;
+    }
+
+    /// Validates the given custom id in a single pass without allocating.
+    ///
+    /// @return the index at which the definition id starts or `-1` if the custom id is invalid
+    private static int definitionIdStart(String customId) {
+        int length = customId.length();
+        if (!customId.startsWith(PREFIX) || length <= RUNTIME_ID_START || customId.charAt(PREFIX.length()) != '.') {
+            return -1;
+        }
+
+        int runtimeEnd = customId.indexOf('.', RUNTIME_ID_START);
+        if (runtimeEnd < 0 || !isRuntimeId(customId, RUNTIME_ID_START, runtimeEnd)) {
+            return -1;
+        }
+
+        int definitionStart = runtimeEnd + 1;
+        int index = definitionStart;
+        if (index < length && customId.charAt(index) == '-') {
+            index++;
+        }
+        if (index == length) {
+            return -1;
+        }
+        for (; index < length; index++) {
+            char c = customId.charAt(index);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+        }
+        return definitionStart;
+    }
+
+    private static boolean isRuntimeId(String value, int start, int end) {
+        if (end <= start || end - start > MAX_RUNTIME_ID_LENGTH) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-' || c == '_')) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /// The String representation of this custom id.
     public String merged() {
-        return "%s.%s.%s".formatted(PREFIX, runtimeId, definitionId);
+        return PREFIX + '.' + runtimeId + '.' + definitionId;
     }
 
     /// Gets the runtime id of this custom id.
@@ -0,0 +1,44 @@
+package io.github.kaktushose.jdac.definitions.interactions;
+
+import io.github.kaktushose.jdac.annotations.UnstableApi;
+import io.github.kaktushose.jdac.definitions.description.ClassDescription;
+import io.github.kaktushose.jdac.definitions.description.MethodDescription;
+
+/// The id of an [InteractionDefinition], computed once when the definition is built.
+///
+/// The id is the hash code of the full class name and method name combined. It is available both as a primitive
+/// `int` for cheap comparisons and in its string form, which is used as part of a [CustomId].
+///
+/// @param hash  the hash code of the full class name and method name combined
+/// @param value the string representation of [#hash()]
+@UnstableApi
+public record DefinitionId(int hash, String value) {
+
+    /// Creates a new [DefinitionId] from the classname and method name.
+    ///
+    /// @param className  the classname ([Class#getName()] or [ClassDescription#name()])
+    /// @param methodName the method name ([java.lang.reflect.Method#getName()] or [MethodDescription#name()])
+    /// @return the [DefinitionId]
+    public static DefinitionId of(String className, String methodName) {
+        int hash = hash(className, methodName);
+        return new DefinitionId(hash, String.valueOf(hash));
+    }
+
+    /// Creates a new [DefinitionId] from the given [ClassDescription] and [MethodDescription].
+    ///
+    /// @param clazz  the [ClassDescription] of the interaction controller
+    /// @param method the [MethodDescription] of the interaction method
+    /// @return the [DefinitionId]
+    public static DefinitionId of(ClassDescription clazz, MethodDescription method) {
+        return of(clazz.name(), method.name());
+    }
+
+    /// Computes the `int` form of a definition id without allocating the string form.
+    ///
+    /// @param className  the classname ([Class#getName()] or [ClassDescription#name()])
+    /// @param methodName the method name ([java.lang.reflect.Method#getName()] or [MethodDescription#name()])
+    /// @return the hash of the definition id
+    public static int hash(String className, String methodName) {
+        return (className + methodName).hashCode();
+    }
+}
@@ -39,14 +39,22 @@ public sealed interface InteractionDefinition extends Definition, Invokable
     /// @param methodName the method name ([Method#getName()] or [MethodDescription#name()])
     /// @return the definition id
     static String createDefinitionId(String className, String methodName) {
-        return String.valueOf((className + methodName).hashCode());
+        return DefinitionId.of(className, methodName).value();
     }
 
+    /// The [DefinitionId] of this definition, computed once when the definition was built.
+    DefinitionId id();
+
     /// The id for this definition. For interaction definition this is the hash code of the full class name and method
     /// name combined.
     @Override
     default String definitionId() {
-        return createDefinitionId(classDescription().name(), methodDescription().name());
+        return id().value();
+    }
+
+    /// The `int` form of [#definitionId()]. Use this for comparisons on hot paths.
+    default int definitionHash() {
+        return id().hash();
     }
 
     /// A possibly-empty [Collection] of permissions for this interaction.
@@ -54,6 +62,12 @@ public sealed interface InteractionDefinition extends Definition, Invokable
     /// @apiNote The [PermissionsMiddleware] will validate the provided permissions.
     Collection<String> permissions();
 
+    /// The [PermissionMask] of [#permissions()], computed once when the definition was built.
+    ///
+    /// @apiNote Use this instead of parsing [#permissions()] on every interaction, e.g. in a custom
+    /// [io.github.kaktushose.jdac.permissions.PermissionsProvider].
+    PermissionMask permissionMask();
+
     /// Stores the configuration values for sending replies. This acts as a representation of
     /// [`ReplyConfig`][io.github.kaktushose.jdac.annotations.interactions.ReplyConfig].
     ///
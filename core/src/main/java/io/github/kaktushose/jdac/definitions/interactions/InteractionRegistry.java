@@ -8,6 +8,7 @@ import io.github.kaktushose.jdac.definitions.description.Descriptor;
 import io.github.kaktushose.jdac.definitions.description.MethodDescription;
 import io.github.kaktushose.jdac.definitions.interactions.command.CommandDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.command.ContextCommandDefinition;
+import io.github.kaktushose.jdac.definitions.interactions.command.OptionDataDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.command.SlashCommandDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.component.ButtonDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.component.menu.EntitySelectMenuDefinition;
@@ -18,22 +19,30 @@ import io.github.kaktushose.jdac.exceptions.InvalidDeclarationException;
 import io.github.kaktushose.jdac.internal.logging.JDACLogger;
 import io.github.kaktushose.jdac.message.resolver.MessageResolver;
 import io.github.kaktushose.jdac.property.Definitions;
+import net.dv8tion.jda.api.interactions.commands.Command.Type;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.util.*;
 import java.util.function.Predicate;
 
+import static io.github.kaktushose.jdac.message.placeholder.Entry.entry;
+
 /// Central registry for all [InteractionDefinition]s.
+///
+/// Besides the plain set of definitions, this registry holds immutable indices (by type, by definition id, by command
+/// name and by command option for auto completes) that are rebuilt after every call to [#index(Iterable, CommandDefinition.CommandConfig)].
+/// These indices are used to resolve incoming interactions in constant time. The predicate based [#find(Class, boolean, Predicate)]
+/// is kept as the slow path for arbitrary queries.
 @UnstableApi
-public record InteractionRegistry(
-        Validators validators,
-        MessageResolver messageResolver,
-        Descriptor descriptor,
-        Set<InteractionDefinition> definitions
-) implements Definitions {
+public final class InteractionRegistry implements Definitions {
 
     private static final Logger log = JDACLogger.getLogger(InteractionRegistry.class);
+    private final Validators validators;
+    private final MessageResolver messageResolver;
+    private final Descriptor descriptor;
+    private final Set<InteractionDefinition> definitions;
+    private volatile Index index;
 
     /// Constructs a new [InteractionRegistry]
     ///
@@ -44,6 +53,40 @@ public record InteractionRegistry(
         this(registry, messageResolver, descriptor, new HashSet<>());
     }
 
+    /// Constructs a new [InteractionRegistry]
+    ///
+    /// @param validators      the corresponding [Validators]
+    /// @param messageResolver the [MessageResolver] instance to use
+    /// @param descriptor      the [Descriptor] to use
+    /// @param definitions     the initial [Set] of [InteractionDefinition]s
+    public InteractionRegistry(Validators validators, MessageResolver messageResolver, Descriptor descriptor, Set<InteractionDefinition> definitions) {
+        this.validators = validators;
+        this.messageResolver = messageResolver;
+        this.descriptor = descriptor;
+        this.definitions = definitions;
+        this.index = definitions.isEmpty() ? Index.EMPTY : Index.of(definitions);
+    }
+
+    /// @return the [Validators] used to build the definitions
+    public Validators validators() {
+        return validators;
+    }
+
+    /// @return the [MessageResolver] used to build the definitions
+    public MessageResolver messageResolver() {
+        return messageResolver;
+    }
+
+    /// @return the [Descriptor] used to describe the interaction controllers
+    public Descriptor descriptor() {
+        return descriptor;
+    }
+
+    /// @return an unmodifiable view of all indexed [InteractionDefinition]s
+    public Set<InteractionDefinition> definitions() {
+        return Collections.unmodifiableSet(definitions);
+    }
+
     /// Scans all given classes and registers the interactions defined in them.
     ///
     /// @param classes the [Class]es to build the interactions from
@@ -72,6 +115,8 @@ public record InteractionRegistry(
                         command.name().startsWith(rule.command()) || command.methodDescription().name().equals(rule.command()))
                 ).forEach(s -> log.warn("No slash commands found matching {}", s));
 
+        index = Index.of(definitions);
+
         log.debug("Successfully registered {} interaction controller(s) with a total of {} interaction(s)!",
                 count,
                 definitions.size() - oldSize);
@@ -190,10 +235,89 @@ public record InteractionRegistry(
                 .map(type::cast)
                 .filter(predicate)
                 .findFirst()
-                .orElseThrow(() -> internalError
-                        ? new InternalException("no-interaction-found")
-                        : new IllegalArgumentException("No interaction found! Please check that the referenced interaction method exists.")
-                );
+                .orElseThrow(() -> notFound(internalError));
+    }
+
+    /// Finds a [Definition] of type [T] by its [definition id][Definition#definitionId()] using the prebuilt index.
+    ///
+    /// @param type          the type of the [Definition] to find
+    /// @param internalError `true` if the [Definition] must be found and not finding it
+    ///                       indicates a framework bug
+    /// @param definitionId  the [definition id][Definition#definitionId()] of the [Definition]
+    /// @param <T>           a subtype of [Definition]
+    /// @return [T]          the definition
+    /// @throws IllegalStateException    if no [Definition] was found, although this mandatory should have been the case.
+    ///                                  This is a rare occasion and can be considered a framework bug
+    /// @throws IllegalArgumentException if no [Definition] of the given type with the given id exists
+    public <T extends Definition> T findById(Class<T> type, boolean internalError, String definitionId) {
+        int definitionHash;
+        try {
+            definitionHash = Integer.parseInt(definitionId);
+        } catch (NumberFormatException _) {
+            throw notFound(internalError);
+        }
+        InteractionDefinition definition = index.byHash().get(definitionHash);
+        // the string form is canonical, ids like "+1" or "01" don't belong to any definition
+        if (type.isInstance(definition) && definition.definitionId().equals(definitionId)) {
+            return type.cast(definition);
+        }
+        throw notFound(internalError);
+    }
+
+    /// Finds a [Definition] of type [T] by the `int` form of its [definition id][InteractionDefinition#definitionHash()]
+    /// using the prebuilt index.
+    ///
+    /// @param type           the type of the [Definition] to find
+    /// @param internalError  `true` if the [Definition] must be found and not finding it
+    ///                        indicates a framework bug
+    /// @param definitionHash the [InteractionDefinition#definitionHash()] of the [Definition]
+    /// @param <T>            a subtype of [Definition]
+    /// @return [T]           the definition
+    /// @throws IllegalStateException    if no [Definition] was found, although this mandatory should have been the case.
+    ///                                  This is a rare occasion and can be considered a framework bug
+    /// @throws IllegalArgumentException if no [Definition] of the given type with the given id exists
+    public <T extends Definition> T findById(Class<T> type, boolean internalError, int definitionHash) {
+        InteractionDefinition definition = index.byHash().get(definitionHash);
+        if (type.isInstance(definition)) {
+            return type.cast(definition);
+        }
+        throw notFound(internalError);
+    }
+
+    /// Finds a [CommandDefinition] of type [T] by its [Type] and its full name (including subcommand
+    /// groups and subcommands) using the prebuilt index.
+    ///
+    /// @param type          the type of the [CommandDefinition] to find
+    /// @param internalError `true` if the [CommandDefinition] must be found and not finding it
+    ///                       indicates a framework bug
+    /// @param commandType   the [Type] of the command
+    /// @param name          the full name of the command
+    /// @param <T>           a subtype of [CommandDefinition]
+    /// @return [T]          the definition
+    /// @throws IllegalStateException    if no [CommandDefinition] was found, although this mandatory should have been the case.
+    ///                                  This is a rare occasion and can be considered a framework bug
+    /// @throws IllegalArgumentException if no [CommandDefinition] with the given name exists
+    public <T extends CommandDefinition> T findCommand(Class<T> type, boolean internalError, Type commandType, String name) {
+        CommandDefinition definition = index.commands().get(new CommandKey(commandType, name));
+        if (type.isInstance(definition)) {
+            return type.cast(definition);
+        }
+        throw notFound(internalError);
+    }
+
+    /// Finds the [AutoCompleteDefinition] bound to the given option of the given slash command using the prebuilt index.
+    ///
+    /// @param command the full name of the slash command
+    /// @param option  the name of the option
+    /// @return an [Optional] holding the [AutoCompleteDefinition] or an empty [Optional] if the option has no auto complete
+    public Optional<AutoCompleteDefinition> findAutoComplete(String command, String option) {
+        return Optional.ofNullable(index.autoCompletes().get(new OptionKey(command, option)));
+    }
+
+    private static RuntimeException notFound(boolean internalError) {
+        return internalError
+                ? new InternalException("no-interaction-found")
+                : new IllegalArgumentException("No interaction found! Please check that the referenced interaction method exists.");
     }
 
     @Override
@@ -219,8 +343,95 @@ public record InteractionRegistry(
                 .toList();
     }
 
+    @Override
+    public <T extends Definition> SequencedCollection<T> find(Class<T> type) {
+        return index.ofType(type);
+    }
+
     @Override
     public Collection<InteractionDefinition> all() {
         return Collections.unmodifiableSet(definitions);
     }
+
+    private record CommandKey(Type type, String name) {}
+
+    private record OptionKey(String command, String option) {}
+
+    /// Immutable lookup structures built from a snapshot of the registered definitions.
+    private record Index(
+            Map<Class<?>, List<Definition>> byType,
+            Map<Integer, InteractionDefinition> byHash,
+            Map<CommandKey, CommandDefinition> commands,
+            Map<OptionKey, AutoCompleteDefinition> autoCompletes
+    ) {
+
+        private static final Index EMPTY = new Index(Map.of(), Map.of(), Map.of(), Map.of());
+
+        private static boolean sameMethod(InteractionDefinition first, InteractionDefinition second) {
+            return first.classDescription().name().equals(second.classDescription().name())
+                    && first.methodDescription().name().equals(second.methodDescription().name());
+        }
+
+        private static Index of(Collection<InteractionDefinition> definitions) {
+            Map<Class<?>, List<Definition>> byType = new HashMap<>();
+            Map<Integer, InteractionDefinition> byHash = new HashMap<>();
+            Map<CommandKey, CommandDefinition> commands = new HashMap<>();
+            Map<OptionKey, AutoCompleteDefinition> autoCompletes = new HashMap<>();
+
+            for (InteractionDefinition definition : definitions) {
+                for (Class<?> type : definitionTypes(definition.getClass())) {
+                    byType.computeIfAbsent(type, _ -> new ArrayList<>()).add(definition);
+                }
+                InteractionDefinition previous = byHash.putIfAbsent(definition.definitionHash(), definition);
+                // copies created by with(...) share the id of their method, only different methods are a collision
+                if (previous != null && !sameMethod(previous, definition)) {
+                    throw new InvalidDeclarationException(
+                            "definition-id-collision",
+                            entry("id", definition.definitionId()),
+                            entry("first", "%s#%s".formatted(previous.classDescription().name(), previous.methodDescription().name())),
+                            entry("second", "%s#%s".formatted(definition.classDescription().name(), definition.methodDescription().name()))
+                    );
+                }
+
+                switch (definition) {
+                    case SlashCommandDefinition command -> {
+                        commands.putIfAbsent(new CommandKey(Type.SLASH, command.name()), command);
+                        for (OptionDataDefinition option : command.commandOptions()) {
+                            if (option.autoComplete() != null) {
+                                autoCompletes.putIfAbsent(new OptionKey(command.name(), option.name()), option.autoComplete());
+                            }
+                        }
+                    }
+                    case ContextCommandDefinition command ->
+                            commands.putIfAbsent(new CommandKey(command.commandType(), command.name()), command);
+                    default -> {}
+                }
+            }
+
+            Map<Class<?>, List<Definition>> immutableByType = new HashMap<>();
+            byType.forEach((type, list) -> immutableByType.put(type, List.copyOf(list)));
+            return new Index(Map.copyOf(immutableByType), Map.copyOf(byHash), Map.copyOf(commands), Map.copyOf(autoCompletes));
+        }
+
+        private static Set<Class<?>> definitionTypes(Class<?> type) {
+            Set<Class<?>> result = new HashSet<>();
+            Deque<Class<?>> queue = new ArrayDeque<>(List.of(type));
+            while (!queue.isEmpty()) {
+                Class<?> current = queue.poll();
+                if (!Definition.class.isAssignableFrom(current) || !result.add(current)) {
+                    continue;
+                }
+                queue.addAll(List.of(current.getInterfaces()));
+                if (current.getSuperclass() != null) {
+                    queue.add(current.getSuperclass());
+                }
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T extends Definition> SequencedCollection<T> ofType(Class<T> type) {
+            return (SequencedCollection<T>) byType.getOrDefault(type, List.of());
+        }
+    }
 }
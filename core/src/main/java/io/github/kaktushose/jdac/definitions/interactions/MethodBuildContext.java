@@ -22,4 +22,10 @@ public record MethodBuildContext(
         MethodDescription method,
         Collection<AutoCompleteDefinition> autoCompleteDefinitions,
         CommandConfig globalCommandConfig
-) { }
+) {
+
+    /// @return the [DefinitionId] of the [InteractionDefinition] that gets built from this context
+    public DefinitionId definitionId() {
+        return DefinitionId.of(clazz, method);
+    }
+}
@@ -22,13 +22,17 @@ import java.util.Optional;
 /// @param permissions       a [Collection] of permissions for this modal
 /// @param title             the title of the modal
 /// @param components        a [Collection] of [ModalTopLevelComponent]s that will be added to this modal
+/// @param id                the [DefinitionId] of this modal
+/// @param permissionMask    the [PermissionMask] of the [#permissions()]
 @UnstableApi
 public record ModalDefinition(
         ClassDescription classDescription,
         MethodDescription methodDescription,
         Collection<String> permissions,
         String title,
-        Collection<ModalTopLevelComponent> components
+        Collection<ModalTopLevelComponent> components,
+        DefinitionId id,
+        PermissionMask permissionMask
 ) implements InteractionDefinition, CustomIdJDAEntity<Modal> {
 
     /// Builds a new [ModalDefinition] from the given [MethodBuildContext].
@@ -40,7 +44,7 @@ public record ModalDefinition(
 
         Helpers.checkSignature(method, List.of(ModalEvent.class));
 
-        return new ModalDefinition(context.clazz(), method, Helpers.permissions(context), modal.value(), List.of());
+        return new ModalDefinition(context.clazz(), method, Helpers.permissions(context), modal.value(), List.of(), context.definitionId(), Helpers.permissionMask(context));
     }
 
     /// Builds a new [ModalDefinition] with the given values.
@@ -50,7 +54,9 @@ public record ModalDefinition(
                 methodDescription,
                 permissions,
                 ComponentDefinition.override(this.title, title),
-                ComponentDefinition.override(this.components, components)
+                ComponentDefinition.override(this.components, components),
+                id,
+                permissionMask
         );
     }
 
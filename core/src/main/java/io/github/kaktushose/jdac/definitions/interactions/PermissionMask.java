@@ -0,0 +1,68 @@
+package io.github.kaktushose.jdac.definitions.interactions;
+
+import io.github.kaktushose.jdac.annotations.UnstableApi;
+import io.github.kaktushose.jdac.permissions.PermissionsProvider;
+import net.dv8tion.jda.api.Permission;
+
+import java.util.*;
+
+/// The permissions of an [InteractionDefinition] split into Discord [Permission]s and custom permissions, computed once
+/// when the definition is built.
+///
+/// The Discord [Permission]s are matched case-insensitive against [Permission#name()] and stored as their raw bitmask,
+/// thus they can be checked with a single call, e.g. [Permission#getPermissions(long)] or
+/// [Permission#getRaw(Collection)]. All other permissions are kept as is for custom [PermissionsProvider]s.
+///
+/// @param discord the raw bitmask of all Discord [Permission]s
+/// @param custom  all permissions that aren't a Discord [Permission]
+@UnstableApi
+public record PermissionMask(long discord, Set<String> custom) {
+
+    /// A [PermissionMask] without any permissions.
+    public static final PermissionMask EMPTY = new PermissionMask(0L, Set.of());
+
+    private static final Map<String, Permission> PERMISSIONS = new HashMap<>();
+
+    static {
+        for (Permission permission : Permission.values()) {
+            if (permission != Permission.UNKNOWN) {
+                PERMISSIONS.put(permission.name(), permission);
+            }
+        }
+    }
+
+    /// Creates a new [PermissionMask] from the given permissions.
+    ///
+    /// @param permissions the permissions of the [InteractionDefinition]
+    /// @return the [PermissionMask]
+    public static PermissionMask of(Collection<String> permissions) {
+        if (permissions.isEmpty()) {
+            return EMPTY;
+        }
+        long discord = 0L;
+        Set<String> custom = new HashSet<>();
+        for (String name : permissions) {
+            Permission permission = PERMISSIONS.get(name.toUpperCase(Locale.ROOT));
+            if (permission == null) {
+                custom.add(name);
+            } else {
+                discord |= permission.getRawValue();
+            }
+        }
+        return new PermissionMask(discord, Collections.unmodifiableSet(custom));
+    }
+
+    /// The Discord [Permission]s of [#discord()].
+    ///
+    /// @return a new [EnumSet] of all Discord [Permission]s
+    public EnumSet<Permission> discordPermissions() {
+        return Permission.getPermissions(discord);
+    }
+
+    /// Whether this mask contains any Discord [Permission].
+    ///
+    /// @return `true` if [#discord()] isn't `0`
+    public boolean hasDiscordPermissions() {
+        return discord != 0L;
+    }
+}
@@ -3,7 +3,9 @@ package io.github.kaktushose.jdac.definitions.interactions.command;
 import io.github.kaktushose.jdac.annotations.UnstableApi;
 import io.github.kaktushose.jdac.definitions.description.ClassDescription;
 import io.github.kaktushose.jdac.definitions.description.MethodDescription;
+import io.github.kaktushose.jdac.definitions.interactions.DefinitionId;
 import io.github.kaktushose.jdac.definitions.interactions.MethodBuildContext;
+import io.github.kaktushose.jdac.definitions.interactions.PermissionMask;
 import io.github.kaktushose.jdac.dispatching.events.interactions.CommandEvent;
 import io.github.kaktushose.jdac.exceptions.InvalidDeclarationException;
 import io.github.kaktushose.jdac.internal.Helpers;
@@ -28,6 +30,8 @@ import java.util.Optional;
 /// @param name              the name of the command
 /// @param commandType       the [Command.Type] of this command
 /// @param commandConfig     the [CommandConfig] to use
+/// @param id                the [DefinitionId] of this command
+/// @param permissionMask    the [PermissionMask] of the [#permissions()]
 @UnstableApi
 public record ContextCommandDefinition(
         ClassDescription classDescription,
@@ -35,7 +39,9 @@ public record ContextCommandDefinition(
         Collection<String> permissions,
         String name,
         Command.Type commandType,
-        CommandConfig commandConfig
+        CommandConfig commandConfig,
+        DefinitionId id,
+        PermissionMask permissionMask
 ) implements CommandDefinition {
 
     /// Builds a new [ContextCommandDefinition] from the given [MethodBuildContext].
@@ -63,7 +69,9 @@ public record ContextCommandDefinition(
                 Helpers.permissions(context),
                 command.value(),
                 command.type(),
-                commandConfig
+                commandConfig,
+                context.definitionId(),
+                Helpers.permissionMask(context)
         );
     }
 
@@ -229,7 +229,7 @@ public record OptionDataDefinition(
                         case Validators.Result.Success(Validator<?, ?> validator) ->
                                 result.add(new ConstraintDefinition(validator, it));
                         case Validators.Result.DiscordHandled _ ->
-                                result.add(new ConstraintDefinition((_, _, _) -> {}, it));
+                                result.add(new ConstraintDefinition((_, _, _) -> {}, it, true));
                     }
                 });
         return result;
@@ -7,7 +7,9 @@ import io.github.kaktushose.jdac.definitions.description.MethodDescription;
 import io.github.kaktushose.jdac.definitions.description.ParameterDescription;
 import io.github.kaktushose.jdac.definitions.interactions.AutoCompleteDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.AutoCompleteDefinition.AutoCompleteRule;
+import io.github.kaktushose.jdac.definitions.interactions.DefinitionId;
 import io.github.kaktushose.jdac.definitions.interactions.MethodBuildContext;
+import io.github.kaktushose.jdac.definitions.interactions.PermissionMask;
 import io.github.kaktushose.jdac.dispatching.events.interactions.CommandEvent;
 import io.github.kaktushose.jdac.exceptions.InvalidDeclarationException;
 import io.github.kaktushose.jdac.exceptions.internal.JDACException;
@@ -36,6 +38,8 @@ import static io.github.kaktushose.jdac.message.placeholder.Entry.entry;
 /// @param commandConfig     the [CommandConfig] to use
 /// @param description       the command description
 /// @param commandOptions    a [SequencedCollection] of [OptionDataDefinition]s
+/// @param id                the [DefinitionId] of this command
+/// @param permissionMask    the [PermissionMask] of the [#permissions()]
 @UnstableApi
 public record SlashCommandDefinition(
         ClassDescription classDescription,
@@ -44,7 +48,9 @@ public record SlashCommandDefinition(
         String name,
         CommandConfig commandConfig,
         String description,
-        SequencedCollection<OptionDataDefinition> commandOptions
+        SequencedCollection<OptionDataDefinition> commandOptions,
+        DefinitionId id,
+        PermissionMask permissionMask
 ) implements CommandDefinition {
 
     /// Builds a new [SlashCommandDefinition] from the given [MethodBuildContext].
@@ -97,7 +103,9 @@ public record SlashCommandDefinition(
                 name,
                 Helpers.commandConfig(context),
                 description,
-                commandOptions
+                commandOptions,
+                context.definitionId(),
+                Helpers.permissionMask(context)
         );
     }
 
@@ -4,7 +4,9 @@ import io.github.kaktushose.jdac.annotations.UnstableApi;
 import io.github.kaktushose.jdac.definitions.description.ClassDescription;
 import io.github.kaktushose.jdac.definitions.description.MethodDescription;
 import io.github.kaktushose.jdac.definitions.interactions.CustomId;
+import io.github.kaktushose.jdac.definitions.interactions.DefinitionId;
 import io.github.kaktushose.jdac.definitions.interactions.MethodBuildContext;
+import io.github.kaktushose.jdac.definitions.interactions.PermissionMask;
 import io.github.kaktushose.jdac.definitions.interactions.component.menu.StringSelectMenuDefinition;
 import io.github.kaktushose.jdac.dispatching.events.interactions.ComponentEvent;
 import io.github.kaktushose.jdac.internal.Helpers;
@@ -29,6 +31,8 @@ import static io.github.kaktushose.jdac.definitions.interactions.component.Compo
 /// @param link              the link of this button or `null`
 /// @param style             the [ButtonStyle] of this button
 /// @param uniqueId          the uniqueId of this button
+/// @param id                the [DefinitionId] of this button
+/// @param permissionMask    the [PermissionMask] of the [#permissions()]
 @UnstableApi
 public record ButtonDefinition(
         ClassDescription classDescription,
@@ -38,7 +42,9 @@ public record ButtonDefinition(
         @Nullable Emoji emoji,
         @Nullable String link,
         ButtonStyle style,
-        @Nullable Integer uniqueId
+        @Nullable Integer uniqueId,
+        DefinitionId id,
+        PermissionMask permissionMask
 ) implements ComponentDefinition<Button> {
 
     /// Constructs a new [ButtonDefinition] from the given [MethodBuildContext].
@@ -67,7 +73,9 @@ public record ButtonDefinition(
                 emoji,
                 button.link().isEmpty() ? null : button.link(),
                 button.style(),
-                button.uniqueId() < 0 ? null : button.uniqueId()
+                button.uniqueId() < 0 ? null : button.uniqueId(),
+                context.definitionId(),
+                Helpers.permissionMask(context)
         );
     }
 
@@ -86,7 +94,9 @@ public record ButtonDefinition(
                 override(this.emoji, emoji),
                 override(this.link, link),
                 override(this.style, style),
-                override(this.uniqueId, uniqueId));
+                override(this.uniqueId, uniqueId),
+                id,
+                permissionMask);
     }
 
     /// Transforms this definition to an [Button] with an independent custom id.
@@ -5,7 +5,9 @@ import io.github.kaktushose.jdac.annotations.interactions.EntityMenu;
 import io.github.kaktushose.jdac.definitions.description.ClassDescription;
 import io.github.kaktushose.jdac.definitions.description.MethodDescription;
 import io.github.kaktushose.jdac.definitions.interactions.CustomId;
+import io.github.kaktushose.jdac.definitions.interactions.DefinitionId;
 import io.github.kaktushose.jdac.definitions.interactions.MethodBuildContext;
+import io.github.kaktushose.jdac.definitions.interactions.PermissionMask;
 import io.github.kaktushose.jdac.dispatching.events.interactions.ComponentEvent;
 import io.github.kaktushose.jdac.internal.Helpers;
 import net.dv8tion.jda.api.components.selections.EntitySelectMenu;
@@ -31,6 +33,8 @@ import static io.github.kaktushose.jdac.definitions.interactions.component.Compo
 /// @param minValue          the minimum amount of choices
 /// @param maxValue          the maximum amount of choices
 /// @param uniqueId          the uniqueId of this menu
+/// @param id                the [DefinitionId] of this menu
+/// @param permissionMask    the [PermissionMask] of the [#permissions()]
 @UnstableApi
 public record EntitySelectMenuDefinition(
         ClassDescription classDescription,
@@ -43,7 +47,9 @@ public record EntitySelectMenuDefinition(
         int minValue,
         int maxValue,
         @Nullable Integer uniqueId,
-        boolean required
+        boolean required,
+        DefinitionId id,
+        PermissionMask permissionMask
 ) implements SelectMenuDefinition<EntitySelectMenu> {
 
     /// Builds a new [EntitySelectMenuDefinition] from the given [MethodBuildContext].
@@ -86,7 +92,9 @@ public record EntitySelectMenuDefinition(
                 selectMenu.minValue(),
                 selectMenu.maxValue(),
                 selectMenu.uniqueId() < 0 ? null : selectMenu.uniqueId(),
-                selectMenu.required()
+                selectMenu.required(),
+                context.definitionId(),
+                Helpers.permissionMask(context)
         );
     }
 
@@ -111,7 +119,9 @@ public record EntitySelectMenuDefinition(
                 override(this.minValue, minValue),
                 override(this.maxValue, maxValue),
                 override(this.uniqueId, uniqueId),
-                override(this.required, required)
+                override(this.required, required),
+                id,
+                permissionMask
         );
     }
 
@@ -9,7 +9,9 @@ import io.github.kaktushose.jdac.definitions.description.ClassDescription;
 import io.github.kaktushose.jdac.definitions.description.MethodDescription;
 import io.github.kaktushose.jdac.definitions.features.JDAEntity;
 import io.github.kaktushose.jdac.definitions.interactions.CustomId;
+import io.github.kaktushose.jdac.definitions.interactions.DefinitionId;
 import io.github.kaktushose.jdac.definitions.interactions.MethodBuildContext;
+import io.github.kaktushose.jdac.definitions.interactions.PermissionMask;
 import io.github.kaktushose.jdac.dispatching.events.interactions.ComponentEvent;
 import io.github.kaktushose.jdac.exceptions.InvalidDeclarationException;
 import io.github.kaktushose.jdac.internal.Helpers;
@@ -33,6 +35,8 @@ import static io.github.kaktushose.jdac.message.placeholder.Entry.entry;
 /// @param minValue          the minimum amount of choices
 /// @param maxValue          the maximum amount of choices
 /// @param uniqueId          the uniqueId of this menu
+/// @param id                the [DefinitionId] of this menu
+/// @param permissionMask    the [PermissionMask] of the [#permissions()]
 @UnstableApi
 public record StringSelectMenuDefinition(
         ClassDescription classDescription,
@@ -43,7 +47,9 @@ public record StringSelectMenuDefinition(
         int minValue,
         int maxValue,
         @Nullable Integer uniqueId,
-        boolean required
+        boolean required,
+        DefinitionId id,
+        PermissionMask permissionMask
 ) implements SelectMenuDefinition<StringSelectMenu> {
 
     /// Builds a new [StringSelectMenuDefinition] from the given [MethodBuildContext].
@@ -83,7 +89,9 @@ public record StringSelectMenuDefinition(
                 selectMenu.minValue(),
                 selectMenu.maxValue(),
                 selectMenu.uniqueId() < 0 ? null : selectMenu.uniqueId(),
-                selectMenu.required()
+                selectMenu.required(),
+                context.definitionId(),
+                Helpers.permissionMask(context)
         );
     }
 
@@ -105,7 +113,9 @@ public record StringSelectMenuDefinition(
                 override(this.minValue, minValue),
                 override(this.maxValue, maxValue),
                 override(this.uniqueId, uniqueId),
-                override(this.required, required)
+                override(this.required, required),
+                this.id,
+                this.permissionMask
         );
     }
 
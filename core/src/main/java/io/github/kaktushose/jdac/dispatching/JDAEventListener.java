@@ -2,10 +2,17 @@ package io.github.kaktushose.jdac.dispatching;
 
 import io.github.kaktushose.jdac.definitions.interactions.CustomId;
 import io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition.ReplyConfig;
+import io.github.kaktushose.jdac.definitions.interactions.command.SlashCommandDefinition;
+import io.github.kaktushose.jdac.dispatching.expiration.internal.ExpirationScheduler;
+import io.github.kaktushose.jdac.dispatching.handling.EventHandlers;
+import io.github.kaktushose.jdac.dispatching.runtime.RuntimeIdGenerator;
+import io.github.kaktushose.jdac.dispatching.runtime.RuntimeMetrics;
 import io.github.kaktushose.jdac.internal.Helpers;
 import io.github.kaktushose.jdac.internal.logging.JDACLogger;
 import io.github.kaktushose.jdac.property.JDACProperty;
+import io.github.kaktushose.jdac.property.events.RuntimeCloseEvent;
 import io.github.kaktushose.jdac.property.internal.JDACIntrospectionImpl;
+import dev.goldmensch.propane.event.Listener;
 import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.GenericContextInteractionEvent;
@@ -17,8 +24,8 @@ import net.dv8tion.jda.api.interactions.ICustomIdInteraction;
 import org.jetbrains.annotations.ApiStatus;
 import org.slf4j.Logger;
 
+import java.util.Collection;
 import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 /// Handles incoming [GenericInteractionCreateEvent]s and maps them to their corresponding [Runtime], creating new ones if needed.
@@ -28,31 +35,66 @@ public final class JDAEventListener extends ListenerAdapter {
     private static final Logger log = JDACLogger.getLogger(JDAEventListener.class);
     private final Map<String, Runtime> runtimes = new ConcurrentHashMap<>();
     private final JDACIntrospectionImpl introspection;
+    private final RuntimeIdGenerator idGenerator;
+    private final ExpirationScheduler expirationScheduler;
+    private final EventHandlers handlers;
 
     public JDAEventListener(JDACIntrospectionImpl introspection) {
         this.introspection = introspection;
+        this.idGenerator = introspection.get(JDACProperty.RUNTIME_ID_GENERATOR);
+        this.expirationScheduler = new ExpirationScheduler(introspection.get(JDACProperty.EXPIRATION_STRATEGY));
+        this.handlers = EventHandlers.create(introspection);
+
+        introspection.subscribe(Listener.create(RuntimeCloseEvent.class, (event, _) -> runtimes.remove(event.runtimeId())));
+    }
+
+    /// Compiles everything the [EventHandlers] need per slash command ahead of time. Must be called after the
+    /// [io.github.kaktushose.jdac.definitions.interactions.InteractionRegistry] was indexed.
+    ///
+    /// @param commands all indexed [SlashCommandDefinition]s
+    public void index(Collection<SlashCommandDefinition> commands) {
+        handlers.slashCommandHandler().index(commands);
+    }
+
+    /// Starts the background expiration of runtimes.
+    public void start() {
+        expirationScheduler.start();
+    }
+
+    /// Stops the background expiration of runtimes.
+    public void shutdown() {
+        expirationScheduler.shutdown();
+    }
+
+    /// @return a snapshot of the current [RuntimeMetrics]
+    public RuntimeMetrics metrics() {
+        return new RuntimeMetrics(
+                runtimes.size(),
+                expirationScheduler.expired(),
+                expirationScheduler.lastLag(),
+                expirationScheduler.maxLag()
+        );
     }
 
     @Override
     @SubscribeEvent
     public void onGenericInteractionCreate(GenericInteractionCreateEvent jdaEvent) {
-        checkRuntimesAlive();
-
         Runtime runtime = switch (jdaEvent) {
             // always create new one for command events (starter)
             case SlashCommandInteractionEvent _, GenericContextInteractionEvent<?> _,
                  CommandAutoCompleteInteractionEvent _ ->
-                    runtimes.compute(UUID.randomUUID().toString(), (id, _) -> Runtime.startNew(id, introspection, jdaEvent.getJDA()));
+                    startRuntime(jdaEvent);
             // check events with custom id (components or modals)
             case ICustomIdInteraction interaction -> {
-                if (CustomId.isInvalid(interaction.getCustomId())) {
+                CustomId customId = CustomId.parse(interaction.getCustomId());
+                if (customId == null) {
                     yield null;
                 }
-                CustomId customId = CustomId.fromMerged(interaction.getCustomId());
                 if (customId.isBound()) {
-                    yield runtimes.get(customId.runtimeId());
+                    Runtime bound = runtimes.get(customId.runtimeId());
+                    yield bound == null || bound.isClosed() ? null : bound;
                 }
-                yield runtimes.compute(UUID.randomUUID().toString(), (id, _) -> Runtime.startNew(id, introspection, jdaEvent.getJDA()));
+                yield startRuntime(jdaEvent);
             }
             default -> null;
         };
@@ -84,7 +126,17 @@ public final class JDAEventListener extends ListenerAdapter {
                 .queue();
     }
 
-    private void checkRuntimesAlive() {
-        runtimes.values().removeIf(Runtime::isClosed);
+    private Runtime startRuntime(GenericInteractionCreateEvent jdaEvent) {
+        return Runtime.startNew(idGenerator.generate(), introspection, handlers, jdaEvent.getJDA(), this::register);
+    }
+
+    private void register(Runtime runtime) {
+        runtimes.put(runtime.id(), runtime);
+        // the runtime might have been closed before it got registered, the close event won't fire again
+        if (runtime.isClosed()) {
+            runtimes.remove(runtime.id(), runtime);
+            return;
+        }
+        expirationScheduler.schedule(runtime);
     }
 }
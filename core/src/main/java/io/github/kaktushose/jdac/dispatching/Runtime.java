@@ -1,14 +1,10 @@
 package io.github.kaktushose.jdac.dispatching;
 
 import io.github.kaktushose.jdac.dispatching.context.KeyValueStore;
-import io.github.kaktushose.jdac.dispatching.expiration.ExpirationStrategy;
-import io.github.kaktushose.jdac.dispatching.handling.AutoCompleteHandler;
-import io.github.kaktushose.jdac.dispatching.handling.ComponentHandler;
+import io.github.kaktushose.jdac.dispatching.events.Event;
 import io.github.kaktushose.jdac.dispatching.handling.EventHandler;
-import io.github.kaktushose.jdac.dispatching.handling.ModalHandler;
-import io.github.kaktushose.jdac.dispatching.handling.command.ContextCommandHandler;
-import io.github.kaktushose.jdac.dispatching.handling.command.SlashCommandHandler;
-import io.github.kaktushose.jdac.exceptions.InternalException;
+import io.github.kaktushose.jdac.dispatching.handling.EventHandlers;
+import io.github.kaktushose.jdac.dispatching.runtime.ExecutionMode;
 import io.github.kaktushose.jdac.internal.logging.JDACLogger;
 import io.github.kaktushose.jdac.property.JDACProperty;
 import io.github.kaktushose.jdac.property.JDACScope;
@@ -18,18 +14,21 @@ import io.github.kaktushose.jdac.property.internal.JDACInternalProperties;
 import io.github.kaktushose.jdac.property.internal.JDACIntrospectionImpl;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
-import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.GenericContextInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
-import net.dv8tion.jda.api.events.interaction.component.GenericComponentInteractionCreateEvent;
 import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.io.Closeable;
-import java.time.LocalDateTime;
+import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /// A [Runtime] delegates the jda events to their corresponding [EventHandler] and manages the used virtual threads.
 ///
@@ -38,34 +37,43 @@ import java.util.concurrent.LinkedBlockingQueue;
 /// Runtimes are executed in parallel, but events are processed sequentially by each runtime.
 /// Every [EventHandler] called by this [Runtime] is executed in its own virtual thread, isolated from the runtime one.
 ///
-/// @implNote Each [Runtime] is based on a [BlockingQueue] in which jda events, belonging to this
+/// Runtimes are started lazily. The first event is executed directly and the runtime only becomes reachable for further
+/// events once it gets [promoted][#promote()], which happens when a runtime-bound component or modal is created or
+/// [Event#runtimeId()] is called. A runtime that wasn't promoted until its first event was handled is closed right away.
+/// Thus, one-shot commands and auto complete events never allocate an execution thread, a queue or an entry in the
+/// runtime map.
+///
+/// @implNote How events are executed depends on the configured [ExecutionMode]. Per default ([ExecutionMode.DedicatedThread]),
+/// each [Runtime] is based on a [BlockingQueue] in which jda events, belonging to this
 /// runtime, are put by the [JDAEventListener] running on the jda event thread.
 /// Each runtime than has its own virtual thread that takes events from this queue and executes them sequentially but
 /// each in its own (sub) virtual thread. Therefore, the virtual thread in which the user code will be called, only exists for
 /// the lifespan of one "interaction" and cannot interfere with other interactions on the same or other runtimes.
+///
+/// With [ExecutionMode.Mailbox], events are put into a lock-free queue instead and executed by a shared executor,
+/// one task per event. An idle runtime doesn't hold any thread in this mode.
 @ApiStatus.Internal
 public final class Runtime implements Closeable {
 
     private static final Logger log = JDACLogger.getLogger(Runtime.class);
 
-    private final SlashCommandHandler slashCommandHandler;
-    private final AutoCompleteHandler autoCompleteHandler;
-    private final ContextCommandHandler contextCommandHandler;
-    private final ComponentHandler componentHandler;
-    private final ModalHandler modalHandler;
+    private final EventHandlers handlers;
 
     private final String id;
-    private final BlockingQueue<GenericInteractionCreateEvent> eventQueue = new LinkedBlockingQueue<>();
-    private final Thread executionThread;
+    private final Consumer<Runtime> onPromotion;
+    private volatile @Nullable Dispatcher dispatcher;
 
     private final KeyValueStore keyValueStore = new KeyValueStore();
 
     private final JDACIntrospectionImpl introspection;
 
-    private LocalDateTime lastActivity = LocalDateTime.now();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile long lastActivity = System.nanoTime();
 
-    private Runtime(String id, JDACIntrospectionImpl baseIntrospection, JDA jda) {
+    private Runtime(String id, JDACIntrospectionImpl baseIntrospection, EventHandlers handlers, JDA jda, Consumer<Runtime> onPromotion) {
         this.id = id;
+        this.handlers = handlers;
+        this.onPromotion = onPromotion;
 
         this.introspection = baseIntrospection.createChild(JDACScope.RUNTIME)
                 .addFallback(JDACProperty.JDA, _ -> jda)
@@ -73,63 +81,101 @@ public final class Runtime implements Closeable {
                 .addFallback(JDACProperty.RUNTIME_ID, _ -> id)
                 .addFallback(JDACProperty.KEY_VALUE_STORE, _ -> keyValueStore())
                 .build();
-
-        slashCommandHandler = new SlashCommandHandler(introspection);
-        autoCompleteHandler = new AutoCompleteHandler(introspection);
-        contextCommandHandler = new ContextCommandHandler(introspection);
-        componentHandler = new ComponentHandler(introspection);
-        modalHandler = new ModalHandler(introspection);
-
-        this.executionThread = Thread.ofVirtual()
-                .name("JDAC Runtime-Thread %s".formatted(id))
-                .uncaughtExceptionHandler((_, e) -> log.error("Error in JDA-Commands Runtime:", e))
-                .unstarted(this::checkForEvents);
     }
 
-    public static Runtime startNew(String id, JDACIntrospectionImpl introspection, JDA jda) {
-        var runtime = new Runtime(id, introspection, jda);
-        runtime.executionThread.start();
+    /// Creates a new lazy [Runtime]. The first event passed to [#queueEvent(GenericInteractionCreateEvent)] is executed
+    /// directly, the runtime only becomes reachable for further events after it was [promoted][#promote()].
+    ///
+    /// @param id            the id of the runtime
+    /// @param introspection the [JDACIntrospectionImpl] to derive the runtime introspection from
+    /// @param handlers      the shared [EventHandlers]
+    /// @param jda           the [JDA] instance the event belongs to
+    /// @param onPromotion   called once the runtime got promoted, used to make it reachable for further events
+    /// @return the new [Runtime]
+    public static Runtime startNew(String id, JDACIntrospectionImpl introspection, EventHandlers handlers, JDA jda,
+                                   Consumer<Runtime> onPromotion) {
+        var runtime = new Runtime(id, introspection, handlers, jda, onPromotion);
+        ScopedValue.where(JDACIntrospectionImpl.INTROSPECTION, runtime.introspection)
+                .run(() -> runtime.introspection.publish(new RuntimeOpenEvent(id)));
 
         log.debug("Created new runtime with id {}", id);
 
         return runtime;
     }
 
-    private void checkForEvents() {
-        ScopedValue.where(JDACIntrospectionImpl.INTROSPECTION, introspection).run(() -> {
-            introspection.publish(new RuntimeOpenEvent(id));
+    /// Promotes this runtime, making it able to receive further events, e.g. because a runtime-bound component
+    /// was created. Does nothing if this runtime is already promoted or closed.
+    public void promote() {
+        if (dispatcher != null) {
+            return;
+        }
+        synchronized (this) {
+            if (dispatcher != null || closed.get()) {
+                return;
+            }
+            dispatcher = switch (introspection.get(JDACProperty.EXECUTION_MODE)) {
+                case ExecutionMode.DedicatedThread _ -> new ThreadDispatcher();
+                case ExecutionMode.Mailbox(Executor executor) -> new MailboxDispatcher(executor);
+            };
+        }
 
-            try {
-                while (!Thread.interrupted()) {
-                    GenericInteractionCreateEvent incomingEvent = eventQueue.take();
+        log.debug("Promoted runtime with id {}", id);
+        onPromotion.accept(this);
+    }
 
-                    Thread.ofVirtual().name("JDAC EventHandler-Thread %s".formatted(id)).start(() -> executeHandler(incomingEvent)).join();
-                }
-            } catch (InterruptedException _) {
-            }
+    private void executeFirst(GenericInteractionCreateEvent incomingEvent) {
+        Thread.ofVirtual()
+                .name("JDAC EventHandler-Thread %s".formatted(id))
+                .uncaughtExceptionHandler((_, e) -> log.error("Error in JDA-Commands Runtime:", e))
+                .start(() -> {
+                    try {
+                        ScopedValue.where(JDACIntrospectionImpl.INTROSPECTION, introspection).run(() -> executeHandler(incomingEvent));
+                    } finally {
+                        finishFirst();
+                    }
+                });
+    }
 
-            log.debug("Runtime finished");
-        });
+    private void finishFirst() {
+        synchronized (this) {
+            if (closed.get()) {
+                return;
+            }
+            Dispatcher promoted = dispatcher;
+            if (promoted != null) {
+                promoted.start();
+                return;
+            }
+        }
+        log.debug("Runtime {} wasn't promoted, closing it", id);
+        close();
     }
 
     private void executeHandler(GenericInteractionCreateEvent incomingEvent) {
-        lastActivity = LocalDateTime.now();
-        switch (incomingEvent) {
-            case SlashCommandInteractionEvent event -> slashCommandHandler.accept(event, this);
-            case GenericContextInteractionEvent<?> event -> contextCommandHandler.accept(event, this);
-            case CommandAutoCompleteInteractionEvent event -> autoCompleteHandler.accept(event, this);
-            case GenericComponentInteractionCreateEvent event -> componentHandler.accept(event, this);
-            case ModalInteractionEvent event -> modalHandler.accept(event, this);
-            default -> throw new InternalException("default-switch");
-        }
+        lastActivity = System.nanoTime();
+        handlers.accept(incomingEvent, this);
     }
 
     public String id() {
         return id;
     }
 
+    /// @return the [JDACIntrospectionImpl] of this runtime (scope = [JDACScope#RUNTIME])
+    public JDACIntrospectionImpl introspection() {
+        return introspection;
+    }
+
+    /// Queues an event for execution. If this runtime isn't promoted yet, the event is executed directly. Thus,
+    /// this method must only be called once before promotion.
+    ///
+    /// @param event the [GenericInteractionCreateEvent] to execute
     public void queueEvent(GenericInteractionCreateEvent event) {
-        eventQueue.add(event);
+        Dispatcher current = dispatcher;
+        if (current == null) {
+            executeFirst(event);
+            return;
+        }
+        current.queue(event);
     }
 
     public KeyValueStore keyValueStore() {
@@ -140,20 +186,147 @@ public final class Runtime implements Closeable {
         return introspection.get(JDACProperty.INSTANTIATOR).instance(clazz, introspection);
     }
 
+    /// @return the [System#nanoTime()] this runtime last started handling an event at
+    public long lastActivity() {
+        return lastActivity;
+    }
+
     @Override
     public void close() {
+        Dispatcher current;
+        synchronized (this) {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            current = dispatcher;
+        }
         introspection.publish(new RuntimeCloseEvent(id));
-        executionThread.interrupt();
+        if (current != null) {
+            current.stop();
+        }
     }
 
     public boolean isClosed() {
-        if (introspection.get(JDACProperty.EXPIRATION_STRATEGY) instanceof ExpirationStrategy.Inactivity(
-                long minutes
-        ) && lastActivity.isBefore(LocalDateTime.now().minusMinutes(minutes))) {
-            close();
-            return true;
+        Dispatcher current = dispatcher;
+        return closed.get() || (current != null && !current.isAlive());
+    }
+
+    /// Takes incoming events of this runtime and executes them sequentially, see [ExecutionMode].
+    private sealed interface Dispatcher permits ThreadDispatcher, MailboxDispatcher {
+
+        void start();
+
+        void queue(GenericInteractionCreateEvent event);
+
+        void stop();
+
+        boolean isAlive();
+    }
+
+    /// [ExecutionMode.DedicatedThread]: a virtual thread per runtime that blocks on a [BlockingQueue].
+    private final class ThreadDispatcher implements Dispatcher {
+
+        private final BlockingQueue<GenericInteractionCreateEvent> eventQueue = new LinkedBlockingQueue<>();
+        private final Thread executionThread = Thread.ofVirtual()
+                .name("JDAC Runtime-Thread %s".formatted(id))
+                .uncaughtExceptionHandler((_, e) -> log.error("Error in JDA-Commands Runtime:", e))
+                .unstarted(this::checkForEvents);
+
+        @Override
+        public void start() {
+            executionThread.start();
+        }
+
+        private void checkForEvents() {
+            ScopedValue.where(JDACIntrospectionImpl.INTROSPECTION, introspection).run(() -> {
+                try {
+                    while (!Thread.interrupted()) {
+                        GenericInteractionCreateEvent incomingEvent = eventQueue.take();
+
+                        Thread.ofVirtual().name("JDAC EventHandler-Thread %s".formatted(id)).start(() -> executeHandler(incomingEvent)).join();
+                    }
+                } catch (InterruptedException _) {
+                }
+
+                log.debug("Runtime finished");
+            });
         }
 
-        return !executionThread.isAlive();
+        @Override
+        public void queue(GenericInteractionCreateEvent event) {
+            eventQueue.add(event);
+        }
+
+        @Override
+        public void stop() {
+            executionThread.interrupt();
+        }
+
+        @Override
+        public boolean isAlive() {
+            return executionThread.getState() == Thread.State.NEW || executionThread.isAlive();
+        }
+    }
+
+    /// [ExecutionMode.Mailbox]: a lock-free mailbox that is drained by a shared [Executor], one event per task.
+    ///
+    /// The `scheduled` flag guarantees that at most one task of this runtime is submitted at any time, thus events
+    /// are still executed sequentially. After a task finished, the flag is reset and the mailbox is checked again,
+    /// so that events queued in the meantime aren't lost.
+    private final class MailboxDispatcher implements Dispatcher {
+
+        private final Queue<GenericInteractionCreateEvent> mailbox = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final Executor executor;
+        private volatile boolean started;
+
+        private MailboxDispatcher(Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public void start() {
+            started = true;
+            schedule();
+        }
+
+        @Override
+        public void queue(GenericInteractionCreateEvent event) {
+            mailbox.add(event);
+            schedule();
+        }
+
+        private void schedule() {
+            if (started && !closed.get() && !mailbox.isEmpty() && scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                GenericInteractionCreateEvent incomingEvent = mailbox.poll();
+                if (incomingEvent != null && !closed.get()) {
+                    ScopedValue.where(JDACIntrospectionImpl.INTROSPECTION, introspection).run(() -> executeHandler(incomingEvent));
+                }
+            } catch (RuntimeException e) {
+                log.error("Error in JDA-Commands Runtime:", e);
+            } finally {
+                // a cancelled event leaves the interrupt flag set, which must not leak into the next task of the executor
+                Thread.interrupted();
+                scheduled.set(false);
+                schedule();
+            }
+        }
+
+        @Override
+        public void stop() {
+            mailbox.clear();
+            log.debug("Runtime finished");
+        }
+
+        @Override
+        public boolean isAlive() {
+            return !closed.get();
+        }
     }
 }
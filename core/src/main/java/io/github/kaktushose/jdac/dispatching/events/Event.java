@@ -1,5 +1,6 @@
 package io.github.kaktushose.jdac.dispatching.events;
 
+import io.github.kaktushose.jdac.dispatching.Runtime;
 import io.github.kaktushose.jdac.dispatching.context.KeyValueStore;
 import io.github.kaktushose.jdac.dispatching.events.interactions.AutoCompleteEvent;
 import io.github.kaktushose.jdac.dispatching.events.interactions.CommandEvent;
@@ -54,9 +55,14 @@ public abstract sealed class Event<T extends GenericInteractionCreateEvent> impl
 
     /// Returns the id of the [`Runtime`]({@docRoot}/index.html#runtime-concept-heading) this event is dispatched in.
     ///
+    /// Calling this method keeps the [`Runtime`]({@docRoot}/index.html#runtime-concept-heading) open after the current
+    /// interaction finished, as the id could be used to create runtime-bound components manually.
+    ///
     /// @return the id of the current [`Runtime`]({@docRoot}/index.html#runtime-concept-heading)
     public String runtimeId() {
-        return scopedRuntime().id();
+        Runtime runtime = scopedRuntime();
+        runtime.promote();
+        return runtime.id();
     }
 
     /// Closes the underlying [`Runtime`]({@docRoot}/index.html#runtime-concept-heading). This will ignore any new jda events belonging to this interaction, resulting
@@ -7,6 +7,7 @@ import io.github.kaktushose.jdac.definitions.interactions.ModalDefinition;
 import io.github.kaktushose.jdac.dispatching.events.interactions.CommandEvent;
 import io.github.kaktushose.jdac.dispatching.events.interactions.ComponentEvent;
 import io.github.kaktushose.jdac.exceptions.InternalException;
+import io.github.kaktushose.jdac.exceptions.ReplyException;
 import io.github.kaktushose.jdac.internal.logging.JDACLogger;
 import io.github.kaktushose.jdac.message.placeholder.Entry;
 import io.github.kaktushose.jdac.message.resolver.ComponentResolver;
@@ -14,12 +15,14 @@ import io.github.kaktushose.jdac.message.resolver.MessageResolver;
 import net.dv8tion.jda.api.components.ModalTopLevelComponent;
 import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
 import net.dv8tion.jda.api.interactions.callbacks.IModalCallback;
+import net.dv8tion.jda.api.requests.RestAction;
 import net.dv8tion.jda.internal.utils.Checks;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static io.github.kaktushose.jdac.message.placeholder.Entry.entry;
 import static io.github.kaktushose.jdac.property.internal.IntrospectionAccess.*;
@@ -42,6 +45,7 @@ public abstract sealed class ModalReplyableEvent<T extends GenericInteractionCre
     /// @param component    the [ModalTopLevelComponent] to add to this modal
     /// @param placeholders the [Entry] placeholders to use for [message resolution][MessageResolver]
     /// @throws IllegalArgumentException if no [Modal] with the given name was found
+    /// @throws ReplyException           if the interaction was already acknowledged
     public void replyModal(String modal, ModalTopLevelComponent component, Entry... placeholders) {
         reply(null, modal, List.of(component), placeholders);
     }
@@ -53,6 +57,7 @@ public abstract sealed class ModalReplyableEvent<T extends GenericInteractionCre
     /// @param component    the [ModalTopLevelComponent] to add to this modal
     /// @param placeholders the [Entry] placeholders to use for [message resolution][MessageResolver]
     /// @throws IllegalArgumentException if no [Modal] with the given name was found
+    /// @throws ReplyException           if the interaction was already acknowledged
     public void replyModal(Class<?> origin, String modal, ModalTopLevelComponent component, Entry... placeholders) {
         reply(origin, modal, List.of(component), placeholders);
     }
@@ -63,6 +68,7 @@ public abstract sealed class ModalReplyableEvent<T extends GenericInteractionCre
     /// @param components   a [Collection] of [ModalTopLevelComponent]s to add to this modal
     /// @param placeholders the [Entry] placeholders to use for [message resolution][MessageResolver]
     /// @throws IllegalArgumentException if no [Modal] with the given name was found
+    /// @throws ReplyException           if the interaction was already acknowledged
     public void replyModal(String modal, Collection<ModalTopLevelComponent> components, Entry... placeholders) {
         reply(null, modal, components, placeholders);
     }
@@ -74,11 +80,43 @@ public abstract sealed class ModalReplyableEvent<T extends GenericInteractionCre
     /// @param components   a [Collection] of [ModalTopLevelComponent]s to add to this modal
     /// @param placeholders the [Entry] placeholders to use for [message resolution][MessageResolver]
     /// @throws IllegalArgumentException if no [Modal] with the given name was found
+    /// @throws ReplyException           if the interaction was already acknowledged
     public void replyModal(Class<?> origin, String modal, Collection<ModalTopLevelComponent> components, Entry... placeholders) {
         reply(origin, modal, components, placeholders);
     }
 
+    /// Acknowledgement of this event with a [Modal] without blocking the current thread.
+    ///
+    /// @param modal        the method name of the [Modal] you want to reply with
+    /// @param components   a [Collection] of [ModalTopLevelComponent]s to add to this modal
+    /// @param placeholders the [Entry] placeholders to use for [message resolution][MessageResolver]
+    /// @return a [CompletableFuture] completed once the [Modal] was sent
+    /// @throws IllegalArgumentException if no [Modal] with the given name was found
+    /// @throws ReplyException           if the interaction was already acknowledged
+    /// @see #replyModal(String, Collection, Entry...)
+    public CompletableFuture<Void> replyModalAsync(String modal, Collection<ModalTopLevelComponent> components, Entry... placeholders) {
+        return modalAction(null, modal, components, placeholders).submit();
+    }
+
+    /// Acknowledgement of this event with a [Modal] without blocking the current thread.
+    ///
+    /// @param origin       the [Class] the modal handler is defined in
+    /// @param modal        the method name of the [Modal] you want to reply with
+    /// @param components   a [Collection] of [ModalTopLevelComponent]s to add to this modal
+    /// @param placeholders the [Entry] placeholders to use for [message resolution][MessageResolver]
+    /// @return a [CompletableFuture] completed once the [Modal] was sent
+    /// @throws IllegalArgumentException if no [Modal] with the given name was found
+    /// @throws ReplyException           if the interaction was already acknowledged
+    /// @see #replyModal(Class, String, Collection, Entry...)
+    public CompletableFuture<Void> replyModalAsync(Class<?> origin, String modal, Collection<ModalTopLevelComponent> components, Entry... placeholders) {
+        return modalAction(origin, modal, components, placeholders).submit();
+    }
+
     private void reply(@Nullable Class<?> origin, String modal, Collection<ModalTopLevelComponent> components, Entry... placeholders) {
+        modalAction(origin, modal, components, placeholders).complete();
+    }
+
+    private RestAction<Void> modalAction(@Nullable Class<?> origin, String modal, Collection<ModalTopLevelComponent> components, Entry... placeholders) {
         if (!(jdaEvent() instanceof IModalCallback callback)) {
             throw new InternalException("reply-failed", entry("event", jdaEvent().getClass().getName()));
         }
@@ -87,11 +125,7 @@ public abstract sealed class ModalReplyableEvent<T extends GenericInteractionCre
         InteractionDefinition definition = scopedInvocationContext().definition();
         String className = origin == null ? definition.classDescription().name() : origin.getName();
         String definitionId = InteractionDefinition.createDefinitionId(className, modal);
-        ModalDefinition modalDefinition = scopedInteractionRegistry().find(
-                ModalDefinition.class,
-                false,
-                it -> it.definitionId().equals(definitionId)
-        );
+        ModalDefinition modalDefinition = scopedInteractionRegistry().findById(ModalDefinition.class, false, definitionId);
 
         var entryMap = Entry.toMap(placeholders);
         ComponentResolver<ModalTopLevelComponent> resolver = new ComponentResolver<>(scopedMessageResolver(), ModalTopLevelComponent.class);
@@ -100,7 +134,11 @@ public abstract sealed class ModalReplyableEvent<T extends GenericInteractionCre
                 resolver.resolve(components, scopedUserLocale(), entryMap)
         );
 
+        // the modal acknowledges the interaction, thus it must not be deferred automatically anymore
+        if (!scopedAcknowledgement().claim()) {
+            throw new ReplyException("modal-already-acknowledged");
+        }
         log.debug("Replying to interaction \"{}\" with Modal: \"{}\". [Runtime={}]", definition.displayName(), modalDefinition.displayName(), runtimeId());
-        callback.replyModal(modalDefinition.toJDAEntity(new CustomId(runtimeId(), definitionId))).complete();
+        return callback.replyModal(modalDefinition.toJDAEntity(new CustomId(runtimeId(), definitionId)));
     }
 }
@@ -4,6 +4,7 @@ import io.github.kaktushose.jdac.annotations.interactions.EntityMenu;
 import io.github.kaktushose.jdac.annotations.interactions.StringMenu;
 import io.github.kaktushose.jdac.definitions.features.CustomIdJDAEntity;
 import io.github.kaktushose.jdac.definitions.interactions.CustomId;
+import io.github.kaktushose.jdac.definitions.interactions.DefinitionId;
 import io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.component.ButtonDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.component.menu.SelectMenuDefinition;
@@ -35,6 +36,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static io.github.kaktushose.jdac.property.internal.IntrospectionAccess.*;
 
@@ -142,8 +144,7 @@ public sealed abstract class ReplyableEvent<T extends GenericInteractionCreateEv
         var className = origin == null
                 ? scopedInvocationContext().definition().classDescription().name()
                 : origin.getName();
-        var id = String.valueOf((className + component).hashCode());
-        var definition = scopedInteractionRegistry().find(type, false, it -> it.definitionId().equals(id));
+        var definition = scopedInteractionRegistry().findById(type, false, DefinitionId.hash(className, component));
         return (C) definition.toJDAEntity(new CustomId(runtimeId(), definition.definitionId()));
     }
 
@@ -165,10 +166,7 @@ public sealed abstract class ReplyableEvent<T extends GenericInteractionCreateEv
     /// @param name the name of the [Embed]
     /// @return an [Optional] holding the [Embed] or an empty [Optional] if an [Embed] with the given name doesn't exist
     public Optional<Embed> findEmbed(String name) {
-        if (!scopedEmbeds().exists(name)) {
-            return Optional.empty();
-        }
-        return Optional.of(scopedEmbeds().get(name));
+        return scopedEmbeds().find(name);
     }
 
     /// Entry point for configuring a reply.
@@ -266,4 +264,56 @@ public sealed abstract class ReplyableEvent<T extends GenericInteractionCreateEv
     public Message reply(MessageCreateData message) {
         return new ReplyAction(scopedReplyConfig()).reply(message);
     }
+
+    /// Acknowledgement of this event with V2 Components without blocking the current thread.
+    ///
+    /// @param component   the [MessageTopLevelComponent] to reply with
+    /// @param placeholder the [placeholders][Entry] to use. See [PlaceholderResolver]
+    /// @return a [CompletableFuture] completed with the [Message] that got created
+    /// @see #reply(MessageTopLevelComponent, Entry...)
+    public CompletableFuture<Message> replyAsync(MessageTopLevelComponent component, Entry... placeholder) {
+        return replyAsync(List.of(component), placeholder);
+    }
+
+    /// Acknowledgement of this event with V2 Components without blocking the current thread.
+    ///
+    /// @param components  a [Collection] of [MessageTopLevelComponent]s to reply with
+    /// @param placeholder the [placeholders][Entry] to use. See [PlaceholderResolver]
+    /// @return a [CompletableFuture] completed with the [Message] that got created
+    /// @see #reply(Collection, Entry...)
+    public CompletableFuture<Message> replyAsync(Collection<MessageTopLevelComponent> components, Entry... placeholder) {
+        return with().replyAsync(components, placeholder);
+    }
+
+    /// Acknowledgement of this event with a text message without blocking the current thread.
+    ///
+    /// Acknowledging the interaction, if needed, and sending the message are chained via [RestAction#flatMap(java.util.function.Function)],
+    /// instead of waiting for each request separately.
+    ///
+    /// @param message     the message to send or the localization key
+    /// @param placeholder the placeholders to use to perform localization, see [I18n#resolve(Object, Locale, Entry...)]
+    /// @return a [CompletableFuture] completed with the [Message] that got created
+    /// @see #reply(String, Entry...)
+    public CompletableFuture<Message> replyAsync(String message, Entry... placeholder) {
+        return with().replyAsync(message, placeholder);
+    }
+
+    /// Acknowledgement of this event with a [MessageEmbed] without blocking the current thread.
+    ///
+    /// @param first      the [MessageEmbed] to send
+    /// @param additional additional [MessageEmbed]s to send
+    /// @return a [CompletableFuture] completed with the [Message] that got created
+    /// @see #reply(MessageEmbed, MessageEmbed...)
+    public CompletableFuture<Message> replyAsync(MessageEmbed first, MessageEmbed... additional) {
+        return new ReplyAction(scopedReplyConfig()).embeds(first, additional).replyAsync();
+    }
+
+    /// Acknowledgement of this event with a [MessageCreateData] without blocking the current thread.
+    ///
+    /// @param message the [MessageCreateData] to send
+    /// @return a [CompletableFuture] completed with the [Message] that got created
+    /// @see #reply(MessageCreateData)
+    public CompletableFuture<Message> replyAsync(MessageCreateData message) {
+        return new ReplyAction(scopedReplyConfig()).data(message).replyAsync();
+    }
 }
@@ -5,6 +5,8 @@ import io.github.kaktushose.jdac.dispatching.events.ModalReplyableEvent;
 import net.dv8tion.jda.api.events.interaction.command.GenericCommandInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 
+import static io.github.kaktushose.jdac.property.internal.IntrospectionAccess.scopedAcknowledgement;
+
 /// This class is a subclass of [Event]. It provides additional features for replying to a [GenericCommandInteractionEvent].
 ///
 /// @see Event
@@ -22,6 +24,8 @@ public final class CommandEvent extends ModalReplyableEvent<GenericCommandIntera
 
     @Override
     public void deferReply(boolean ephemeral) {
-        jdaEvent().deferReply(ephemeral).complete();
+        if (scopedAcknowledgement().claim()) {
+            jdaEvent().deferReply(ephemeral).complete();
+        }
     }
 }
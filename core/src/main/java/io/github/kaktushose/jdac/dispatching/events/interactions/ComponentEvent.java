@@ -16,6 +16,9 @@ import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionE
 import net.dv8tion.jda.api.requests.ErrorResponse;
 import org.slf4j.Logger;
 
+import java.util.concurrent.CompletableFuture;
+
+import static io.github.kaktushose.jdac.property.internal.IntrospectionAccess.scopedAcknowledgement;
 import static io.github.kaktushose.jdac.property.internal.IntrospectionAccess.scopedReplyConfig;
 
 /// This class is a subclass of [Event]. It provides additional features for replying to a [GenericComponentInteractionCreateEvent].
@@ -38,7 +41,9 @@ public final class ComponentEvent extends ModalReplyableEvent<GenericComponentIn
 
     @Override
     public void deferReply(boolean ephemeral) {
-        jdaEvent().deferReply(ephemeral).complete();
+        if (scopedAcknowledgement().claim()) {
+            jdaEvent().deferReply(ephemeral).complete();
+        }
     }
 
     /// No-op acknowledgement of this interaction.
@@ -53,7 +58,9 @@ public final class ComponentEvent extends ModalReplyableEvent<GenericComponentIn
     ///
     /// Use [#reply(String, Entry...)] to edit it directly.
     public void deferEdit() {
-        jdaEvent().deferEdit().complete();
+        if (scopedAcknowledgement().claim()) {
+            jdaEvent().deferEdit().complete();
+        }
     }
 
     /// Removes all components from the original message.
@@ -64,7 +71,7 @@ public final class ComponentEvent extends ModalReplyableEvent<GenericComponentIn
         if (jdaEvent().getMessage().isUsingComponentsV2()) {
             throw new UnsupportedOperationException(JDACException.errorMessage("remove-components-v2"));
         }
-        if (!jdaEvent().isAcknowledged()) {
+        if (scopedAcknowledgement().claim()) {
             jdaEvent().deferReply(scopedReplyConfig().ephemeral()).complete();
         }
         jdaEvent().getHook().editOriginalComponents().complete();
@@ -97,4 +104,25 @@ public final class ComponentEvent extends ModalReplyableEvent<GenericComponentIn
     public Message reply(ComponentReplacer replacer, Entry... placeholder) {
         return with().reply(replacer, placeholder);
     }
+
+    /// No-op acknowledgement of this event with the V2 Components of the original reply without blocking the current thread.
+    ///
+    /// @return a [CompletableFuture] completed with the [Message] that got edited or created
+    /// @throws UnsupportedOperationException if the original message didn't use V2 Components
+    /// @see #reply()
+    public CompletableFuture<Message> replyAsync() {
+        return with().replyAsync();
+    }
+
+    /// Acknowledgement of this event with the V2 Components of the original reply without blocking the current thread.
+    /// Will also apply the passed [ComponentReplacer] before sending the reply.
+    ///
+    /// @param replacer    the [ComponentReplacer] to apply to the original components
+    /// @param placeholder the [placeholders][Entry] to use. See [PlaceholderResolver]
+    /// @return a [CompletableFuture] completed with the [Message] that got edited or created
+    /// @throws UnsupportedOperationException if the original message didn't use V2 Components
+    /// @see #reply(ComponentReplacer, Entry...)
+    public CompletableFuture<Message> replyAsync(ComponentReplacer replacer, Entry... placeholder) {
+        return with().replyAsync(replacer, placeholder);
+    }
 }
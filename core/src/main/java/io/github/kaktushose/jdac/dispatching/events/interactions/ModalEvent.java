@@ -14,6 +14,8 @@ import net.dv8tion.jda.api.requests.ErrorResponse;
 import java.util.List;
 import java.util.Objects;
 
+import static io.github.kaktushose.jdac.property.internal.IntrospectionAccess.scopedAcknowledgement;
+
 /// This class is a subclass of [Event]. It provides additional features for replying to a [ModalInteractionEvent] as
 /// well as for retrieving the [ModalMapping]s.
 ///
@@ -23,7 +25,9 @@ public final class ModalEvent extends ReplyableEvent<ModalInteractionEvent> {
 
     @Override
     public void deferReply(boolean ephemeral) {
-        jdaEvent().deferReply(ephemeral).complete();
+        if (scopedAcknowledgement().claim()) {
+            jdaEvent().deferReply(ephemeral).complete();
+        }
     }
 
     /// No-op acknowledgement of this interaction.
@@ -38,7 +42,9 @@ public final class ModalEvent extends ReplyableEvent<ModalInteractionEvent> {
     ///
     /// Use [#reply(String, Entry...)] to edit it directly.
     public void deferEdit() {
-        jdaEvent().deferEdit().complete();
+        if (scopedAcknowledgement().claim()) {
+            jdaEvent().deferEdit().complete();
+        }
     }
 
     /// Returns a List of [ModalMappings][ModalMapping] representing the values
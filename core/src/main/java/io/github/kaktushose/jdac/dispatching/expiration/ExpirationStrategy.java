@@ -8,8 +8,10 @@ import io.github.kaktushose.jdac.dispatching.events.Event;
 /// - [Inactivity]: closes a [`Runtime`]({@docRoot}/index.html#runtime-concept-heading) after the passed amount of time
 /// - [Explicit]: **Only** closes a runtime when [Event#closeRuntime()] is called.
 ///
-/// @implNote The [Inactivity] strategy will check all active [`Runtimes`]({@docRoot}/index.html#runtime-concept-heading) at every incoming jda event. If a
-/// [`Runtime`]({@docRoot}/index.html#runtime-concept-heading) didn't handle any events in the last *x* minutes, it will be closed.
+/// @implNote The [Inactivity] strategy is enforced by a background scheduler, which wakes up when the earliest
+/// [`Runtime`]({@docRoot}/index.html#runtime-concept-heading) becomes due. If a [`Runtime`]({@docRoot}/index.html#runtime-concept-heading)
+/// didn't handle any events in the last *x* minutes, it will be closed. Incoming jda events don't have to check the other
+/// runtimes anymore.
 public sealed interface ExpirationStrategy {
 
     /// Default [ExpirationStrategy] of [Inactivity], that closes [`Runtimes`]({@docRoot}/index.html#runtime-concept-heading) after *15* minutes of inactivity.
@@ -0,0 +1,135 @@
+package io.github.kaktushose.jdac.dispatching.expiration.internal;
+
+import io.github.kaktushose.jdac.dispatching.Runtime;
+import io.github.kaktushose.jdac.dispatching.expiration.ExpirationStrategy;
+import io.github.kaktushose.jdac.internal.logging.JDACLogger;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/// Closes [Runtime]s in the background according to the [ExpirationStrategy.Inactivity] strategy.
+///
+/// Every scheduled [Runtime] is put into a [DelayQueue] together with the point in time (in [System#nanoTime()])
+/// it would expire at if it stays inactive. The deadline isn't updated on every event, instead an entry that
+/// became due is checked against [Runtime#lastActivity()] and, if the runtime was active in the meantime,
+/// requeued with its new deadline. Thus, incoming events never pay for the number of open runtimes.
+///
+/// If the [ExpirationStrategy.Explicit] strategy is used, no runtime is ever scheduled and no thread is started.
+@ApiStatus.Internal
+public final class ExpirationScheduler {
+
+    private static final Logger log = JDACLogger.getLogger(ExpirationScheduler.class);
+
+    private final DelayQueue<Entry> queue = new DelayQueue<>();
+    private final AtomicLong expired = new AtomicLong();
+    private final AtomicLong maxLag = new AtomicLong();
+    private final long timeout;
+    private volatile long lastLag;
+    private @Nullable Thread thread;
+
+    public ExpirationScheduler(ExpirationStrategy strategy) {
+        this.timeout = switch (strategy) {
+            case ExpirationStrategy.Inactivity(long afterMinutes) -> TimeUnit.MINUTES.toNanos(afterMinutes);
+            case ExpirationStrategy.Explicit _ -> -1;
+        };
+    }
+
+    /// Starts the background thread closing expired runtimes.
+    public synchronized void start() {
+        if (timeout < 0 || thread != null) {
+            return;
+        }
+        thread = Thread.ofVirtual()
+                .name("JDAC Expiration-Thread")
+                .uncaughtExceptionHandler((_, e) -> log.error("Error in JDA-Commands runtime expiration:", e))
+                .start(this::run);
+    }
+
+    /// Stops the background thread. Already scheduled runtimes won't be closed.
+    public synchronized void shutdown() {
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+        queue.clear();
+    }
+
+    /// Schedules the given [Runtime] for expiration. Does nothing if [ExpirationStrategy.Explicit] is used.
+    ///
+    /// @param runtime the [Runtime] to schedule
+    public void schedule(Runtime runtime) {
+        if (timeout < 0) {
+            return;
+        }
+        queue.add(new Entry(runtime, runtime.lastActivity() + timeout));
+    }
+
+    /// @return the amount of runtimes closed by this scheduler
+    public long expired() {
+        return expired.get();
+    }
+
+    /// @return the delay between the deadline and the actual closing of the last expired runtime
+    public Duration lastLag() {
+        return Duration.ofNanos(lastLag);
+    }
+
+    /// @return the biggest delay between the deadline and the actual closing of an expired runtime
+    public Duration maxLag() {
+        return Duration.ofNanos(maxLag.get());
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                expire(queue.take());
+            }
+        } catch (InterruptedException _) {
+        }
+        log.debug("Expiration scheduler stopped");
+    }
+
+    private void expire(Entry entry) {
+        Runtime runtime = entry.runtime();
+        if (runtime.isClosed()) {
+            return;
+        }
+
+        long deadline = runtime.lastActivity() + timeout;
+        long now = System.nanoTime();
+        if (deadline - now > 0) {
+            queue.add(new Entry(runtime, deadline));
+            return;
+        }
+
+        long lag = now - deadline;
+        lastLag = lag;
+        maxLag.accumulateAndGet(lag, Math::max);
+        expired.incrementAndGet();
+
+        log.debug("Closing runtime {} after inactivity [lag={}ms]", runtime.id(), TimeUnit.NANOSECONDS.toMillis(lag));
+        runtime.close();
+    }
+
+    private record Entry(Runtime runtime, long deadline) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            if (o instanceof Entry other) {
+                return Long.compare(deadline - other.deadline, 0);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -10,9 +10,11 @@ import io.github.kaktushose.jdac.dispatching.handling.command.SlashCommandHandle
 import io.github.kaktushose.jdac.dispatching.middleware.Middleware;
 import io.github.kaktushose.jdac.dispatching.middleware.Priority;
 import io.github.kaktushose.jdac.dispatching.middleware.internal.Middlewares;
+import io.github.kaktushose.jdac.dispatching.reply.internal.Acknowledgement;
 import io.github.kaktushose.jdac.dispatching.reply.internal.ReplyAction;
 import io.github.kaktushose.jdac.embeds.error.ErrorMessageFactory;
 import io.github.kaktushose.jdac.internal.Helpers;
+import io.github.kaktushose.jdac.message.i18n.internal.BundleFinder;
 import io.github.kaktushose.jdac.property.JDACProperty;
 import io.github.kaktushose.jdac.property.JDACScope;
 import io.github.kaktushose.jdac.property.events.InteractionFinishedEvent;
@@ -43,6 +45,10 @@ import java.util.function.BiConsumer;
 ///
 /// 3. Invocation ([EventHandler#invoke(InvocationContext, Runtime, JDACIntrospectionImpl)]):
 /// In this step the user implemented method is called with help of the right [InteractionDefinition]
+///
+/// [EventHandler]s don't hold any runtime specific state. Only one instance per type is created for each
+/// [io.github.kaktushose.jdac.JDACommands] instance, see [EventHandlers]. Everything belonging to a [Runtime] is passed
+/// as an argument or accessed through the scoped introspection.
 @ApiStatus.Internal
 public abstract sealed class EventHandler<T extends GenericInteractionCreateEvent>
         implements BiConsumer<T, Runtime>
@@ -52,15 +58,17 @@ public abstract sealed class EventHandler<T extends GenericInteractionCreateEven
 
     public static final Logger log = LoggerFactory.getLogger(EventHandler.class);
 
-    protected final JDACIntrospectionImpl runtimeIntrospection;
+    protected final JDACIntrospectionImpl introspection;
     protected final InteractionRegistry interactionRegistry;
     protected final ErrorMessageFactory errorMessageFactory;
+    private final BundleFinder bundleFinder;
 
-    public EventHandler(JDACIntrospectionImpl runtimeIntrospection) {
-        this.runtimeIntrospection = runtimeIntrospection;
+    public EventHandler(JDACIntrospectionImpl introspection) {
+        this.introspection = introspection;
 
-        this.interactionRegistry = runtimeIntrospection.get(JDACInternalProperties.INTERACTION_REGISTRY);
-        this.errorMessageFactory = runtimeIntrospection.get(JDACProperty.ERROR_MESSAGE_FACTORY);
+        this.interactionRegistry = introspection.get(JDACInternalProperties.INTERACTION_REGISTRY);
+        this.errorMessageFactory = introspection.get(JDACProperty.ERROR_MESSAGE_FACTORY);
+        this.bundleFinder = introspection.get(JDACInternalProperties.BUNDLE_FINDER);
     }
 
     @Nullable protected abstract PreparationResult prepare(T event, Runtime runtime);
@@ -69,7 +77,7 @@ public abstract sealed class EventHandler<T extends GenericInteractionCreateEven
     public final void accept(T e, Runtime runtime) {
         log.debug("Got event {}", e);
 
-        JDACIntrospectionImpl preparationIntrospection = runtimeIntrospection.createChild(JDACScope.PREPARATION)
+        JDACIntrospectionImpl preparationIntrospection = runtime.introspection().createChild(JDACScope.PREPARATION)
                 .addFallback(JDACProperty.JDA_EVENT, _ -> e)
                 .build();
 
@@ -86,26 +94,45 @@ public abstract sealed class EventHandler<T extends GenericInteractionCreateEven
                         Helpers.replyConfig(preparationResult.definition, preparationIntrospection.get(JDACProperty.GLOBAL_REPLY_CONFIG)),
                         preparationResult.rawArguments);
 
+        Acknowledgement acknowledgement = Acknowledgement.create(
+                e,
+                invocationContext.replyConfig(),
+                preparationIntrospection.get(JDACProperty.ACKNOWLEDGEMENT_STRATEGY)
+        );
+
         JDACIntrospectionImpl interactionIntrospection = preparationIntrospection.createChild(JDACScope.INTERACTION)
                 .addFallback(JDACProperty.INVOCATION_CONTEXT, _ -> invocationContext)
+                .addFallback(JDACInternalProperties.ACKNOWLEDGEMENT, _ -> acknowledgement)
                 .build();
 
-        ScopedValue.where(JDACIntrospectionImpl.INTROSPECTION, interactionIntrospection).run(() -> {
-            log.debug("Executing middlewares...");
+        try {
+            ScopedValue.where(JDACIntrospectionImpl.INTROSPECTION, interactionIntrospection)
+                    .where(BundleFinder.INTERACTION, bundleFinder.interaction(invocationContext.definition()))
+                    .run(() -> execute(invocationContext, runtime, interactionIntrospection));
+        } finally {
+            acknowledgement.finish();
+        }
+    }
 
-            Middlewares middlewares = JDACInternalProperties.MIDDLEWARES.scopedGet();
-            middlewares.forOrdered(invocationContext.definition().classDescription().clazz(), middleware -> {
-                log.debug("Executing middleware {}", middleware.getClass().getSimpleName());
-                middleware.accept(invocationContext);
-            });
+    private void execute(InvocationContext<T> invocationContext, Runtime runtime, JDACIntrospectionImpl interactionIntrospection) {
+        log.debug("Executing middlewares...");
 
-            if (Thread.interrupted()) {
-                log.debug("Interaction execution cancelled by middleware");
-                return;
+        Middlewares middlewares = JDACInternalProperties.MIDDLEWARES.scopedGet();
+        Middleware[] chain = middlewares.chain(invocationContext.definition().classDescription().clazz(), invocationContext.event().getType());
+        for (Middleware middleware : chain) {
+            log.debug("Executing middleware {}", middleware.getClass().getSimpleName());
+            middleware.accept(invocationContext);
+            if (Thread.currentThread().isInterrupted()) {
+                break;
             }
+        }
+
+        if (Thread.interrupted()) {
+            log.debug("Interaction execution cancelled by middleware");
+            return;
+        }
 
-            invoke(invocationContext, runtime, interactionIntrospection);
-        });
+        invoke(invocationContext, runtime, interactionIntrospection);
     }
 
     private void invoke(InvocationContext<T> invocation, Runtime runtime, JDACIntrospectionImpl introspection) {
@@ -0,0 +1,61 @@
+package io.github.kaktushose.jdac.dispatching.handling;
+
+import io.github.kaktushose.jdac.dispatching.Runtime;
+import io.github.kaktushose.jdac.dispatching.handling.command.ContextCommandHandler;
+import io.github.kaktushose.jdac.dispatching.handling.command.SlashCommandHandler;
+import io.github.kaktushose.jdac.exceptions.InternalException;
+import io.github.kaktushose.jdac.property.internal.JDACIntrospectionImpl;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.GenericContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.GenericComponentInteractionCreateEvent;
+import org.jetbrains.annotations.ApiStatus;
+
+/// Bundles one instance of every [EventHandler], shared by all [Runtime]s of a
+/// [io.github.kaktushose.jdac.JDACommands] instance.
+///
+/// @param slashCommandHandler   the [SlashCommandHandler]
+/// @param autoCompleteHandler   the [AutoCompleteHandler]
+/// @param contextCommandHandler the [ContextCommandHandler]
+/// @param componentHandler      the [ComponentHandler]
+/// @param modalHandler          the [ModalHandler]
+@ApiStatus.Internal
+public record EventHandlers(
+        SlashCommandHandler slashCommandHandler,
+        AutoCompleteHandler autoCompleteHandler,
+        ContextCommandHandler contextCommandHandler,
+        ComponentHandler componentHandler,
+        ModalHandler modalHandler
+) {
+
+    /// Creates all [EventHandler]s.
+    ///
+    /// @param introspection the [JDACIntrospectionImpl] of the [io.github.kaktushose.jdac.JDACommands] instance
+    /// @return the created [EventHandlers]
+    public static EventHandlers create(JDACIntrospectionImpl introspection) {
+        return new EventHandlers(
+                new SlashCommandHandler(introspection),
+                new AutoCompleteHandler(introspection),
+                new ContextCommandHandler(introspection),
+                new ComponentHandler(introspection),
+                new ModalHandler(introspection)
+        );
+    }
+
+    /// Passes the given event to the matching [EventHandler].
+    ///
+    /// @param incomingEvent the [GenericInteractionCreateEvent] to handle
+    /// @param runtime       the [Runtime] the event belongs to
+    public void accept(GenericInteractionCreateEvent incomingEvent, Runtime runtime) {
+        switch (incomingEvent) {
+            case SlashCommandInteractionEvent event -> slashCommandHandler.accept(event, runtime);
+            case GenericContextInteractionEvent<?> event -> contextCommandHandler.accept(event, runtime);
+            case CommandAutoCompleteInteractionEvent event -> autoCompleteHandler.accept(event, runtime);
+            case GenericComponentInteractionCreateEvent event -> componentHandler.accept(event, runtime);
+            case ModalInteractionEvent event -> modalHandler.accept(event, runtime);
+            default -> throw new InternalException("default-switch");
+        }
+    }
+}
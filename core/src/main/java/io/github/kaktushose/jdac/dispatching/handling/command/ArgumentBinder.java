@@ -0,0 +1,180 @@
+package io.github.kaktushose.jdac.dispatching.handling.command;
+
+import io.github.kaktushose.jdac.definitions.interactions.command.OptionDataDefinition;
+import io.github.kaktushose.jdac.definitions.interactions.command.SlashCommandDefinition;
+import io.github.kaktushose.jdac.exceptions.InternalException;
+import io.github.kaktushose.jdac.internal.logging.JDACLogger;
+import io.github.kaktushose.proteus.Proteus;
+import io.github.kaktushose.proteus.conversion.ConversionResult;
+import io.github.kaktushose.proteus.type.Type;
+import net.dv8tion.jda.api.entities.*;
+import net.dv8tion.jda.api.entities.channel.unions.GuildChannelUnion;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.github.kaktushose.jdac.message.placeholder.Entry.entry;
+
+/// Binds the options of a [SlashCommandInteractionEvent] to the arguments of a [SlashCommandDefinition].
+///
+/// Everything that only depends on the [SlashCommandDefinition], like the option names, the target [Type]s and the
+/// default values of missing options, is resolved once when compiling the binder. Options whose value already has
+/// the target type are passed through directly, all others are converted with [Proteus].
+final class ArgumentBinder {
+
+    private static final Logger log = JDACLogger.getLogger(ArgumentBinder.class);
+
+    private static final Map<Class<?>, Object> DEFAULT_MAPPINGS = Map.of(
+            byte.class, ((byte) 0),
+            short.class, ((short) 0),
+            int.class, 0,
+            long.class, 0L,
+            double.class, 0.0d,
+            float.class, 0.0f,
+            boolean.class, false,
+            char.class, '\u0000',
+            Optional.class, Optional.empty()
+    );
+
+    private static final Map<Class<?>, Type<Object>> SOURCE_TYPES = Map.of(
+            String.class, type(String.class),
+            Long.class, type(Long.class),
+            Boolean.class, type(Boolean.class),
+            Member.class, type(Member.class),
+            User.class, type(User.class),
+            GuildChannelUnion.class, type(GuildChannelUnion.class),
+            Role.class, type(Role.class),
+            IMentionable.class, type(IMentionable.class),
+            Double.class, type(Double.class),
+            Message.Attachment.class, type(Message.Attachment.class)
+    );
+
+    private final Binding[] bindings;
+
+    private ArgumentBinder(Binding[] bindings) {
+        this.bindings = bindings;
+    }
+
+    /// Compiles an [ArgumentBinder] for the given [SlashCommandDefinition].
+    ///
+    /// @param command the [SlashCommandDefinition] to compile the binder for
+    /// @return the compiled [ArgumentBinder]
+    static ArgumentBinder compile(SlashCommandDefinition command) {
+        List<OptionDataDefinition> options = List.copyOf(command.commandOptions());
+        Binding[] bindings = new Binding[options.size()];
+        for (int i = 0; i < bindings.length; i++) {
+            OptionDataDefinition option = options.get(i);
+            bindings[i] = new Binding(
+                    option.name(),
+                    option.resolvedType(),
+                    type(option.resolvedType()),
+                    DEFAULT_MAPPINGS.get(option.declaredType()),
+                    option.declaredType().equals(Optional.class)
+            );
+        }
+        return new ArgumentBinder(bindings);
+    }
+
+    /// Creates a new argument array sized for the method of the command. The first slot is reserved for the
+    /// [io.github.kaktushose.jdac.dispatching.events.interactions.CommandEvent].
+    ///
+    /// @return a new argument array
+    @Nullable Object[] newArguments() {
+        return new Object[bindings.length + 1];
+    }
+
+    /// Binds the options of the given [SlashCommandInteractionEvent], starting at index 1 of the argument array.
+    ///
+    /// @param event     the [SlashCommandInteractionEvent] to bind the options of
+    /// @param arguments the argument array created by [#newArguments()]
+    /// @return the [ConversionResult.Failure] of the first option that couldn't be converted or `null` if all
+    /// options were bound
+    ConversionResult.@Nullable Failure<?> bind(SlashCommandInteractionEvent event, @Nullable Object[] arguments) {
+        Proteus proteus = Proteus.global();
+        for (int i = 0; i < bindings.length; i++) {
+            Binding binding = bindings[i];
+            OptionMapping mapping = event.getOption(binding.name());
+            if (mapping == null) {
+                arguments[i + 1] = binding.defaultValue();
+                continue;
+            }
+
+            Object value = value(mapping);
+            Class<?> source = sourceClass(mapping, value);
+            Object converted;
+            if (source == binding.resolvedType()) {
+                converted = value;
+            } else {
+                log.debug("Trying to adapt input '{}' as type '{}' to type '{}'", mapping, source, binding.resolvedType());
+                switch (proteus.convert(value, SOURCE_TYPES.get(source), binding.target())) {
+                    case ConversionResult.Success<Object>(Object success, boolean _) -> converted = success;
+                    case ConversionResult.Failure<Object> failure -> {
+                        switch (failure.errorType()) {
+                            case MAPPING_FAILED -> {
+                                return failure;
+                            }
+                            default -> throw new InternalException(
+                                    "proteus-error", entry("message", failure.detailedMessage())
+                            );
+                        }
+                    }
+                }
+            }
+            arguments[i + 1] = binding.optional() ? Optional.of(converted) : converted;
+        }
+        return null;
+    }
+
+    // the type of the value before conversion, mirrors the types used by OptionDataDefinition
+    private static Class<?> sourceClass(OptionMapping mapping, Object value) {
+        return switch (mapping.getType()) {
+            case STRING -> String.class;
+            case INTEGER -> Long.class;
+            case BOOLEAN -> Boolean.class;
+            case USER -> value instanceof Member ? Member.class : User.class;
+            case CHANNEL -> GuildChannelUnion.class;
+            case ROLE -> Role.class;
+            case MENTIONABLE -> IMentionable.class;
+            case NUMBER -> Double.class;
+            case ATTACHMENT -> Message.Attachment.class;
+            case UNKNOWN, SUB_COMMAND, SUB_COMMAND_GROUP -> throw new InternalException(
+                    "invalid-option-type", entry("type", mapping.getType().name())
+            );
+        };
+    }
+
+    private static Object value(OptionMapping mapping) {
+        return switch (mapping.getType()) {
+            case STRING -> mapping.getAsString();
+            case INTEGER -> mapping.getAsLong();
+            case BOOLEAN -> mapping.getAsBoolean();
+            case USER -> {
+                Member member = mapping.getAsMember();
+                if (member == null) {
+                    yield mapping.getAsUser();
+                }
+                yield member;
+            }
+            case CHANNEL -> mapping.getAsChannel();
+            case ROLE -> mapping.getAsRole();
+            case MENTIONABLE -> mapping.getAsMentionable();
+            case NUMBER -> mapping.getAsDouble();
+            case ATTACHMENT -> mapping.getAsAttachment();
+            case UNKNOWN, SUB_COMMAND, SUB_COMMAND_GROUP -> throw new InternalException(
+                    "invalid-option-type", entry("type", mapping.getName())
+            );
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Type<Object> type(Class<?> klass) {
+        return (Type<Object>) Type.of(klass);
+    }
+
+    private record Binding(String name, Class<?> resolvedType, Type<Object> target, @Nullable Object defaultValue, boolean optional) { }
+}
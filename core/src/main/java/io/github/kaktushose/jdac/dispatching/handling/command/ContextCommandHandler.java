@@ -22,8 +22,11 @@ public final class ContextCommandHandler extends EventHandler<GenericContextInte
 
     @Override
     protected PreparationResult prepare(GenericContextInteractionEvent<?> event, Runtime runtime) {
-        CommandDefinition command = interactionRegistry.find(ContextCommandDefinition.class, true, it ->
-                it.name().equals(event.getFullCommandName())
+        CommandDefinition command = interactionRegistry.findCommand(
+                ContextCommandDefinition.class,
+                true,
+                event.getCommandType(),
+                event.getFullCommandName()
         );
 
         Object target = event.getTarget();
@@ -4,6 +4,7 @@ package io.github.kaktushose.jdac.dispatching.middleware;
 import io.github.kaktushose.jdac.annotations.IntrospectionAccess;
 import io.github.kaktushose.jdac.dispatching.context.InvocationContext;
 import io.github.kaktushose.jdac.property.JDACScope;
+import net.dv8tion.jda.api.interactions.InteractionType;
 import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import org.jspecify.annotations.Nullable;
 
@@ -19,7 +20,11 @@ import java.util.function.Consumer;
 /// annotation of the guice extension.
 ///
 /// If you want a [Middleware] to only run for certain interaction controllers, just implement [#runFor()]
-/// returning the classes of the interaction controllers for which the middleware should run.
+/// returning the classes of the interaction controllers for which the middleware should run. Likewise, implement
+/// [#interactionTypes()] to only run for certain [InteractionType]s, e.g. to skip auto complete interactions.
+///
+/// Both methods are only called once after the interaction controllers have been indexed, the resulting chain of
+/// middlewares is reused for every interaction.
 ///
 /// ### Example
 /// ```java
@@ -68,4 +73,13 @@ public interface Middleware extends Consumer<InvocationContext<?>> {
     @Nullable default Collection<Class<?>> runFor() {
         return null;
     }
+
+    /// Declares the [InteractionType]s for which this middleware should run.
+    ///
+    /// If this method returns `null`, then this [Middleware] runs for all [InteractionType]s.
+    ///
+    /// @return the [InteractionType]s or null (run for all [InteractionType]s)
+    @Nullable default Collection<InteractionType> interactionTypes() {
+        return null;
+    }
 }
@@ -1,90 +1,82 @@
 package io.github.kaktushose.jdac.dispatching.middleware.impl;
 
-import io.github.kaktushose.jdac.annotations.constraints.Constraint;
 import io.github.kaktushose.jdac.definitions.interactions.command.SlashCommandDefinition;
 import io.github.kaktushose.jdac.dispatching.context.InvocationContext;
-import io.github.kaktushose.jdac.dispatching.events.Event;
 import io.github.kaktushose.jdac.dispatching.middleware.Middleware;
 import io.github.kaktushose.jdac.dispatching.validation.Validator;
 import io.github.kaktushose.jdac.dispatching.validation.internal.Validators;
 import io.github.kaktushose.jdac.embeds.error.ErrorMessageFactory;
+import io.github.kaktushose.jdac.exceptions.InternalException;
 import io.github.kaktushose.jdac.internal.logging.JDACLogger;
-import io.github.kaktushose.proteus.Proteus;
-import io.github.kaktushose.proteus.conversion.ConversionResult;
-import io.github.kaktushose.proteus.type.Type;
+import net.dv8tion.jda.api.interactions.InteractionType;
 import org.slf4j.Logger;
 
-import java.lang.annotation.Annotation;
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /// A [Middleware] implementation that will check the parameter constraints a [SlashCommandDefinition] might have.
 ///
+/// The constraints of each command are compiled into a [ValidationPlan] on startup, see [#index(Collection)]. Thus, a
+/// constraint that doesn't support the type of its option fails the startup, even if the option is optional and
+/// never passed. Commands without any constraints to check are skipped right away.
+///
 /// @see Validators ValidatorRegistry
 public class ConstraintMiddleware implements Middleware {
 
     private static final Logger log = JDACLogger.getLogger(ConstraintMiddleware.class);
+    // replaced as a whole by index(...), thus reads don't need any synchronization
+    private volatile Map<Integer, ValidationPlan> plans = Map.of();
     private final ErrorMessageFactory errorMessageFactory;
 
     public ConstraintMiddleware(ErrorMessageFactory errorMessageFactory) {
         this.errorMessageFactory = errorMessageFactory;
     }
 
+    /// Compiles the [ValidationPlan]s of the given [SlashCommandDefinition]s ahead of time.
+    ///
+    /// @param commands all indexed [SlashCommandDefinition]s
+    /// @throws io.github.kaktushose.jdac.exceptions.InvalidDeclarationException if a constraint doesn't support the
+    ///                                                                          type of its option
+    public void index(Collection<SlashCommandDefinition> commands) {
+        Map<Integer, ValidationPlan> compiled = new HashMap<>();
+        for (SlashCommandDefinition command : commands) {
+            compiled.put(command.definitionHash(), ValidationPlan.compile(command));
+        }
+        plans = Map.copyOf(compiled);
+    }
+
     /// Checks if all parameters fulfill their constraints. Will cancel the [InvocationContext] if a parameter
     /// constraint fails.
     ///
     /// @param context the [InvocationContext] to filter
-    @SuppressWarnings("unchecked")
     @Override
     public void accept(InvocationContext<?> context) {
         if (!(context.definition() instanceof SlashCommandDefinition command)) {
             return;
         }
 
-        var arguments = new ArrayList<>(context.arguments());
-        arguments.removeIf(Event.class::isInstance);
-        var commandOptions = List.copyOf(command.commandOptions());
-
-        Validator.Context validatorContext = new Validator.Context(context, errorMessageFactory);
+        ValidationPlan plan = plans.get(command.definitionHash());
+        if (plan == null) {
+            throw new InternalException("no-interaction-found");
+        }
+        if (plan.isEmpty()) {
+            return;
+        }
 
         log.debug("Applying parameter constraints...");
-        for (int i = 0; i < arguments.size(); i++) {
-
-            var argument = arguments.get(i);
-
-            // an argument that is null cannot be validated
-            if (argument == null) {
-                continue;
-            }
-
-            var optionData = commandOptions.get(i);
-            for (var constraint : optionData.constraints().stream().filter(it -> !it.discordHandled()).toList()) {
-                log.debug("Found constraint {} for parameter {}", constraint, optionData.declaredType().getName());
-                Validator<Object, Annotation> validator = (Validator<Object, Annotation>) constraint.validator();
-
-                // TODO better exception
-                Constraint constraintAnn = constraint.annotation().annotation(Constraint.class);
-                Class<?>[] supportedTypes = constraintAnn.value();
-                Object converted = Arrays.stream(supportedTypes)
-                        .map(klass -> Proteus.global().convert(argument, Type.dynamic(argument), Type.of(klass)))
-                        .filter(ConversionResult.Success.class::isInstance)
-                        .findAny()
-                        .map(result -> ((ConversionResult.Success<?>) result).value())
-                        .orElseThrow(() ->
-                                new IllegalArgumentException("Couldn't convert value (type: %s) of option %s of command %s to any of the following types supported by @%s: %s".formatted(
-                                        argument.getClass().getName(), optionData.name(), command.name(), constraint.annotation().type().getName(), Arrays.stream(supportedTypes).map(Class::getName).collect(Collectors.joining(", "))
-                                ))
-                        );
-
-                validator.apply(converted, constraint.annotation().value(), validatorContext);
-
-                if (context.cancelled()) {
-                    return;
-                }
-            }
+        plan.validate(context, new Validator.Context(context, errorMessageFactory));
+        if (!context.cancelled()) {
+            log.debug("All constraints passed");
         }
-        log.debug("All constraints passed");
+    }
+
+    /// Only slash commands have options with constraints, thus this middleware only runs for commands.
+    ///
+    /// @return [InteractionType#COMMAND]
+    @Override
+    public Collection<InteractionType> interactionTypes() {
+        return List.of(InteractionType.COMMAND);
     }
 }
@@ -9,8 +9,12 @@ import io.github.kaktushose.jdac.permissions.PermissionsProvider;
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.interactions.InteractionType;
 import org.slf4j.Logger;
 
+import java.util.Collection;
+import java.util.List;
+
 /// A [Middleware] implementation that will check permissions.
 /// The default implementation can only handle discord permissions. However, the [PermissionsProvider] can be
 /// used for own implementations.
@@ -56,4 +60,13 @@ public class PermissionsMiddleware implements Middleware {
 
         log.debug("All permission checks passed");
     }
+
+    /// Auto complete interactions don't have any permissions, thus this middleware runs for all other
+    /// [InteractionType]s.
+    ///
+    /// @return [InteractionType#COMMAND], [InteractionType#COMPONENT] and [InteractionType#MODAL_SUBMIT]
+    @Override
+    public Collection<InteractionType> interactionTypes() {
+        return List.of(InteractionType.COMMAND, InteractionType.COMPONENT, InteractionType.MODAL_SUBMIT);
+    }
 }
@@ -0,0 +1,150 @@
+package io.github.kaktushose.jdac.dispatching.middleware.impl;
+
+import io.github.kaktushose.jdac.annotations.constraints.Constraint;
+import io.github.kaktushose.jdac.definitions.interactions.command.OptionDataDefinition;
+import io.github.kaktushose.jdac.definitions.interactions.command.OptionDataDefinition.ConstraintDefinition;
+import io.github.kaktushose.jdac.definitions.interactions.command.SlashCommandDefinition;
+import io.github.kaktushose.jdac.dispatching.context.InvocationContext;
+import io.github.kaktushose.jdac.dispatching.validation.Validator;
+import io.github.kaktushose.jdac.exceptions.InvalidDeclarationException;
+import io.github.kaktushose.proteus.Proteus;
+import io.github.kaktushose.proteus.conversion.ConversionResult;
+import io.github.kaktushose.proteus.type.Type;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static io.github.kaktushose.jdac.message.placeholder.Entry.entry;
+
+/// The constraints of a [SlashCommandDefinition] flattened into an array of [Step]s.
+///
+/// Everything that only depends on the [SlashCommandDefinition], like the index of the argument, the [Validator], the
+/// constraint annotation and the type supported by the constraint to convert the argument to, is resolved once when
+/// compiling the plan. Constraints handled by Discord itself are left out.
+///
+/// The conversion path is searched from the [resolved type][OptionDataDefinition#resolvedType()] of the option, not
+/// from the runtime type of each argument. Thus, a constraint whose supported types can't be reached from the option
+/// type is detected when compiling the plan, regardless of whether the option is ever passed.
+final class ValidationPlan {
+
+    /// A [ValidationPlan] without any [Step]s.
+    static final ValidationPlan EMPTY = new ValidationPlan(new Step[0]);
+
+    private final Step[] steps;
+
+    private ValidationPlan(Step[] steps) {
+        this.steps = steps;
+    }
+
+    /// Compiles a [ValidationPlan] for the given [SlashCommandDefinition].
+    ///
+    /// @param command the [SlashCommandDefinition] to compile the plan for
+    /// @return the compiled [ValidationPlan] or [#EMPTY] if the command has no constraints to check
+    /// @throws InvalidDeclarationException if the type of an option can't be converted to any type supported by its constraint
+    @SuppressWarnings("unchecked")
+    static ValidationPlan compile(SlashCommandDefinition command) {
+        List<Step> steps = new ArrayList<>();
+        // the first argument is always the CommandEvent
+        int index = 1;
+        for (OptionDataDefinition option : command.commandOptions()) {
+            for (ConstraintDefinition constraint : option.constraints()) {
+                if (constraint.discordHandled()) {
+                    continue;
+                }
+                steps.add(new Step(
+                        index,
+                        (Validator<Object, Annotation>) constraint.validator(),
+                        constraint.annotation().value(),
+                        conversion(command, option, constraint)
+                ));
+            }
+            index++;
+        }
+        return steps.isEmpty() ? EMPTY : new ValidationPlan(steps.toArray(Step[]::new));
+    }
+
+    // the first supported type the argument can be converted to, null if the argument can be passed as is
+    private static @Nullable Conversion conversion(SlashCommandDefinition command, OptionDataDefinition option, ConstraintDefinition constraint) {
+        Class<?>[] supportedTypes = constraint.annotation().annotation(Constraint.class).value();
+        Type<Object> source = type(option.resolvedType());
+        for (Class<?> klass : supportedTypes) {
+            if (klass.isAssignableFrom(option.resolvedType())) {
+                return null;
+            }
+            Type<Object> target = type(klass);
+            if (Proteus.global().existsPath(source, target)) {
+                return new Conversion(source, target);
+            }
+        }
+        throw new InvalidDeclarationException(
+                "validator-type-not-supported",
+                entry("annotation", constraint.annotation().type().getName()),
+                entry("parameter", "%s (command %s)".formatted(option.name(), command.name())),
+                entry("supportedTypes", Arrays.stream(supportedTypes).map(Class::getName).collect(Collectors.joining(", ")))
+        );
+    }
+
+    /// Whether this plan has no [Step]s.
+    ///
+    /// @return `true` if there is nothing to validate
+    boolean isEmpty() {
+        return steps.length == 0;
+    }
+
+    /// Executes this plan, stopping at the first [Validator] that cancels the [InvocationContext].
+    ///
+    /// @param context          the [InvocationContext] holding the arguments to validate
+    /// @param validatorContext the [Validator.Context] to pass to the [Validator]s
+    void validate(InvocationContext<?> context, Validator.Context validatorContext) {
+        @Nullable Object[] arguments = context.rawArguments().toArray();
+        for (Step step : steps) {
+            Object argument = arguments[step.index()];
+            if (argument instanceof Optional<?> optional) {
+                argument = optional.orElse(null);
+            }
+
+            // an argument that is null cannot be validated
+            if (argument == null) {
+                continue;
+            }
+
+            step.validator().apply(step.convert(argument), step.annotation(), validatorContext);
+
+            if (context.cancelled()) {
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Type<Object> type(Class<?> klass) {
+        return (Type<Object>) Type.of(klass);
+    }
+
+    private record Step(int index,
+                        Validator<Object, Annotation> validator,
+                        Annotation annotation,
+                        @Nullable Conversion conversion) {
+
+        private Object convert(Object argument) {
+            if (conversion == null) {
+                return argument;
+            }
+            return switch (Proteus.global().convert(argument, conversion.source(), conversion.target())) {
+                case ConversionResult.Success<Object>(Object value, boolean _) -> value;
+                case ConversionResult.Failure<Object> failure -> throw new IllegalArgumentException(
+                        "Couldn't convert value (type: %s) to %s: %s".formatted(
+                                argument.getClass().getName(), conversion.target(), failure.detailedMessage()
+                        )
+                );
+            };
+        }
+    }
+
+    private record Conversion(Type<Object> source, Type<Object> target) { }
+}
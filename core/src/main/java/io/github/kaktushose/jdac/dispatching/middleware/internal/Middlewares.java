@@ -1,24 +1,39 @@
 package io.github.kaktushose.jdac.dispatching.middleware.internal;
 
+import io.github.kaktushose.jdac.definitions.interactions.command.SlashCommandDefinition;
 import io.github.kaktushose.jdac.dispatching.middleware.Middleware;
 import io.github.kaktushose.jdac.dispatching.middleware.Priority;
 import io.github.kaktushose.jdac.dispatching.middleware.impl.ConstraintMiddleware;
 import io.github.kaktushose.jdac.dispatching.middleware.impl.PermissionsMiddleware;
 import io.github.kaktushose.jdac.embeds.error.ErrorMessageFactory;
+import io.github.kaktushose.jdac.internal.logging.JDACLogger;
 import io.github.kaktushose.jdac.permissions.PermissionsProvider;
+import net.dv8tion.jda.api.interactions.InteractionType;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
 
 import java.util.*;
-import java.util.function.Consumer;
+import java.util.concurrent.ConcurrentHashMap;
 
 /// Central registry for all [Middleware]s.
+///
+/// For each interaction controller the [Middleware]s to run are flattened into an array per [InteractionType] once
+/// after indexing, see [#index(Collection)]. Interaction controllers without any controller specific [Middleware]
+/// share the same chain.
 public class Middlewares {
 
+    private static final Logger log = JDACLogger.getLogger(Middlewares.class);
+
     private final SortedMap<Priority, Set<Middleware>> middlewares;
+    private final Map<Class<?>, Chain> chains = new ConcurrentHashMap<>();
+    private final Chain defaultChain;
+    private final ConstraintMiddleware constraintMiddleware;
 
     public Middlewares(Collection<Map.Entry<Priority, Middleware>> userDefined, ErrorMessageFactory errorMessageFactory, PermissionsProvider permissionsProvider) {
+        this.constraintMiddleware = new ConstraintMiddleware(errorMessageFactory);
         SortedMap<Priority, Set<Middleware>> middlewareMap = new TreeMap<>(Map.of(
                 Priority.HIGHEST, new HashSet<>(List.of(new PermissionsMiddleware(permissionsProvider, errorMessageFactory))),
-                Priority.NORMAL, new HashSet<>(List.of(new ConstraintMiddleware(errorMessageFactory))),
+                Priority.NORMAL, new HashSet<>(List.of(constraintMiddleware)),
                 Priority.HIGH, new HashSet<>(),
                 Priority.LOW, new HashSet<>()
         ));
@@ -31,33 +46,67 @@ public class Middlewares {
         middlewareMap.computeIfPresent(Priority.LOW, (_, set) -> Collections.unmodifiableSet(set));
 
         this.middlewares = Collections.unmodifiableSortedMap(middlewareMap);
+        this.defaultChain = Chain.of(ordered(null));
     }
 
-    /// Executed the given task for all registered [Middleware]s ordered by their [Priority]
+    /// Compiles the chains of [Middleware]s for the given interaction controllers and the constraints of the given
+    /// slash commands ahead of time.
     ///
-    /// @param task The task to be executed
-    public void forAllOrdered(Consumer<Middleware> task) {
+    /// @param controllerClasses the classes of all indexed interaction controllers
+    /// @param commands          all indexed [SlashCommandDefinition]s
+    public void index(Collection<Class<?>> controllerClasses, Collection<SlashCommandDefinition> commands) {
+        constraintMiddleware.index(commands);
+        controllerClasses.forEach(controllerClass -> chains.computeIfAbsent(controllerClass, this::compile));
+        log.debug("Compiled middleware chains for {} interaction controller(s)", controllerClasses.size());
+    }
+
+    /// Gets the [Middleware]s that should run for this interaction controller and [InteractionType] ordered by
+    /// their [Priority].
+    ///
+    /// @param controllerClass the interaction controllers class
+    /// @param type            the [InteractionType] of the interaction
+    /// @return the [Middleware]s to execute in order, the returned array must not be modified
+    public Middleware[] chain(Class<?> controllerClass, InteractionType type) {
+        return chains.computeIfAbsent(controllerClass, this::compile).forType(type);
+    }
+
+    private Chain compile(Class<?> controllerClass) {
+        List<Middleware> ordered = ordered(controllerClass);
+        // controllers without any controller specific middleware share the default chain
+        return ordered.equals(defaultChain.middlewares()) ? defaultChain : Chain.of(ordered);
+    }
+
+    private List<Middleware> ordered(@Nullable Class<?> controllerClass) {
+        List<Middleware> ordered = new ArrayList<>();
         for (Set<Middleware> value : middlewares.values()) {
             for (Middleware middleware : value) {
-                task.accept(middleware);
-                if (Thread.currentThread().isInterrupted()) {
-                    return;
+                Collection<Class<?>> runFor = middleware.runFor();
+                if (runFor == null || (controllerClass != null && runFor.contains(controllerClass))) {
+                    ordered.add(middleware);
                 }
             }
         }
+        return ordered;
     }
 
-    /// Executed the given task registered [Middleware]s that should run for this interaction controller
-    /// ordered by their [Priority].
-    ///
-    /// @param controllerClass the interaction controllers class
-    /// @param task            The task to be executed
-    public void forOrdered(Class<?> controllerClass, Consumer<Middleware> task) {
-        forAllOrdered(middleware -> {
-            if (middleware.runFor() == null || middleware.runFor().contains(controllerClass)) {
-                task.accept(middleware);
+    private record Chain(List<Middleware> middlewares, Middleware[][] byType) {
+
+        private static final Middleware[] EMPTY = new Middleware[0];
+
+        private static Chain of(List<Middleware> ordered) {
+            InteractionType[] types = InteractionType.values();
+            Middleware[][] byType = new Middleware[types.length][];
+            for (InteractionType type : types) {
+                Middleware[] chain = ordered.stream()
+                        .filter(middleware -> middleware.interactionTypes() == null || middleware.interactionTypes().contains(type))
+                        .toArray(Middleware[]::new);
+                byType[type.ordinal()] = chain.length == 0 ? EMPTY : chain;
             }
-        });
-    }
+            return new Chain(ordered, byType);
+        }
 
+        private Middleware[] forType(InteractionType type) {
+            return byType[type.ordinal()];
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package io.github.kaktushose.jdac.dispatching.reply;
+
+import io.github.kaktushose.jdac.exceptions.internal.JDACException;
+import net.dv8tion.jda.api.requests.ErrorResponse;
+
+import java.time.Duration;
+
+/// Classes implementing [AcknowledgementStrategy] define how JDA-Commands acknowledges an interaction when replying
+/// to it.
+///
+/// There are two strategies available:
+/// - [Defer]: the interaction is always deferred first, the reply is sent afterward (default)
+/// - [Adaptive]: the reply is sent as the acknowledgement itself if it is ready in time, otherwise the interaction
+///   is deferred automatically shortly before it would expire
+///
+/// Manual acknowledgements, e.g. by calling [io.github.kaktushose.jdac.dispatching.events.ReplyableEvent#deferReply()],
+/// are supported with both strategies.
+///
+/// @implNote Discord only accepts acknowledgements within 3 seconds after the interaction was created, otherwise
+/// [ErrorResponse#UNKNOWN_INTERACTION] is returned. With [Defer], every reply takes two sequential requests before the
+/// user sees it. [Adaptive] only needs one of them, the created message is taken from the callback response of the
+/// interaction.
+public sealed interface AcknowledgementStrategy {
+
+    /// Default [AcknowledgementStrategy] of [Defer].
+    AcknowledgementStrategy DEFER = new Defer();
+
+    /// Creates an [Adaptive] [AcknowledgementStrategy] that defers interactions 2.5 seconds after their creation.
+    ///
+    /// @return a new [Adaptive]
+    static AcknowledgementStrategy adaptive() {
+        return new Adaptive(Duration.ofMillis(2500));
+    }
+
+    /// Creates an [Adaptive] [AcknowledgementStrategy] that defers interactions after the given deadline.
+    ///
+    /// @param deadline the time after the creation of an interaction it gets deferred automatically at
+    /// @return a new [Adaptive]
+    static AcknowledgementStrategy adaptive(Duration deadline) {
+        return new Adaptive(deadline);
+    }
+
+    /// [AcknowledgementStrategy] that defers every interaction just before sending the reply.
+    record Defer() implements AcknowledgementStrategy { }
+
+    /// [AcknowledgementStrategy] that replies directly to every interaction that wasn't acknowledged yet, as long as
+    /// the deadline didn't pass. If the interaction is still unacknowledged when the deadline is reached, it gets
+    /// deferred automatically according to the [io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition.ReplyConfig].
+    ///
+    /// Keep in mind that a [io.github.kaktushose.jdac.annotations.interactions.Modal] can't be sent anymore once the
+    /// interaction was deferred.
+    ///
+    /// The automatic deferral only knows the [io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition.ReplyConfig]
+    /// of the interaction, thus it uses its ephemeral setting. A reply sent after the deadline with a different
+    /// ephemeral setting, e.g. via `event.with().ephemeral(true)`, keeps the ephemeral state of the deferred reply.
+    /// Call [io.github.kaktushose.jdac.dispatching.events.ReplyableEvent#deferReply(boolean)] early if a handler
+    /// replies with a different ephemeral setting and might exceed the deadline.
+    ///
+    /// @param deadline the time after the creation of an interaction it gets deferred automatically at, must be
+    ///                 positive and below 3 seconds
+    record Adaptive(Duration deadline) implements AcknowledgementStrategy {
+        public Adaptive {
+            if (deadline.isNegative() || deadline.isZero() || deadline.compareTo(Duration.ofSeconds(3)) >= 0) {
+                throw new IllegalArgumentException(JDACException.errorMessage("invalid-acknowledgement-deadline"));
+            }
+        }
+    }
+}
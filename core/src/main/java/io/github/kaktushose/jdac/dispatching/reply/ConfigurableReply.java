@@ -3,6 +3,7 @@ package io.github.kaktushose.jdac.dispatching.reply;
 import io.github.kaktushose.jdac.JDACBuilder;
 import io.github.kaktushose.jdac.annotations.interactions.ReplyConfig;
 import io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition;
+import io.github.kaktushose.jdac.dispatching.reply.internal.ReplyAction;
 import io.github.kaktushose.jdac.message.i18n.I18n;
 import io.github.kaktushose.jdac.message.placeholder.Entry;
 import io.github.kaktushose.jdac.message.placeholder.PlaceholderResolver;
@@ -21,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 
 /// Builder for sending messages based on a [GenericInteractionCreateEvent] that supports adding components to
 /// messages and changing the [InteractionDefinition.ReplyConfig].
@@ -164,8 +166,32 @@ public sealed class ConfigurableReply extends MessageReply permits EditableConfi
     /// @param components  a [Collection] of [MessageTopLevelComponent]s to reply with
     /// @param placeholder the [placeholders][Entry] to use. See [PlaceholderResolver]
     public Message reply(Collection<MessageTopLevelComponent> components, Entry... placeholder) {
+        return withComponents(components, placeholder).reply();
+    }
+
+    /// Acknowledgement of this event with V2 Components without blocking the current thread.
+    ///
+    /// @param component   the [MessageTopLevelComponent] to reply with
+    /// @param placeholder the [placeholders][Entry] to use. See [PlaceholderResolver]
+    /// @return a [CompletableFuture] completed with the [Message] that got created
+    /// @see #reply(MessageTopLevelComponent, Entry...)
+    public CompletableFuture<Message> replyAsync(MessageTopLevelComponent component, Entry... placeholder) {
+        return replyAsync(List.of(component), placeholder);
+    }
+
+    /// Acknowledgement of this event with V2 Components without blocking the current thread.
+    ///
+    /// @param components  a [Collection] of [MessageTopLevelComponent]s to reply with
+    /// @param placeholder the [placeholders][Entry] to use. See [PlaceholderResolver]
+    /// @return a [CompletableFuture] completed with the [Message] that got created
+    /// @see #reply(Collection, Entry...)
+    public CompletableFuture<Message> replyAsync(Collection<MessageTopLevelComponent> components, Entry... placeholder) {
+        return withComponents(components, placeholder).replyAsync();
+    }
+
+    private ReplyAction withComponents(Collection<MessageTopLevelComponent> components, Entry... placeholder) {
         MessageComponentTree componentTree = ComponentTree.forMessage(components);
         componentTree = componentTree.replace(resolver());
-        return replyAction.reply(componentTree.getComponents(), placeholder);
+        return replyAction.components(componentTree.getComponents(), placeholder);
     }
 }
@@ -3,6 +3,7 @@ package io.github.kaktushose.jdac.dispatching.reply;
 import io.github.kaktushose.jdac.JDACBuilder;
 import io.github.kaktushose.jdac.annotations.interactions.ReplyConfig;
 import io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition;
+import io.github.kaktushose.jdac.dispatching.reply.internal.ReplyAction;
 import io.github.kaktushose.jdac.exceptions.internal.JDACException;
 import io.github.kaktushose.jdac.message.placeholder.Entry;
 import io.github.kaktushose.jdac.message.placeholder.PlaceholderResolver;
@@ -10,6 +11,8 @@ import net.dv8tion.jda.api.components.replacer.ComponentReplacer;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.interactions.components.ComponentInteraction;
 
+import java.util.concurrent.CompletableFuture;
+
 /// Subtype of [ConfigurableReply] that is used for [ComponentInteractions][net.dv8tion.jda.api.interactions.components.ComponentInteraction],
 /// where you can also edit the original reply instead of sending a new one.
 public final class EditableConfigurableReply extends ConfigurableReply {
@@ -71,13 +74,16 @@ public final class EditableConfigurableReply extends ConfigurableReply {
     ///
     /// @throws UnsupportedOperationException if the original message didn't use V2 Components
     public Message reply() {
-        if (!interaction.getMessage().isUsingComponentsV2()) {
-            throw new UnsupportedOperationException(JDACException.errorMessage("component-no-op-v1"));
-        }
-
-        replyAction.keepComponents(true);
+        return keepOriginal().reply();
+    }
 
-        return replyAction.reply();
+    /// No-op acknowledgement of this event with the V2 Components of the original reply without blocking the current thread.
+    ///
+    /// @return a [CompletableFuture] completed with the [Message] that got edited or created
+    /// @throws UnsupportedOperationException if the original message didn't use V2 Components
+    /// @see #reply()
+    public CompletableFuture<Message> replyAsync() {
+        return keepOriginal().replyAsync();
     }
 
     /// Acknowledgement of this event with the V2 Components of the original reply. Will also apply the passed
@@ -91,12 +97,36 @@ public final class EditableConfigurableReply extends ConfigurableReply {
     /// @implNote The [ComponentReplacer] only gets applied after the original components were retrieved and, if
     /// [#keepSelections(boolean)] is set to `true`, after the selections are retrieved.
     public Message reply(ComponentReplacer replacer, Entry... placeholder) {
+        return replace(replacer, placeholder).reply();
+    }
+
+    /// Acknowledgement of this event with the V2 Components of the original reply without blocking the current thread.
+    /// Will also apply the passed [ComponentReplacer] before sending the reply.
+    ///
+    /// @param replacer    the [ComponentReplacer] to apply to the original components
+    /// @param placeholder the [placeholders][Entry] to use. See [PlaceholderResolver]
+    /// @return a [CompletableFuture] completed with the [Message] that got edited or created
+    /// @throws UnsupportedOperationException if the original message didn't use V2 Components
+    /// @see #reply(ComponentReplacer, Entry...)
+    public CompletableFuture<Message> replyAsync(ComponentReplacer replacer, Entry... placeholder) {
+        return replace(replacer, placeholder).replyAsync();
+    }
+
+    private ReplyAction keepOriginal() {
         if (!interaction.getMessage().isUsingComponentsV2()) {
-            throw new UnsupportedOperationException(JDACException.errorMessage("component-replacer-v1"));
+            throw new UnsupportedOperationException(JDACException.errorMessage("component-no-op-v1"));
         }
 
         replyAction.keepComponents(true);
+        return replyAction;
+    }
+
+    private ReplyAction replace(ComponentReplacer replacer, Entry... placeholder) {
+        if (!interaction.getMessage().isUsingComponentsV2()) {
+            throw new UnsupportedOperationException(JDACException.errorMessage("component-replacer-v1"));
+        }
 
-        return replyAction.reply(replacer, resolver(), placeholder);
+        replyAction.keepComponents(true);
+        return replyAction.replacer(replacer, resolver(), placeholder);
     }
 }
@@ -1,6 +1,7 @@
 package io.github.kaktushose.jdac.dispatching.reply;
 
 import io.github.kaktushose.jdac.definitions.interactions.CustomId;
+import io.github.kaktushose.jdac.definitions.interactions.DefinitionId;
 import io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition.ReplyConfig;
 import io.github.kaktushose.jdac.definitions.interactions.InteractionRegistry;
@@ -8,6 +9,7 @@ import io.github.kaktushose.jdac.definitions.interactions.ModalDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.component.ButtonDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.component.ComponentDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.component.menu.SelectMenuDefinition;
+import io.github.kaktushose.jdac.dispatching.Runtime;
 import io.github.kaktushose.jdac.dispatching.reply.dynamic.ButtonComponent;
 import io.github.kaktushose.jdac.dispatching.reply.dynamic.internal.UnspecificComponent;
 import io.github.kaktushose.jdac.dispatching.reply.dynamic.menu.EntitySelectMenuComponent;
@@ -33,6 +35,7 @@ import net.dv8tion.jda.api.utils.messages.MessageCreateBuilder;
 import org.slf4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import static io.github.kaktushose.jdac.message.placeholder.Entry.entry;
@@ -74,6 +77,19 @@ public sealed class MessageReply permits ConfigurableReply, SendableReply {
         return replyAction.reply(message, placeholder);
     }
 
+    /// Acknowledgement of this event with a text message without blocking the current thread.
+    ///
+    /// Acknowledging the interaction, if needed, and sending the message are chained, so that they don't block the
+    /// current thread.
+    ///
+    /// @param message     the message to send or the localization key
+    /// @param placeholder the placeholders to use to perform localization, see [I18n#localize(Locale , String, Entry...) ]
+    /// @return a [CompletableFuture] completed with the [Message] that got created
+    /// @see #reply(String, Entry...)
+    public CompletableFuture<Message> replyAsync(String message, Entry... placeholder) {
+        return replyAction.content(message, placeholder).replyAsync();
+    }
+
     /// Access the underlying [MessageCreateBuilder] for configuration steps not covered by [ConfigurableReply].
     ///
     /// This method exposes the internal [MessageCreateBuilder] used by JDA-Commands. Modifying fields that
@@ -205,9 +221,9 @@ public sealed class MessageReply permits ConfigurableReply, SendableReply {
     private ActionRowChildComponent resolve(Component<?, ?, ?, ?> component) {
         var className = component.origin().map(Class::getName)
                 .orElseGet(() -> scopedInvocationContext().definition().methodDescription().declaringClass().getName());
-        String definitionId = InteractionDefinition.createDefinitionId(className, component.name());
+        int definitionHash = DefinitionId.hash(className, component.name());
 
-        var definition = findDefinition(component, definitionId, className);
+        var definition = findDefinition(component, definitionHash, className);
 
         int uniqueId = Objects.requireNonNullElse(definition.uniqueId(), -1);
         ActionRowChildComponent item = switch (definition) {
@@ -234,19 +250,16 @@ public sealed class MessageReply permits ConfigurableReply, SendableReply {
         return item;
     }
 
-    private <D extends ComponentDefinition<?>, T extends Component<T, ?, ?, D>> D findDefinition(Component<T, ?, ?, D> component, String definitionId, String className) {
+    private <D extends ComponentDefinition<?>, T extends Component<T, ?, ?, D>> D findDefinition(Component<T, ?, ?, D> component, int definitionHash, String className) {
         InteractionRegistry registry = scopedInteractionRegistry();
 
         try {
             // this cast is effective safe
-            D definition = registry.find(component.definitionClass(), false, it ->
-                    it.definitionId().equals(definitionId)
-            );
+            D definition = registry.findById(component.definitionClass(), false, definitionHash);
 
             return component.build(definition);
         } catch (IllegalArgumentException e) { // only check if search failed
-            Collection<ModalDefinition> found = registry.find(ModalDefinition.class, it -> it.definitionId().equals(definitionId));
-            if (!found.isEmpty()) {
+            if (registry.find(ModalDefinition.class).stream().anyMatch(it -> it.definitionHash() == definitionHash)) {
                 throw new IllegalArgumentException(
                         JDACException.errorMessage("modal-as-component", entry("method", "%s#%s".formatted(className, component.name())))
                 );
@@ -256,8 +269,11 @@ public sealed class MessageReply permits ConfigurableReply, SendableReply {
     }
 
     private CustomId createId(InteractionDefinition definition, boolean independent) {
-        return independent
-                ? CustomId.independent(definition.definitionId())
-                : new CustomId(scopedRuntime().id(), definition.definitionId());
+        if (independent) {
+            return CustomId.independent(definition.definitionId());
+        }
+        Runtime runtime = scopedRuntime();
+        runtime.promote();
+        return new CustomId(runtime.id(), definition.definitionId());
     }
 }
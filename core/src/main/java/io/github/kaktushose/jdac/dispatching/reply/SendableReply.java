@@ -5,6 +5,8 @@ import net.dv8tion.jda.api.interactions.InteractionHook;
 import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import net.dv8tion.jda.api.utils.messages.MessageEditData;
 
+import java.util.concurrent.CompletableFuture;
+
 /// Subtype of [MessageReply] that allows replying without message content ([#reply()]).
 public final class SendableReply extends MessageReply {
 
@@ -28,4 +30,12 @@ public final class SendableReply extends MessageReply {
         return replyAction.reply();
     }
 
+    /// Sends the reply to Discord without blocking the current thread.
+    ///
+    /// @return a [CompletableFuture] completed with the [Message] that got created
+    /// @see #reply()
+    public CompletableFuture<Message> replyAsync() {
+        return replyAction.replyAsync();
+    }
+
 }
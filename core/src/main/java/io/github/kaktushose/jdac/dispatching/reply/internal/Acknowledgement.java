@@ -0,0 +1,137 @@
+package io.github.kaktushose.jdac.dispatching.reply.internal;
+
+import io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition.ReplyConfig;
+import io.github.kaktushose.jdac.dispatching.reply.AcknowledgementStrategy;
+import io.github.kaktushose.jdac.exceptions.InternalException;
+import io.github.kaktushose.jdac.internal.logging.JDACLogger;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.interactions.callbacks.IDeferrableCallback;
+import net.dv8tion.jda.api.interactions.callbacks.IMessageEditCallback;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+import net.dv8tion.jda.api.requests.RestAction;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.github.kaktushose.jdac.message.placeholder.Entry.entry;
+
+/// Guards the acknowledgement of a single interaction according to the [AcknowledgementStrategy].
+///
+/// Every party that wants to acknowledge the interaction, i.e. the [ReplyAction], manual defers and the timer of the
+/// [AcknowledgementStrategy.Adaptive] strategy, has to [#claim()] it first. Thus, the timer never defers an
+/// interaction that is acknowledged concurrently by the event handler.
+@ApiStatus.Internal
+public final class Acknowledgement {
+
+    private static final Logger log = JDACLogger.getLogger(Acknowledgement.class);
+
+    private final GenericInteractionCreateEvent event;
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private final @Nullable Instant deadline;
+    private @Nullable ScheduledFuture<?> timer;
+
+    private Acknowledgement(GenericInteractionCreateEvent event, @Nullable Instant deadline) {
+        this.event = event;
+        this.deadline = deadline;
+    }
+
+    /// Creates a new [Acknowledgement] and, if the [AcknowledgementStrategy.Adaptive] strategy is used, schedules
+    /// the automatic deferral of the interaction.
+    ///
+    /// @param event       the [GenericInteractionCreateEvent] to acknowledge
+    /// @param replyConfig the [ReplyConfig] defining how to defer the interaction
+    /// @param strategy    the [AcknowledgementStrategy] to use
+    /// @return the created [Acknowledgement]
+    public static Acknowledgement create(GenericInteractionCreateEvent event, ReplyConfig replyConfig, AcknowledgementStrategy strategy) {
+        if (!(strategy instanceof AcknowledgementStrategy.Adaptive(Duration after)) || !(event instanceof IDeferrableCallback)) {
+            return new Acknowledgement(event, null);
+        }
+
+        Instant deadline = event.getTimeCreated().toInstant().plus(after);
+        Acknowledgement acknowledgement = new Acknowledgement(event, deadline);
+        long delay = Math.max(0, Duration.between(Instant.now(), deadline).toMillis());
+        acknowledgement.timer = Timer.EXECUTOR.schedule(
+                () -> acknowledgement.deferInTime(replyConfig),
+                delay,
+                TimeUnit.MILLISECONDS
+        );
+        return acknowledgement;
+    }
+
+    /// Claims the acknowledgement of the interaction.
+    ///
+    /// @return `true` if the caller must acknowledge the interaction, `false` if it was already acknowledged
+    public boolean claim() {
+        return !((IDeferrableCallback) event).isAcknowledged() && claimed.compareAndSet(false, true);
+    }
+
+    /// Whether the interaction should be acknowledged by sending the reply directly instead of deferring it first.
+    /// Only meaningful after a successful [#claim()].
+    ///
+    /// @return `true` if the [AcknowledgementStrategy.Adaptive] strategy is used and the deadline didn't pass yet
+    public boolean replyDirectly() {
+        return deadline != null && Instant.now().isBefore(deadline);
+    }
+
+    /// Cancels the automatic deferral, called once the event handler finished.
+    public void finish() {
+        if (timer != null) {
+            timer.cancel(false);
+        }
+    }
+
+    private void deferInTime(ReplyConfig replyConfig) {
+        if (!claim()) {
+            return;
+        }
+        log.debug("Interaction wasn't acknowledged before the deadline, deferring it");
+        defer(event, replyConfig.ephemeral(), replyConfig.editReply()).queue(
+                null,
+                e -> log.error("Failed to automatically defer interaction", e)
+        );
+    }
+
+    /// Whether a direct reply to the interaction edits the original message, based on the given `editReply` setting.
+    ///
+    /// @param event     the [GenericInteractionCreateEvent] to reply to
+    /// @param editReply whether the original message should be edited
+    /// @return `true` if the original message will be edited
+    public static boolean editsOriginal(GenericInteractionCreateEvent event, boolean editReply) {
+        return switch (event) {
+            case ModalInteractionEvent modalEvent -> modalEvent.getMessage() != null && editReply;
+            case IMessageEditCallback _ -> editReply;
+            case IReplyCallback _ -> false;
+            default -> throw new InternalException("reply-failed", entry("event", event.getClass().getName()));
+        };
+    }
+
+    /// Creates the [RestAction] deferring the interaction.
+    ///
+    /// @param event     the [GenericInteractionCreateEvent] to defer
+    /// @param ephemeral whether the deferred reply should be ephemeral
+    /// @param editReply whether the original message should be edited
+    /// @return the [RestAction] deferring the interaction
+    public static RestAction<?> defer(GenericInteractionCreateEvent event, boolean ephemeral, boolean editReply) {
+        return switch (event) {
+            case IMessageEditCallback callback when editReply -> callback.deferEdit();
+            case IReplyCallback callback -> callback.deferReply(ephemeral);
+            default -> throw new InternalException("reply-failed", entry("event", event.getClass().getName()));
+        };
+    }
+
+    // created lazily, so no thread is started if the adaptive strategy isn't used
+    private static final class Timer {
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("JDAC Acknowledgement-Timer").daemon().factory()
+        );
+    }
+}
@@ -1,7 +1,6 @@
 package io.github.kaktushose.jdac.dispatching.reply.internal;
 
 import io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition.ReplyConfig;
-import io.github.kaktushose.jdac.exceptions.InternalException;
 import io.github.kaktushose.jdac.exceptions.ReplyException;
 import io.github.kaktushose.jdac.internal.logging.JDACLogger;
 import io.github.kaktushose.jdac.message.placeholder.Entry;
@@ -23,10 +22,12 @@ import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
 import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.interactions.InteractionHook;
 import net.dv8tion.jda.api.interactions.callbacks.IDeferrableCallback;
 import net.dv8tion.jda.api.interactions.callbacks.IMessageEditCallback;
 import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
 import net.dv8tion.jda.api.interactions.components.ComponentInteraction;
+import net.dv8tion.jda.api.requests.RestAction;
 import net.dv8tion.jda.api.utils.messages.MessageCreateBuilder;
 import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import net.dv8tion.jda.api.utils.messages.MessageEditData;
@@ -35,10 +36,10 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
-import static io.github.kaktushose.jdac.message.placeholder.Entry.entry;
 import static io.github.kaktushose.jdac.property.internal.IntrospectionAccess.*;
 
 @ApiStatus.Internal
@@ -111,19 +112,42 @@ public final class ReplyAction {
         return builder.getComponentTree();
     }
 
-    public Message reply(String message, Entry... placeholder) {
+    public ReplyAction content(String message, Entry... placeholder) {
         builder.setContent(scopedMessageResolver().resolve(message, scopedUserLocale(), placeholder));
-        return reply();
+        return this;
     }
 
-    public Message reply(MessageEmbed first, MessageEmbed... additional) {
+    public ReplyAction embeds(MessageEmbed first, MessageEmbed... additional) {
         builder.setEmbeds(Stream.concat(Stream.of(first), Arrays.stream(additional)).toList());
-        return reply();
+        return this;
     }
 
-    public Message reply(MessageCreateData data) {
+    public ReplyAction data(MessageCreateData data) {
         builder = MessageCreateBuilder.from(data);
-        return reply();
+        return this;
+    }
+
+    public ReplyAction components(Collection<MessageTopLevelComponentUnion> components, Entry... placeholder) {
+        components = componentResolver.resolve(components, scopedUserLocale(), Entry.toMap(placeholder));
+        builder.closeFiles().clear().useComponentsV2().addComponents(components);
+        return this;
+    }
+
+    public ReplyAction replacer(ComponentReplacer userProvided, ComponentReplacer resolver, Entry... placeholder) {
+        replacer = new Replacer(userProvided, resolver, Entry.toMap(placeholder));
+        return this;
+    }
+
+    public Message reply(String message, Entry... placeholder) {
+        return content(message, placeholder).reply();
+    }
+
+    public Message reply(MessageEmbed first, MessageEmbed... additional) {
+        return embeds(first, additional).reply();
+    }
+
+    public Message reply(MessageCreateData data) {
+        return data(data).reply();
     }
 
     public Message reply(MessageTopLevelComponent component, Entry... placeholder) {
@@ -131,14 +155,11 @@ public final class ReplyAction {
     }
 
     public Message reply(Collection<MessageTopLevelComponentUnion> components, Entry... placeholder) {
-        components = componentResolver.resolve(components, scopedUserLocale(), Entry.toMap(placeholder));
-        builder.closeFiles().clear().useComponentsV2().addComponents(components);
-        return reply();
+        return components(components, placeholder).reply();
     }
 
     public Message reply(ComponentReplacer userProvided, ComponentReplacer resolver, Entry... placeholder) {
-        replacer = new Replacer(userProvided, resolver, Entry.toMap(placeholder));
-        return reply();
+        return replacer(userProvided, resolver, placeholder).reply();
     }
 
     public void builder(Consumer<MessageCreateBuilder> builder) {
@@ -153,39 +174,96 @@ public final class ReplyAction {
         builder.addEmbeds(embeds);
     }
 
+    /// Sends the reply and blocks until the message was sent.
+    ///
+    /// @return the [Message] that got created
     public Message reply() {
-        defer();
+        try {
+            return restAction().complete();
+        } catch (ErrorResponseException e) {
+            throw mapError(e);
+        }
+    }
+
+    /// Sends the reply without blocking.
+    ///
+    /// @return a [CompletableFuture] completed with the [Message] that got created
+    public CompletableFuture<Message> replyAsync() {
+        CompletableFuture<Message> future = new CompletableFuture<>();
+        restAction().queue(
+                future::complete,
+                e -> future.completeExceptionally(e instanceof ErrorResponseException response ? mapError(response) : e)
+        );
+        return future;
+    }
 
-        if (scopedJdaEvent() instanceof ComponentInteraction interaction && keepComponents) {
+    /// Builds the [RestAction] that acknowledges the interaction if needed and then sends or edits the message.
+    ///
+    /// Depending on the [Acknowledgement], the interaction is either deferred first or acknowledged by sending the
+    /// reply directly. In the latter case the created message is taken from the callback response of the interaction.
+    ///
+    /// Everything depending on scoped values is evaluated eagerly in the calling thread, thus the returned
+    /// [RestAction] can be executed on any thread.
+    private RestAction<Message> restAction() {
+        GenericInteractionCreateEvent jdaEvent = scopedJdaEvent();
+        boolean deferEdit = editReply;
+        boolean editsOriginal = Acknowledgement.editsOriginal(jdaEvent, editReply);
+        if (jdaEvent instanceof ModalInteractionEvent modalEvent) {
+            editReply = modalEvent.getMessage() != null;
+        }
+
+        if (jdaEvent instanceof ComponentInteraction interaction && keepComponents) {
             builder.addComponents(retrieveComponents(interaction.getMessage()));
             builder.useComponentsV2(interaction.getMessage().isUsingComponentsV2());
         }
 
+        MessageCreateData data = builder.build();
         log.debug(
                 "Replying to interaction \"{}\" with content: {} [ephemeral={}, editReply={}, keepComponents={}, keepSelections={}]",
-                scopedInvocationContext().definition().displayName(), builder.build().toData(), ephemeral, editReply, keepComponents, keepSelections
+                scopedInvocationContext().definition().displayName(), data.toData(), ephemeral, editReply, keepComponents, keepSelections
         );
 
-        var hook = ((IDeferrableCallback) scopedJdaEvent()).getHook();
-        if (editReply) {
-            try {
-                return hook.editOriginal(MessageEditData.fromCreateData(builder.build()))
-                        .setAllowedMentions(allowedMentions)
-                        .mention(mentions)
-                        .complete();
-            } catch (ErrorResponseException e) {
-                if (e.getMessage().contains("COMPONENT_CUSTOM_ID_DUPLICATED") && keepComponents) {
-                    throw new ReplyException("duplicate-component", e);
-                }
-                throw e;
-            }
+        Acknowledgement acknowledgement = scopedAcknowledgement();
+        if (!acknowledgement.claim()) {
+            return send(jdaEvent, data);
+        }
+        if (acknowledgement.replyDirectly()) {
+            // Discord returns the created message in the callback response, no need to retrieve it again
+            return replyDirectly(jdaEvent, data, editsOriginal).map(hook -> hook.getCallbackResponse().getMessage());
         }
-        return hook.setEphemeral(ephemeral)
-                .sendMessage(builder.build())
+        return Acknowledgement.defer(jdaEvent, ephemeral, deferEdit).flatMap(_ -> send(jdaEvent, data));
+    }
+
+    private RestAction<Message> send(GenericInteractionCreateEvent jdaEvent, MessageCreateData data) {
+        var hook = ((IDeferrableCallback) jdaEvent).getHook();
+        return editReply
+                ? hook.editOriginal(MessageEditData.fromCreateData(data))
+                .setAllowedMentions(allowedMentions)
+                .mention(mentions)
+                : hook.setEphemeral(ephemeral)
+                .sendMessage(data)
                 .setSuppressedNotifications(silent)
                 .setAllowedMentions(allowedMentions)
+                .mention(mentions);
+    }
+
+    private RestAction<InteractionHook> replyDirectly(GenericInteractionCreateEvent jdaEvent, MessageCreateData data, boolean editsOriginal) {
+        return editsOriginal
+                ? ((IMessageEditCallback) jdaEvent).editMessage(MessageEditData.fromCreateData(data))
+                .setAllowedMentions(allowedMentions)
                 .mention(mentions)
-                .complete();
+                : ((IReplyCallback) jdaEvent).reply(data)
+                .setEphemeral(ephemeral)
+                .setSuppressedNotifications(silent)
+                .setAllowedMentions(allowedMentions)
+                .mention(mentions);
+    }
+
+    private RuntimeException mapError(ErrorResponseException e) {
+        if (editReply && keepComponents && e.getMessage().contains("COMPONENT_CUSTOM_ID_DUPLICATED")) {
+            return new ReplyException("duplicate-component", e);
+        }
+        return e;
     }
 
     private List<MessageTopLevelComponentUnion> retrieveComponents(Message original) {
@@ -239,32 +317,6 @@ public final class ReplyAction {
         return component;
     }
 
-    private void defer() {
-        GenericInteractionCreateEvent jdaEvent = scopedJdaEvent();
-        switch (jdaEvent) {
-            case ModalInteractionEvent modalEvent when modalEvent.getMessage() != null && editReply ->
-                    deferEdit(modalEvent);
-            case IMessageEditCallback callback when editReply -> deferEdit(callback);
-            case IReplyCallback callback -> deferReply(callback);
-            default -> throw new InternalException("reply-failed", entry("event", jdaEvent.getClass().getName()));
-        }
-        if (jdaEvent instanceof ModalInteractionEvent modalEvent) {
-            editReply = modalEvent.getMessage() != null;
-        }
-    }
-
-    private void deferReply(IReplyCallback callback) {
-        if (!scopedJdaEvent().isAcknowledged()) {
-            callback.deferReply(ephemeral).complete();
-        }
-    }
-
-    private void deferEdit(IMessageEditCallback callback) {
-        if (!scopedJdaEvent().isAcknowledged()) {
-            callback.deferEdit().complete();
-        }
-    }
-
     private record Replacer(
             ComponentReplacer userProvided,
             ComponentReplacer resolver,
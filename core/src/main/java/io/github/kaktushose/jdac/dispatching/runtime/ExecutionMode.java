@@ -0,0 +1,54 @@
+package io.github.kaktushose.jdac.dispatching.runtime;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/// Classes implementing [ExecutionMode] define how the events of a [`Runtime`]({@docRoot}/index.html#runtime-concept-heading)
+/// are executed.
+///
+/// Regardless of the mode, events belonging to the same runtime are always processed sequentially, while different
+/// runtimes are processed in parallel. Every event handler is executed in its own task, isolated from other events.
+///
+/// There are two modes available:
+/// - [DedicatedThread]: every runtime owns a virtual thread that waits for incoming events (default)
+/// - [Mailbox]: every runtime owns a lock-free mailbox that is drained on demand by a shared [Executor]
+///
+/// @implNote The [DedicatedThread] mode keeps one parked virtual thread and a blocking queue per open runtime, even if
+/// the runtime doesn't receive any events anymore. The [Mailbox] mode doesn't hold any thread while a runtime is idle,
+/// it only submits a task to the [Executor] if an event arrives and no other task of that runtime is currently scheduled.
+/// Thus, it is the better choice for bots with a lot of concurrently open runtimes.
+public sealed interface ExecutionMode {
+
+    /// Default [ExecutionMode] of [DedicatedThread].
+    ExecutionMode DEDICATED_THREAD = new DedicatedThread();
+
+    /// Gets the [Mailbox] [ExecutionMode] that executes each event in a new virtual thread.
+    ///
+    /// @return the shared [Mailbox] using [Executors#newVirtualThreadPerTaskExecutor()]
+    /// @implNote The underlying [Executor] is shared by all callers and never shut down. This is fine, because a
+    /// virtual thread per task executor doesn't hold any thread while idle.
+    static ExecutionMode mailbox() {
+        return Mailbox.VIRTUAL;
+    }
+
+    /// Creates a [Mailbox] [ExecutionMode] that executes the events on the given [Executor], e.g. a thread pool.
+    ///
+    /// @param executor the [Executor] to run event handlers on
+    /// @return a new [Mailbox]
+    static ExecutionMode mailbox(Executor executor) {
+        return new Mailbox(executor);
+    }
+
+    /// [ExecutionMode] that starts one virtual thread per [`Runtime`]({@docRoot}/index.html#runtime-concept-heading),
+    /// which waits for events and then executes each of them in a new virtual thread.
+    record DedicatedThread() implements ExecutionMode { }
+
+    /// [ExecutionMode] that queues events in a per [`Runtime`]({@docRoot}/index.html#runtime-concept-heading) mailbox,
+    /// which is drained by the shared [Executor], one event per task.
+    ///
+    /// @param executor the shared [Executor] to run event handlers on
+    record Mailbox(Executor executor) implements ExecutionMode {
+
+        private static final Mailbox VIRTUAL = new Mailbox(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.kaktushose.jdac.dispatching.runtime;
+
+import io.github.kaktushose.jdac.definitions.interactions.CustomId;
+import io.github.kaktushose.jdac.dispatching.runtime.internal.CompactRuntimeIdGenerator;
+
+import java.util.UUID;
+
+/// A [RuntimeIdGenerator] creates the ids of new [`Runtimes`]({@docRoot}/index.html#runtime-concept-heading).
+///
+/// The runtime id is part of every runtime-bound [CustomId] and therefore counts towards the 100 characters Discord
+/// allows for custom ids. Generated ids must
+/// - be unique for the whole lifetime of the bot, including restarts, otherwise components of old messages might be
+///   routed to an unrelated runtime
+/// - only consist of the characters `A-Z`, `a-z`, `0-9`, `-` and `_`
+/// - be at most [CustomId#MAX_RUNTIME_ID_LENGTH] characters long
+/// - never be the literal `independent`
+///
+/// There are two implementations available:
+/// - [#compact()]: a fast counter based generator producing short, url safe base64 ids (default)
+/// - [#uuid()]: the legacy generator using [UUID#randomUUID()]
+@FunctionalInterface
+public interface RuntimeIdGenerator {
+
+    /// Creates a new [RuntimeIdGenerator] that combines a random node id, chosen once on creation, with a monotonic
+    /// counter. Both parts are encoded in url safe base64, resulting in ids of usually 7 to 11 characters.
+    ///
+    /// @return a new compact [RuntimeIdGenerator]
+    static RuntimeIdGenerator compact() {
+        return new CompactRuntimeIdGenerator();
+    }
+
+    /// Creates a new [RuntimeIdGenerator] that uses random [UUID]s, which was the only behaviour in previous versions.
+    ///
+    /// @return a [UUID] based [RuntimeIdGenerator]
+    static RuntimeIdGenerator uuid() {
+        return () -> UUID.randomUUID().toString();
+    }
+
+    /// Generates a new unique runtime id.
+    ///
+    /// @return the runtime id
+    String generate();
+}
@@ -0,0 +1,19 @@
+package io.github.kaktushose.jdac.dispatching.runtime;
+
+import io.github.kaktushose.jdac.JDACommands;
+import io.github.kaktushose.jdac.dispatching.expiration.ExpirationStrategy;
+
+import java.time.Duration;
+
+/// A snapshot of metrics about the [`Runtimes`]({@docRoot}/index.html#runtime-concept-heading) of a [JDACommands]
+/// instance, obtained by calling [JDACommands#runtimeMetrics()].
+///
+/// Runtimes are closed in the background by a scheduler if the [ExpirationStrategy.Inactivity] strategy is used.
+/// The expiry lag is the time between the moment a runtime became due and the moment it was actually closed.
+/// A constantly growing lag indicates that the scheduler can't keep up.
+///
+/// @param liveRuntimes    the amount of currently open runtimes
+/// @param expiredRuntimes the amount of runtimes closed because of inactivity since startup
+/// @param lastExpiryLag   the expiry lag of the last runtime closed because of inactivity
+/// @param maxExpiryLag    the biggest expiry lag observed since startup
+public record RuntimeMetrics(int liveRuntimes, long expiredRuntimes, Duration lastExpiryLag, Duration maxExpiryLag) { }
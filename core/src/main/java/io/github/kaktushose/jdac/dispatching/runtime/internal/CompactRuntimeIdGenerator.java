@@ -0,0 +1,48 @@
+package io.github.kaktushose.jdac.dispatching.runtime.internal;
+
+import io.github.kaktushose.jdac.definitions.interactions.CustomId;
+import io.github.kaktushose.jdac.dispatching.runtime.RuntimeIdGenerator;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/// Default [RuntimeIdGenerator] producing ids in the format `<node><counter>`.
+///
+/// The node id consists of [#NODE_LENGTH] random url safe base64 characters (36 bit), chosen once per instance, so
+/// that ids don't repeat after a restart. The counter is encoded in url safe base64 too, with the least significant
+/// digit first and without padding.
+@ApiStatus.Internal
+public final class CompactRuntimeIdGenerator implements RuntimeIdGenerator {
+
+    private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+    private static final int NODE_LENGTH = 6;
+    private static final int MAX_COUNTER_LENGTH = 11;
+
+    private final char[] node = new char[NODE_LENGTH];
+    private final AtomicLong counter = new AtomicLong();
+
+    public CompactRuntimeIdGenerator() {
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < NODE_LENGTH; i++) {
+            node[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+        }
+    }
+
+    @Override
+    public String generate() {
+        long value = counter.getAndIncrement();
+        char[] chars = new char[NODE_LENGTH + MAX_COUNTER_LENGTH];
+        System.arraycopy(node, 0, chars, 0, NODE_LENGTH);
+
+        int length = NODE_LENGTH;
+        do {
+            chars[length++] = ALPHABET[(int) (value & 63)];
+            value >>>= 6;
+        } while (value != 0);
+
+        String id = new String(chars, 0, length);
+        // extremely unlikely, but would be mistaken for a runtime-independent custom id
+        return id.equals(CustomId.INDEPENDENT_ID) ? generate() : id;
+    }
+}
@@ -0,0 +1,3 @@
+/// This package contains the api to configure how [`Runtimes`]({@docRoot}/index.html#runtime-concept-heading) are
+/// identified and executed.
+package io.github.kaktushose.jdac.dispatching.runtime;
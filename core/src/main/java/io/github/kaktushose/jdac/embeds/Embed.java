@@ -1,10 +1,10 @@
 package io.github.kaktushose.jdac.embeds;
 
+import io.github.kaktushose.jdac.embeds.internal.EmbedTemplate;
 import io.github.kaktushose.jdac.embeds.internal.Embeds;
 import io.github.kaktushose.jdac.message.i18n.I18n;
 import io.github.kaktushose.jdac.message.i18n.Localizer;
 import io.github.kaktushose.jdac.message.placeholder.Entry;
-import io.github.kaktushose.jdac.message.resolver.DataObjectResolver;
 import io.github.kaktushose.jdac.message.resolver.MessageResolver;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.MessageEmbed;
@@ -32,16 +32,19 @@ public class Embed {
 
     private final String name;
     private final Map<String, @Nullable Object> placeholders;
-    private final DataObjectResolver embedResolver;
-    private DataObject data;
+    private final MessageResolver messageResolver;
+    // copy on write: embeds loaded from an EmbedDataSource share the template until they get modified
+    private @Nullable EmbedTemplate template;
+    private @Nullable DataObject data;
     private Locale locale;
 
-    private Embed(DataObject object, String name, Map<String, @Nullable Object> placeholders, MessageResolver messageResolver) {
+    private Embed(@Nullable DataObject object, @Nullable EmbedTemplate template, String name, Map<String, @Nullable Object> placeholders, MessageResolver messageResolver) {
         this.name = name;
         this.placeholders = new HashMap<>(placeholders);
-        this.embedResolver = new DataObjectResolver(messageResolver, Set.of());
+        this.messageResolver = messageResolver;
         locale = Locale.ENGLISH;
         this.data = object;
+        this.template = template;
     }
 
     /// Constructs a new [Embed].
@@ -59,7 +62,12 @@ public class Embed {
     /// @param name         the name of this embed used to identify it in [EmbedDataSource]s
     /// @param placeholders the global placeholders as defined in [Embeds]
     public static Embed of(DataObject object, String name, Map<String, @Nullable Object> placeholders, MessageResolver messageResolver) {
-        return new Embed(object, name, placeholders, messageResolver);
+        return new Embed(object, null, name, placeholders, messageResolver);
+    }
+
+    // used by EmbedDataSource, the template is only copied if this embed gets modified
+    static Embed of(EmbedTemplate template, String name, Map<String, @Nullable Object> placeholders, MessageResolver messageResolver) {
+        return new Embed(null, template, name, placeholders, messageResolver);
     }
 
     /// Sets the [Locale] this [Embed] will be localized with.
@@ -88,7 +96,7 @@ public class Embed {
     /// @return this instance for fluent interface
     /// @see EmbedBuilder#setTitle(String)
     public Embed title(@Nullable String title) {
-        data.put("title", title);
+        data().put("title", title);
         return this;
     }
 
@@ -103,7 +111,7 @@ public class Embed {
     /// @see #title(String) (String, String)
     public Embed url(@Nullable String url) {
         urlCheck(url);
-        data.put("url", url);
+        data().put("url", url);
         return this;
     }
 
@@ -123,7 +131,7 @@ public class Embed {
     /// @return this instance for fluent interface
     /// @see EmbedBuilder#setDescription(CharSequence)
     public Embed description(@Nullable CharSequence description) {
-        data.put("description", description);
+        data().put("description", description);
         return this;
     }
 
@@ -133,7 +141,7 @@ public class Embed {
     /// @return this instance for fluent interface
     /// @see EmbedBuilder#setColor(int)
     public Embed color(int color) {
-        data.put("color", color);
+        data().put("color", color);
         return this;
     }
 
@@ -143,7 +151,7 @@ public class Embed {
     /// @return this instance for fluent interface
     /// @see EmbedBuilder#setColor(Color)
     public Embed color(@Nullable Color color) {
-        data.put("color", color == null ? null : color.getRGB());
+        data().put("color", color == null ? null : color.getRGB());
         return this;
     }
 
@@ -153,7 +161,7 @@ public class Embed {
     /// @return this instance for fluent interface
     /// @see EmbedBuilder#setTimestamp(TemporalAccessor)
     public Embed timestamp(@Nullable TemporalAccessor accessor) {
-        data.put("timestamp", accessor == null ? null : accessor.toString());
+        data().put("timestamp", accessor == null ? null : accessor.toString());
         return this;
     }
 
@@ -177,7 +185,7 @@ public class Embed {
             return this;
         }
         urlCheck(iconUrl);
-        data.put("footer", DataObject.empty().put("text", footer).put("icon_url", iconUrl));
+        data().put("footer", DataObject.empty().put("text", footer).put("icon_url", iconUrl));
         return this;
     }
 
@@ -191,7 +199,7 @@ public class Embed {
             return this;
         }
         urlCheck(url);
-        data.put("thumbnail", DataObject.empty().put("url", url));
+        data().put("thumbnail", DataObject.empty().put("url", url));
         return this;
     }
 
@@ -205,7 +213,7 @@ public class Embed {
             return this;
         }
         urlCheck(url);
-        data.put("image", DataObject.empty().put("url", url));
+        data().put("image", DataObject.empty().put("url", url));
         return this;
     }
 
@@ -241,7 +249,7 @@ public class Embed {
         }
         urlCheck(url);
         urlCheck(iconUrl);
-        data.put("author", DataObject.empty().put("name", name).put("url", url).put("icon_url", iconUrl));
+        data().put("author", DataObject.empty().put("name", name).put("url", url).put("icon_url", iconUrl));
         return this;
     }
 
@@ -255,11 +263,11 @@ public class Embed {
                 Checks.notNull(name, "Name");
                 Checks.notNull(value, "Value");
                 DataArray array;
-                if (data.hasKey("fields")) {
-                    array = data.getArray("fields");
+                if (data().hasKey("fields")) {
+                    array = data().getArray("fields");
                 } else {
                     array = DataArray.empty();
-                    data.put("fields", array);
+                    data().put("fields", array);
                 }
                 array.add(DataObject.empty().put("name", name).put("value", value).put("inline", inline));
                 return this;
@@ -271,16 +279,16 @@ public class Embed {
                 fields.removeIf(filter);
                 // this wrapping is very important, otherwise the DataObject keeps the type information (Field) and
                 // subsequent calls break
-                data.put("fields", DataArray.fromJson(DataArray.fromCollection(fields).toString()));
+                data().put("fields", DataArray.fromJson(DataArray.fromCollection(fields).toString()));
                 return this;
             }
 
             @Override
             public Fields replace(Predicate<Field> filter, Field field) {
-                if (!data.hasKey("fields")) {
+                if (!data().hasKey("fields")) {
                     return this;
                 }
-                data.getArray("fields")
+                data().getArray("fields")
                         .stream(DataArray::getObject)
                         .filter(it -> filter.test(getField(it)))
                         .forEach(it -> it.put("name", field.getName())
@@ -293,10 +301,10 @@ public class Embed {
     }
 
     private List<Field> getFields() {
-        if (!data.hasKey("fields")) {
+        if (!data().hasKey("fields")) {
             return List.of();
         }
-        return data.getArray("fields").stream(DataArray::getObject).map(this::getField).toList();
+        return data().getArray("fields").stream(DataArray::getObject).map(this::getField).toList();
     }
 
     private Field getField(DataObject object) {
@@ -314,6 +322,7 @@ public class Embed {
     /// @return The current EmbedBuilder with default values
     public Embed clear() {
         data = DataObject.empty();
+        template = null;
         return this;
     }
 
@@ -349,7 +358,18 @@ public class Embed {
     ///
     /// @return the built, sendable [MessageEmbed]
     public MessageEmbed build() {
-        return EmbedBuilder.fromData(embedResolver.resolve(data, locale, placeholders)).build();
+        EmbedTemplate compiled = data == null
+                ? Objects.requireNonNull(template)
+                : EmbedTemplate.compile(data);
+        return EmbedBuilder.fromData(compiled.resolve(messageResolver, locale, placeholders)).build();
+    }
+
+    private DataObject data() {
+        if (data == null) {
+            data = Objects.requireNonNull(template).toDataObject();
+            template = null;
+        }
+        return data;
     }
 
     private void urlCheck(@Nullable String url) {
@@ -1,6 +1,7 @@
 package io.github.kaktushose.jdac.embeds;
 
 
+import io.github.kaktushose.jdac.embeds.internal.EmbedTemplate;
 import io.github.kaktushose.jdac.exceptions.ConfigurationException;
 import io.github.kaktushose.jdac.message.resolver.MessageResolver;
 import net.dv8tion.jda.api.exceptions.ParsingException;
@@ -65,17 +66,15 @@ public interface EmbedDataSource {
 
     /// Constructs a new [EmbedDataSource] using a [DataObject] as its source.
     ///
+    /// The [DataObject] is parsed once when calling this method, thus later modifications of it aren't reflected by
+    /// the returned [EmbedDataSource].
+    ///
     /// @param dataObject the [DataObject] to retrieve embeds from
     /// @return a new [EmbedDataSource]
     static EmbedDataSource dataObject(DataObject dataObject) {
-        return (embed, placeholders, messageResolver) -> {
-            // create copy so modifications don't affect the source DataObject
-            DataObject copy = DataObject.fromJson(dataObject.toJson());
-            if (!copy.hasKey(embed)) {
-                return Optional.empty();
-            }
-            return Optional.of(Embed.of(copy.getObject(embed), embed, placeholders, messageResolver));
-        };
+        Map<String, EmbedTemplate> templates = EmbedTemplate.compileAll(dataObject);
+        return (embed, placeholders, messageResolver) -> Optional.ofNullable(templates.get(embed))
+                .map(template -> Embed.of(template, embed, placeholders, messageResolver));
     }
 
     /// Retrieves an [Embed] based on the given name.
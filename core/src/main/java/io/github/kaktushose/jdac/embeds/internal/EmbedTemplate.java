@@ -0,0 +1,154 @@
+package io.github.kaktushose.jdac.embeds.internal;
+
+import io.github.kaktushose.jdac.embeds.Embed;
+import io.github.kaktushose.jdac.message.resolver.Resolver;
+import net.dv8tion.jda.api.utils.data.DataArray;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+
+/// An immutable, precompiled representation of an embed json.
+///
+/// The [DataObject] is walked once and every textual value of an object is recorded as localizable. Thus,
+/// [#resolve(Resolver, Locale, Map)] only has to pass these values to the [Resolver] while copying the remaining
+/// structure, without serializing the embed to json and back.
+@ApiStatus.Internal
+public final class EmbedTemplate {
+
+    // copies the values of the template without resolving them
+    private static final Resolver<String> UNRESOLVED = new Resolver<>() {
+        @Override
+        public String resolve(String object, Locale locale, Map<String, @Nullable Object> placeholders) {
+            return object;
+        }
+
+        @Override
+        public int priority() {
+            return 0;
+        }
+    };
+
+    private final JsonObject root;
+
+    private EmbedTemplate(JsonObject root) {
+        this.root = root;
+    }
+
+    /// Compiles the given [DataObject] into an [EmbedTemplate].
+    ///
+    /// @param object the [DataObject] representing a single embed
+    /// @return the compiled [EmbedTemplate]
+    public static EmbedTemplate compile(DataObject object) {
+        return new EmbedTemplate(compileObject(object.toMap()));
+    }
+
+    /// Compiles all embeds of the given [DataObject] into [EmbedTemplate]s.
+    ///
+    /// @param object the [DataObject] mapping the names of the embeds to their json objects
+    /// @return a [Map] of the embed names to the compiled [EmbedTemplate]s
+    public static Map<String, EmbedTemplate> compileAll(DataObject object) {
+        Map<String, EmbedTemplate> templates = new HashMap<>();
+        object.toMap().forEach((name, embed) -> {
+            switch (embed) {
+                case DataObject embedObject -> templates.put(name, compile(embedObject));
+                case Map<?, ?> embedMap -> templates.put(name, new EmbedTemplate(compileObject(embedMap)));
+                case null, default -> { }
+            }
+        });
+        return Map.copyOf(templates);
+    }
+
+    /// Creates a new [DataObject] from this template, resolving all localizable values with the given [Resolver].
+    ///
+    /// @param resolver     the [Resolver] to resolve the localizable values with
+    /// @param locale       the [Locale] to use for localization
+    /// @param placeholders the placeholders to use
+    /// @return the resolved [DataObject]
+    public DataObject resolve(Resolver<String> resolver, Locale locale, Map<String, @Nullable Object> placeholders) {
+        return (DataObject) root.create(resolver, locale, placeholders);
+    }
+
+    /// Creates a new, mutable [DataObject] from this template, used by [Embed] before its first modification.
+    ///
+    /// @return the [DataObject] holding the unresolved values of this template
+    public DataObject toDataObject() {
+        return resolve(UNRESOLVED, Locale.ROOT, Map.of());
+    }
+
+    // mirrors the behaviour of JsonResolver: only textual values of objects get resolved
+    // a DataObject holds either parsed maps and lists or DataObjects and DataArrays that were put into it
+    private static Node compile(@Nullable Object value, boolean localizable) {
+        return switch (value) {
+            case DataObject object -> compileObject(object.toMap());
+            case Map<?, ?> object -> compileObject(object);
+            case DataArray array -> compileArray(array.toList());
+            case List<?> array -> compileArray(array);
+            case String text -> localizable
+                    ? new Text(text)
+                    : new Literal(text);
+            case null, default -> new Literal(value);
+        };
+    }
+
+    private static JsonObject compileObject(Map<?, ?> object) {
+        String[] keys = new String[object.size()];
+        Node[] values = new Node[object.size()];
+        int i = 0;
+        for (Map.Entry<?, ?> entry : object.entrySet()) {
+            keys[i] = String.valueOf(entry.getKey());
+            values[i] = compile(entry.getValue(), true);
+            i++;
+        }
+        return new JsonObject(keys, values);
+    }
+
+    private static JsonArray compileArray(List<?> array) {
+        Node[] values = new Node[array.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = compile(array.get(i), false);
+        }
+        return new JsonArray(values);
+    }
+
+    private sealed interface Node {
+        @Nullable Object create(Resolver<String> resolver, Locale locale, Map<String, @Nullable Object> placeholders);
+    }
+
+    private record Literal(@Nullable Object value) implements Node {
+        @Override
+        public @Nullable Object create(Resolver<String> resolver, Locale locale, Map<String, @Nullable Object> placeholders) {
+            return value;
+        }
+    }
+
+    private record Text(String value) implements Node {
+        @Override
+        public Object create(Resolver<String> resolver, Locale locale, Map<String, @Nullable Object> placeholders) {
+            return resolver.resolve(value, locale, placeholders);
+        }
+    }
+
+    private record JsonObject(String[] keys, Node[] values) implements Node {
+        @Override
+        public Object create(Resolver<String> resolver, Locale locale, Map<String, @Nullable Object> placeholders) {
+            DataObject object = DataObject.empty();
+            for (int i = 0; i < keys.length; i++) {
+                object.put(keys[i], values[i].create(resolver, locale, placeholders));
+            }
+            return object;
+        }
+    }
+
+    private record JsonArray(Node[] values) implements Node {
+        @Override
+        public Object create(Resolver<String> resolver, Locale locale, Map<String, @Nullable Object> placeholders) {
+            DataArray array = DataArray.empty();
+            for (Node value : values) {
+                array.add(value.create(resolver, locale, placeholders));
+            }
+            return array;
+        }
+    }
+}
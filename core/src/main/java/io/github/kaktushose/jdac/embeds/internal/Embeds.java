@@ -42,12 +42,7 @@ public record Embeds(
     /// @return the [Embed]
     /// @throws IllegalArgumentException if no [Embed] with the given name exists in the configured [data sources][EmbedConfig#sources(EmbedDataSource...)]
     public Embed get(String name) {
-        return sources.stream()
-                .map(source -> source.get(name, placeholders, messageResolver))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .findAny()
-                .orElseThrow(() -> new IllegalArgumentException("Unknown embed " + name));
+        return find(name).orElseThrow(() -> new IllegalArgumentException("Unknown embed " + name));
     }
 
     /// Gets an [Embed] based on the given name and sets the [Locale].
@@ -57,13 +52,21 @@ public record Embeds(
     /// @return the [Embed]
     /// @throws IllegalArgumentException if no [Embed] with the given name exists in the configured [data sources][EmbedConfig#sources(EmbedDataSource...)]
     public Embed get(String name, Locale locale) {
-        return sources.stream()
-                .map(source -> source.get(name, placeholders, messageResolver))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .peek(it -> it.locale(locale))
-                .findAny()
-                .orElseThrow(() -> new IllegalArgumentException("Unknown embed " + name));
+        return get(name).locale(locale);
+    }
+
+    /// Gets an [Embed] based on the given name if it exists in one of the [#sources()].
+    ///
+    /// @param name the name of the [Embed]
+    /// @return an [Optional] holding the [Embed] or an empty [Optional] if no [Embed] with the given name exists
+    public Optional<Embed> find(String name) {
+        for (EmbedDataSource source : sources) {
+            Optional<Embed> embed = source.get(name, placeholders, messageResolver);
+            if (embed.isPresent()) {
+                return embed;
+            }
+        }
+        return Optional.empty();
     }
 
     /// Checks whether an [Embed] with the given name exists in one of the [#sources()].
@@ -71,7 +74,7 @@ public record Embeds(
     /// @param name the name of the [Embed]
     /// @return `true` if the embed exists
     public boolean exists(String name) {
-        return sources.stream().anyMatch(it -> it.get(name, Map.of(), messageResolver).isPresent());
+        return find(name).isPresent();
     }
 
     public static class Configuration implements EmbedConfig {
@@ -10,6 +10,7 @@ import io.github.kaktushose.jdac.definitions.description.ParameterDescription;
 import io.github.kaktushose.jdac.definitions.features.internal.Invokable;
 import io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.MethodBuildContext;
+import io.github.kaktushose.jdac.definitions.interactions.PermissionMask;
 import io.github.kaktushose.jdac.definitions.interactions.command.CommandDefinition;
 import io.github.kaktushose.jdac.dispatching.events.interactions.CommandEvent;
 import io.github.kaktushose.jdac.embeds.error.ErrorMessageFactory.ErrorContext;
@@ -84,6 +85,14 @@ public final class Helpers {
         return context.permissions();
     }
 
+    /// Creates the [PermissionMask] of the permissions extracted by [#permissions(MethodBuildContext)].
+    ///
+    /// @param context the [MethodBuildContext] to extract the permissions from
+    /// @return the [PermissionMask]
+    public static PermissionMask permissionMask(MethodBuildContext context) {
+        return PermissionMask.of(permissions(context));
+    }
+
     public static void checkSignature(MethodDescription method, SequencedCollection<Class<?>> methodSignature) {
         var parameters = method.parameters().stream()
                 .map(ParameterDescription::type)
@@ -63,6 +63,25 @@ public final class JDAContext {
         };
     }
 
+    /// The id of the application the [JDA] object or the first shard is logged in as.
+    ///
+    /// @return the application id
+    public long applicationId() {
+        try {
+            return switch (context) {
+                case JDA jda -> jda.getSelfUser().getApplicationIdLong();
+                case ShardManager shardManager -> {
+                    JDA first = shardManager.getShardById(0);
+                    first.awaitReady();
+                    yield first.getSelfUser().getApplicationIdLong();
+                }
+                default -> throw EXCEPTION;
+            };
+        } catch (InterruptedException e) { // edge case, fine to just rethrow
+            throw new RuntimeException(e);
+        }
+    }
+
     public List<ApplicationEmoji> applicationEmojis() {
         try {
             return switch (context) {
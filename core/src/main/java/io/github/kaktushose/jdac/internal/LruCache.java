@@ -0,0 +1,89 @@
+package io.github.kaktushose.jdac.internal;
+
+import org.apache.commons.collections4.map.LRUMap;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/// A thread safe wrapper around [LRUMap], holding at most the configured amount of entries. If the cache is full, the
+/// least recently used entry gets evicted.
+///
+/// Values are computed outside the lock, thus the same value might be computed more than once under contention.
+/// Therefore, the mapping function must be free of side effects.
+///
+/// @param <K> the type of the keys
+/// @param <V> the type of the values
+@ApiStatus.Internal
+public final class LruCache<K, V> {
+
+    private final LRUMap<K, V> entries;
+
+    /// Constructs a new [LruCache].
+    ///
+    /// @param maxSize the maximum amount of entries
+    public LruCache(int maxSize) {
+        this.entries = new LRUMap<>(maxSize);
+    }
+
+    /// Gets the value for the given key or computes and stores it if absent.
+    ///
+    /// @param key      the key
+    /// @param function the function computing the value
+    /// @return the cached or computed value
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = function.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    /// @param key the key
+    /// @return the cached value or `null` if absent
+    public synchronized @Nullable V get(K key) {
+        return entries.get(key);
+    }
+
+    /// @param key   the key
+    /// @param value the value to store
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    /// Stores the value only if the given condition is still met. The condition is checked while holding the lock,
+    /// thus no other operation on this cache can happen in between.
+    ///
+    /// @param key       the key
+    /// @param value     the value to store
+    /// @param condition the condition to check before storing the value
+    /// @return `true` if the value was stored
+    public synchronized boolean putIf(K key, V value, BooleanSupplier condition) {
+        if (!condition.getAsBoolean()) {
+            return false;
+        }
+        entries.put(key, value);
+        return true;
+    }
+
+    /// Removes all entries matching the given [BiPredicate].
+    ///
+    /// @param filter the [BiPredicate] returning `true` for entries to be removed
+    public synchronized void removeIf(BiPredicate<? super K, ? super V> filter) {
+        entries.entrySet().removeIf(entry -> filter.test(entry.getKey(), entry.getValue()));
+    }
+
+    /// Removes all entries.
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /// @return the current amount of entries
+    public synchronized int size() {
+        return entries.size();
+    }
+}
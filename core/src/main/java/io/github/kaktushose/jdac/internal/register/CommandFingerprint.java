@@ -0,0 +1,88 @@
+package io.github.kaktushose.jdac.internal.register;
+
+import io.github.kaktushose.jdac.register.CommandSync;
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import org.jetbrains.annotations.ApiStatus;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/// Computes the fingerprints used by [CommandSync.Fingerprint].
+///
+/// The fingerprint is a SHA-256 hash of the serialized commands. To be stable across restarts, the keys of all json
+/// objects are sorted and the commands are ordered by their serialized form, thus neither the iteration order of the
+/// underlying maps nor of the passed [Collection] affects the result.
+@ApiStatus.Internal
+public final class CommandFingerprint {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private CommandFingerprint() { }
+
+    /// Computes the fingerprint of the given commands.
+    ///
+    /// @param commands the [CommandData] to compute the fingerprint of
+    /// @return the hex encoded fingerprint
+    public static String of(Collection<? extends CommandData> commands) {
+        List<String> serialized = new ArrayList<>(commands.size());
+        for (CommandData command : commands) {
+            StringBuilder builder = new StringBuilder();
+            canonicalize(mapper.readTree(command.toData().toString()), builder);
+            serialized.add(builder.toString());
+        }
+        Collections.sort(serialized);
+
+        MessageDigest digest = sha256();
+        for (String command : serialized) {
+            digest.update(command.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void canonicalize(JsonNode node, StringBuilder builder) {
+        switch (node) {
+            case ObjectNode object -> {
+                SortedMap<String, JsonNode> sorted = new TreeMap<>();
+                object.forEachEntry(sorted::put);
+                builder.append('{');
+                boolean first = true;
+                for (Map.Entry<String, JsonNode> entry : sorted.entrySet()) {
+                    if (!first) {
+                        builder.append(',');
+                    }
+                    first = false;
+                    builder.append(mapper.writeValueAsString(entry.getKey())).append(':');
+                    canonicalize(entry.getValue(), builder);
+                }
+                builder.append('}');
+            }
+            case ArrayNode array -> {
+                builder.append('[');
+                for (int i = 0; i < array.size(); i++) {
+                    if (i > 0) {
+                        builder.append(',');
+                    }
+                    canonicalize(array.get(i), builder);
+                }
+                builder.append(']');
+            }
+            default -> builder.append(node);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -7,6 +7,10 @@ import io.github.kaktushose.jdac.definitions.interactions.command.ContextCommand
 import io.github.kaktushose.jdac.definitions.interactions.command.SlashCommandDefinition;
 import io.github.kaktushose.jdac.internal.JDAContext;
 import io.github.kaktushose.jdac.internal.logging.JDACLogger;
+import io.github.kaktushose.jdac.message.i18n.internal.JDACLocalizationFunction;
+import io.github.kaktushose.jdac.property.events.GuildCommandsUpdateEvent;
+import io.github.kaktushose.jdac.register.CommandStateStore;
+import io.github.kaktushose.jdac.register.CommandSync;
 import io.github.kaktushose.jdac.scope.GuildScopeProvider;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.interactions.commands.build.CommandData;
@@ -17,12 +21,14 @@ import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /// Class that sends the [CommandData] to Discord.
 ///
-/// @implNote Uses a [CommandTree] to properly transpile all [SlashCommandDefinition]s to [SlashCommandData].
+/// @implNote Uses a [CommandTree] to properly transpile all [SlashCommandDefinition]s to [SlashCommandData]. If
+/// [CommandSync.Fingerprint] is used, commands are only sent if their [CommandFingerprint] changed.
 /// @see CommandTree
 @ApiStatus.Internal
 public final class CommandUpdater {
@@ -32,26 +38,41 @@ public final class CommandUpdater {
     private final GuildScopeProvider guildScopeProvider;
     private final InteractionRegistry interactionRegistry;
     private final LocalizationFunction localizationFunction;
+    private final @Nullable CommandStateStore stateStore;
+    private final Consumer<GuildCommandsUpdateEvent> rolloutListener;
 
     /// Constructs a new CommandUpdater.
     public CommandUpdater(JDAContext jdaContext,
                           GuildScopeProvider guildScopeProvider,
                           InteractionRegistry registry,
-                          LocalizationFunction localizationFunction) {
+                          LocalizationFunction localizationFunction,
+                          CommandSync commandSync,
+                          Consumer<GuildCommandsUpdateEvent> rolloutListener) {
         this.jdaContext = jdaContext;
+        this.rolloutListener = rolloutListener;
         this.guildScopeProvider = guildScopeProvider;
         this.interactionRegistry = registry;
         this.localizationFunction = localizationFunction;
+        this.stateStore = switch (commandSync) {
+            case CommandSync.Fingerprint(CommandStateStore store) -> store;
+            case CommandSync.Overwrite _ -> null;
+        };
     }
 
     /// Sends the [SlashCommandData] to Discord. This is equivalent to calling [#updateGlobalCommands()] and
     /// [#updateGuildCommands(Collection)()] each.
     public void updateAllCommands() {
-        updateGuildCommands(null);
-        updateGlobalCommands();
+        JDACLocalizationFunction.update(() -> {
+            updateGuildCommands(null);
+            updateGlobalCommands();
+        });
     }
 
     private Set<CommandData> getCommands(CommandScope scope) {
+        return JDACLocalizationFunction.update(() -> createCommands(scope));
+    }
+
+    private Set<CommandData> createCommands(CommandScope scope) {
         var tree = new CommandTree(
                 interactionRegistry.find(SlashCommandDefinition.class, it -> it.commandConfig().scope() == scope)
         );
@@ -76,11 +97,25 @@ public final class CommandUpdater {
     public void updateGlobalCommands() {
         log.debug("Updating global commands...");
         var commands = getCommands(CommandScope.GLOBAL);
-        jdaContext.performTask(jda -> jda.updateCommands().addCommands(commands).queue(), false);
+        var fingerprint = fingerprint(commands);
+        var target = target(CommandStateStore.GLOBAL);
+        if (unchanged(target, fingerprint)) {
+            log.debug("Global commands are unchanged, skipping update");
+            return;
+        }
+        jdaContext.performTask(jda -> jda.updateCommands().addCommands(commands).queue(
+                _ -> {
+                    save(target, fingerprint);
+                    flush();
+                }
+        ), false);
         log.debug("Registered global command(s): {}", commands.stream().map(CommandData::getName).collect(Collectors.toSet()));
     }
 
     /// Sends the guild scope [SlashCommandData] to Discord.
+    ///
+    /// @implNote The requests are sent asynchronously by a [GuildRollout], limiting the amount of concurrent requests
+    /// per shard.
     public void updateGuildCommands(@Nullable Collection<Guild> guilds) {
         log.debug("Updating guild commands...");
         var guildMapping = getGuildMapping();
@@ -92,13 +127,22 @@ public final class CommandUpdater {
             update = guilds.stream();
         }
 
+        // many guilds share the same commands, so compute each fingerprint only once
+        Map<Set<CommandData>, String> fingerprints = new HashMap<>();
+        @Nullable Long application = stateStore == null ? null : jdaContext.applicationId();
+        GuildRollout rollout = new GuildRollout(rolloutListener, this::flush);
         update.forEach(guild -> {
-            log.debug("Updating guild commands for guild: {}", guild);
-            var commands = guildMapping.getOrDefault(guild.getIdLong(), Collections.emptySet());
+            var commands = guildMapping.getOrDefault(guild.getIdLong(), Set.of());
+            var fingerprint = fingerprints.computeIfAbsent(commands, this::fingerprint);
+            var target = application == null ? null : target(application, guild.getId());
+            if (unchanged(target, fingerprint)) {
+                log.debug("Guild commands for {} are unchanged, skipping update", guild);
+                return;
+            }
 
-            guild.updateCommands().addCommands(commands).queue();
-            log.debug("Registered guild command(s) {} for {}", commands.stream().map(CommandData::getName).collect(Collectors.toSet()), guild);
+            rollout.add(guild, commands, () -> save(target, fingerprint));
         });
+        rollout.start();
     }
 
     private Map<Long, Set<CommandData>> getGuildMapping() {
@@ -114,11 +158,42 @@ public final class CommandUpdater {
             } else {
                 log.debug("Using guild(s) {} for command \"{}\"", guildIds, command.getName());
             }
-            guildIds.forEach(id -> {
-                guildMapping.putIfAbsent(id, new HashSet<>());
-                guildMapping.get(id).add(command);
-            });
+            guildIds.forEach(id -> guildMapping.computeIfAbsent(id, _ -> new HashSet<>()).add(command));
         }
+
+        // guilds with the same commands share one immutable set
+        Map<Set<CommandData>, Set<CommandData>> shared = new HashMap<>();
+        guildMapping.replaceAll((_, guildCommands) -> shared.computeIfAbsent(guildCommands, Set::copyOf));
         return guildMapping;
     }
+
+    private @Nullable String fingerprint(Collection<CommandData> commands) {
+        return stateStore == null ? null : CommandFingerprint.of(commands);
+    }
+
+    // fingerprints are stored per application, so that different bots can share one store
+    private @Nullable String target(String target) {
+        return stateStore == null ? null : target(jdaContext.applicationId(), target);
+    }
+
+    private static String target(long application, String target) {
+        return application + "." + target;
+    }
+
+    private boolean unchanged(@Nullable String target, @Nullable String fingerprint) {
+        return stateStore != null && target != null && fingerprint != null
+                && stateStore.load(target).filter(fingerprint::equals).isPresent();
+    }
+
+    private void save(@Nullable String target, @Nullable String fingerprint) {
+        if (stateStore != null && target != null && fingerprint != null) {
+            stateStore.save(target, fingerprint);
+        }
+    }
+
+    private void flush() {
+        if (stateStore != null) {
+            stateStore.flush();
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package io.github.kaktushose.jdac.internal.register;
+
+import io.github.kaktushose.jdac.internal.logging.JDACLogger;
+import io.github.kaktushose.jdac.register.CommandStateStore;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.Properties;
+
+/// A [CommandStateStore] persisting the fingerprints in a properties file.
+///
+/// The file is read lazily on first access. Saved fingerprints are only kept in memory until the next [#flush()],
+/// which rewrites the file once for a whole update. If the file can't be read or written, a
+/// warning is logged and the commands are treated as changed, thus they get sent to Discord as usual.
+///
+/// @see CommandStateStore#file(Path)
+@ApiStatus.Internal
+public final class FileCommandStateStore implements CommandStateStore {
+
+    private static final Logger log = JDACLogger.getLogger(FileCommandStateStore.class);
+
+    private final Path path;
+    private @Nullable Properties fingerprints;
+    private boolean dirty;
+
+    /// Constructs a new FileCommandStateStore.
+    ///
+    /// @param path the [Path] of the file to store the fingerprints in
+    public FileCommandStateStore(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public synchronized Optional<String> load(String target) {
+        return Optional.ofNullable(fingerprints().getProperty(target));
+    }
+
+    @Override
+    public synchronized void save(String target, String fingerprint) {
+        fingerprints().setProperty(target, fingerprint);
+        dirty = true;
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (dirty) {
+            write();
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        fingerprints().clear();
+        write();
+    }
+
+    private Properties fingerprints() {
+        if (fingerprints == null) {
+            fingerprints = new Properties();
+            if (Files.exists(path)) {
+                try (Reader reader = Files.newBufferedReader(path)) {
+                    fingerprints.load(reader);
+                } catch (IOException e) {
+                    log.warn("Unable to read command state from {}, all commands will be updated", path, e);
+                }
+            }
+        }
+        return fingerprints;
+    }
+
+    // write to a temporary file first, so that a crash never leaves a partially written file behind
+    private void write() {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try {
+                try (Writer writer = Files.newBufferedWriter(temp)) {
+                    fingerprints().store(writer, "JDA-Commands command state, do not edit");
+                }
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            dirty = false;
+        } catch (IOException e) {
+            log.warn("Unable to write command state to {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.kaktushose.jdac.internal.register;
+
+import io.github.kaktushose.jdac.internal.logging.JDACLogger;
+import io.github.kaktushose.jdac.property.events.GuildCommandsUpdateEvent;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/// Sends the guild scoped commands of many guilds to Discord without flooding the rate limits.
+///
+/// The updates are grouped by shard. Each shard only has [#CONCURRENCY] update requests in flight at the same time,
+/// the next update is started as soon as one of them finished. Failed updates caused by network or server errors are
+/// put back into the queue and retried after a short delay, at most [#MAX_ATTEMPTS] times in total.
+///
+/// After each guild was processed a [GuildCommandsUpdateEvent] is passed to the listener. If no guild was added, a
+/// single [GuildCommandsUpdateEvent] with a `total` of `0` is passed on [#start()] instead. Once all guilds were
+/// processed, the `onFinished` callback is run exactly once.
+@ApiStatus.Internal
+public final class GuildRollout {
+
+    /// The maximum amount of update requests in flight per shard.
+    public static final int CONCURRENCY = 4;
+
+    /// The maximum amount of attempts to update the commands of a guild.
+    public static final int MAX_ATTEMPTS = 3;
+
+    private static final Logger log = JDACLogger.getLogger(GuildRollout.class);
+
+    private final Map<JDA, Queue<Update>> shards = new HashMap<>();
+    private final Consumer<GuildCommandsUpdateEvent> listener;
+    private final Runnable onFinished;
+    private final AtomicInteger completed = new AtomicInteger();
+    // only written before start, volatile to publish it to the callback threads
+    private volatile int total;
+
+    /// Constructs a new GuildRollout.
+    ///
+    /// @param listener   the [Consumer] to pass the [GuildCommandsUpdateEvent]s to
+    /// @param onFinished the [Runnable] to call once all guilds were processed
+    public GuildRollout(Consumer<GuildCommandsUpdateEvent> listener, Runnable onFinished) {
+        this.listener = listener;
+        this.onFinished = onFinished;
+    }
+
+    /// Adds a guild to this rollout.
+    ///
+    /// @param guild     the [Guild] to update the commands of
+    /// @param commands  the [CommandData] to register for the guild
+    /// @param onSuccess the [Runnable] to call once Discord accepted the commands
+    public void add(Guild guild, Collection<CommandData> commands, Runnable onSuccess) {
+        shards.computeIfAbsent(guild.getJDA(), _ -> new ConcurrentLinkedQueue<>())
+                .add(new Update(guild, commands, onSuccess, 1));
+        total++;
+    }
+
+    /// Starts sending the commands to Discord. This method returns immediately, the updates are performed
+    /// asynchronously.
+    public void start() {
+        log.debug("Updating guild commands of {} guild(s) on {} shard(s)", total, shards.size());
+        if (total == 0) {
+            listener.accept(new GuildCommandsUpdateEvent(0, null, 0, 0));
+            onFinished.run();
+            return;
+        }
+        for (Queue<Update> queue : shards.values()) {
+            int lanes = Math.min(CONCURRENCY, queue.size());
+            for (int i = 0; i < lanes; i++) {
+                next(queue);
+            }
+        }
+    }
+
+    private void next(Queue<Update> queue) {
+        Update update = queue.poll();
+        if (update == null) {
+            return;
+        }
+
+        var action = update.guild().updateCommands().addCommands(update.commands());
+        // always continue with the next update, even if a callback throws
+        Consumer<Object> success = _ -> {
+            try {
+                update.onSuccess().run();
+                log.debug("Registered guild command(s) {} for {}", update.commands().stream().map(CommandData::getName).toList(), update.guild());
+                finish(update, null);
+            } finally {
+                next(queue);
+            }
+        };
+        Consumer<Throwable> failure = error -> {
+            try {
+                if (retryable(error) && update.attempt() < MAX_ATTEMPTS) {
+                    log.debug("Failed to update guild commands for {}, retrying", update.guild(), error);
+                    queue.add(update.retry());
+                } else {
+                    log.error("Failed to update guild commands for {}", update.guild(), error);
+                    finish(update, error);
+                }
+            } finally {
+                next(queue);
+            }
+        };
+
+        if (update.attempt() == 1) {
+            action.queue(success, failure);
+        } else {
+            action.queueAfter(update.attempt(), TimeUnit.SECONDS, success, failure);
+        }
+    }
+
+    private void finish(Update update, @Nullable Throwable error) {
+        int done = completed.incrementAndGet();
+        try {
+            listener.accept(new GuildCommandsUpdateEvent(update.guild().getIdLong(), error, done, total));
+        } finally {
+            if (done == total) {
+                onFinished.run();
+            }
+        }
+    }
+
+    // client errors like missing access won't resolve by trying again
+    private static boolean retryable(Throwable error) {
+        return !(error instanceof ErrorResponseException response) || response.isServerError();
+    }
+
+    private record Update(Guild guild, Collection<CommandData> commands, Runnable onSuccess, int attempt) {
+        private Update retry() {
+            return new Update(guild, commands, onSuccess, attempt + 1);
+        }
+    }
+}
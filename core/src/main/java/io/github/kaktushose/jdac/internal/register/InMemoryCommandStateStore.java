@@ -0,0 +1,32 @@
+package io.github.kaktushose.jdac.internal.register;
+
+import io.github.kaktushose.jdac.register.CommandStateStore;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// A [CommandStateStore] only holding the fingerprints in memory.
+///
+/// @see CommandStateStore#inMemory()
+@ApiStatus.Internal
+public final class InMemoryCommandStateStore implements CommandStateStore {
+
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<String> load(String target) {
+        return Optional.ofNullable(fingerprints.get(target));
+    }
+
+    @Override
+    public void save(String target, String fingerprint) {
+        fingerprints.put(target, fingerprint);
+    }
+
+    @Override
+    public void clear() {
+        fingerprints.clear();
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.kaktushose.jdac.message.emoji;
 
+import io.github.kaktushose.jdac.internal.LruCache;
 import io.github.kaktushose.jdac.message.resolver.Resolver;
 import net.dv8tion.jda.api.entities.emoji.ApplicationEmoji;
 import net.dv8tion.jda.api.entities.emoji.Emoji;
@@ -7,7 +8,6 @@ import net.fellbaum.jemoji.EmojiManager;
 import org.jspecify.annotations.Nullable;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /// The [EmojiResolver] replaces emoji aliases in strings with their formatted value.
 ///
@@ -20,9 +20,16 @@ import java.util.stream.Collectors;
 ///
 /// Supported are all discord emojis, their skin tone variants and the app emotes for this bot.
 /// App emotes with the same name as a Unicode one will override later.
+///
+/// @implNote The resolved emojis don't depend on the locale or any placeholders. Thus, the results of the last 1024
+/// resolved strings (up to 4096 characters) are cached and returned without parsing the string again.
 public final class EmojiResolver implements Resolver<String> {
 
+    private static final int CACHE_SIZE = 1024;
+    private static final int MAX_CACHED_LENGTH = 4096;
+
     private final Map<String, Emoji> emojis;
+    private final LruCache<String, String> resolved = new LruCache<>(CACHE_SIZE);
 
     /// Constructs a new instance of [EmojiResolver] with the given application emojis and all Unicode emojis supported by discord.
     /// If one of the passed application emojis has the same alias as a Unicode emoji, the app emojis takes precedence.
@@ -49,18 +56,27 @@ public final class EmojiResolver implements Resolver<String> {
     /// @param msg The string to be resolved
     /// @return the resolved string
     public String resolve(String msg) {
-        return parse(msg)
-                .stream()
-                .map(component -> switch (component) {
-                    case Component.EmojiReference(String name) -> {
-                        Emoji found = emojis.get(name);
-                        yield found == null
-                                ? name
-                                : found.getFormatted();
-                    }
-                    case Component.Literal(String value) -> value;
-                })
-                .collect(Collectors.joining());
+        // strings without colons can't contain any emoji alias
+        if (msg.indexOf(':') == -1) {
+            return msg;
+        }
+        return msg.length() > MAX_CACHED_LENGTH
+                ? compile(msg)
+                : resolved.computeIfAbsent(msg, this::compile);
+    }
+
+    private String compile(String msg) {
+        StringBuilder builder = new StringBuilder(msg.length());
+        for (Component component : parse(msg)) {
+            switch (component) {
+                case Component.EmojiReference(String name) -> {
+                    Emoji found = emojis.get(name);
+                    builder.append(found == null ? name : found.getFormatted());
+                }
+                case Component.Literal(String value) -> builder.append(value);
+            }
+        }
+        return builder.toString();
     }
 
 
@@ -0,0 +1,168 @@
+package io.github.kaktushose.jdac.message.i18n;
+
+import io.github.kaktushose.jdac.internal.LruCache;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/// A [Localizer] that caches the results of another [Localizer].
+///
+/// Only messages localized without arguments are cached, because their result solely depends on the locale, bundle
+/// and key. Messages with arguments are always passed to the underlying [Localizer]. The cache holds at most the
+/// configured amount of entries, if it is full the least recently used entry gets evicted.
+///
+/// Use it by wrapping the [Localizer] passed to the [JDACBuilder][io.github.kaktushose.jdac.JDACBuilder]:
+/// ```java
+/// CachingLocalizer localizer = CachingLocalizer.of(FluavaLocalizer.create(Locale.ENGLISH));
+/// JDACommands.builder(jda)
+///         .localizer(localizer)
+///         .start();
+/// ```
+///
+/// If the bundles change at runtime, call [#invalidate(String)] or [#invalidate()] afterward. If the underlying
+/// [Localizer] is a [FluavaLocalizer], the affected bundles are reloaded too.
+///
+/// @implNote If a [CachingLocalizer] is used, the final messages aren't cached by the
+/// [MessageResolver][io.github.kaktushose.jdac.message.resolver.MessageResolver] anymore, so that invalidating
+/// this cache takes effect immediately.
+public final class CachingLocalizer implements Localizer {
+
+    /// The default maximum amount of cached messages.
+    public static final int DEFAULT_SIZE = 4096;
+
+    private final Localizer localizer;
+    private final LruCache<CacheKey, Optional<String>> cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    // incremented on invalidation, so that messages computed before can't be stored afterward
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentHashMap<String, Long> bundleGenerations = new ConcurrentHashMap<>();
+
+    private CachingLocalizer(Localizer localizer, int maxSize) {
+        this.localizer = localizer;
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    /// Creates a new [CachingLocalizer] holding at most [#DEFAULT_SIZE] messages.
+    ///
+    /// @param localizer the [Localizer] to cache the results of
+    /// @return the newly created [CachingLocalizer]
+    public static CachingLocalizer of(Localizer localizer) {
+        return of(localizer, DEFAULT_SIZE);
+    }
+
+    /// Creates a new [CachingLocalizer].
+    ///
+    /// @param localizer the [Localizer] to cache the results of
+    /// @param maxSize   the maximum amount of cached messages
+    /// @return the newly created [CachingLocalizer]
+    public static CachingLocalizer of(Localizer localizer, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        }
+        return new CachingLocalizer(localizer, maxSize);
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// The result is cached if no arguments are passed.
+    ///
+    /// @param locale    {@inheritDoc}
+    /// @param bundle    {@inheritDoc}
+    /// @param key       {@inheritDoc}
+    /// @param arguments {@inheritDoc}
+    /// @return {@inheritDoc}
+    @Override
+    public Optional<String> localize(Locale locale, String bundle, String key, Map<String, @Nullable Object> arguments) {
+        if (!arguments.isEmpty()) {
+            return localizer.localize(locale, bundle, key, arguments);
+        }
+        return lookup(new CacheKey(locale, bundle, key, false), () ->
+                localizer.localize(locale, bundle, key, arguments));
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// The result is cached if no arguments are passed.
+    ///
+    /// @param locale    {@inheritDoc}
+    /// @param bundle    {@inheritDoc}
+    /// @param key       {@inheritDoc}
+    /// @param arguments {@inheritDoc}
+    /// @return {@inheritDoc}
+    @Override
+    public Optional<String> localizeJDA(Locale locale, String bundle, String key, Map<String, @Nullable Object> arguments) {
+        if (!arguments.isEmpty()) {
+            return localizer.localizeJDA(locale, bundle, key, arguments);
+        }
+        return lookup(new CacheKey(locale, bundle, key, true), () ->
+                localizer.localizeJDA(locale, bundle, key, arguments));
+    }
+
+    private Optional<String> lookup(CacheKey key, Supplier<Optional<String>> localization) {
+        Optional<String> cached = cache.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        long before = generation(key.bundle());
+        Optional<String> result = localization.get();
+        cache.putIf(key, result, () -> generation(key.bundle()) == before);
+        return result;
+    }
+
+    private long generation(String bundle) {
+        return generation.get() + bundleGenerations.getOrDefault(bundle, 0L);
+    }
+
+    /// Removes all cached messages of the given bundle. If the underlying [Localizer] is a [FluavaLocalizer], the
+    /// bundle will be loaded again on next usage.
+    ///
+    /// @param bundle the name of the bundle to invalidate
+    public void invalidate(String bundle) {
+        bundleGenerations.merge(bundle, 1L, Long::sum);
+        if (localizer instanceof FluavaLocalizer fluavaLocalizer) {
+            fluavaLocalizer.reload(bundle);
+        }
+        cache.removeIf((key, _) -> key.bundle().equals(bundle));
+    }
+
+    /// Removes all cached messages. If the underlying [Localizer] is a [FluavaLocalizer], all bundles will be loaded
+    /// again on next usage.
+    public void invalidate() {
+        generation.incrementAndGet();
+        if (localizer instanceof FluavaLocalizer fluavaLocalizer) {
+            fluavaLocalizer.reload();
+        }
+        cache.clear();
+    }
+
+    /// Gets a snapshot of the [Stats] of this cache.
+    ///
+    /// @return the current [Stats]
+    public Stats stats() {
+        return new Stats(hits.get(), misses.get(), cache.size());
+    }
+
+    /// The statistics of a [CachingLocalizer]. Localizations with arguments bypass the cache and are not counted.
+    ///
+    /// @param hits   the amount of messages served from the cache
+    /// @param misses the amount of messages passed to the underlying [Localizer]
+    /// @param size   the current amount of cached messages
+    public record Stats(long hits, long misses, int size) {
+
+        /// @return the ratio of hits to all counted localizations or `0` if nothing was localized yet
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private record CacheKey(Locale locale, String bundle, String key, boolean jda) { }
+}
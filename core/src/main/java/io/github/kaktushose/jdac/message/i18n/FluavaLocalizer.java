@@ -119,6 +119,15 @@ public final class FluavaLocalizer implements Localizer {
         return localize(locale, bundle, formattedKey, arguments);
     }
 
+    // used by CachingLocalizer to reload changed bundles
+    void reload(String bundle) {
+        cache.remove(bundle);
+    }
+
+    void reload() {
+        cache.clear();
+    }
+
     /// A builder allowing the customization of [FluavaLocalizer]
     public static class Builder {
         private final Fluava parent;
@@ -5,6 +5,7 @@ import io.github.kaktushose.jdac.exceptions.InternalException;
 import io.github.kaktushose.jdac.message.i18n.internal.BundleFinder;
 import io.github.kaktushose.jdac.message.i18n.internal.JDACLocalizationFunction;
 import io.github.kaktushose.jdac.message.resolver.Resolver;
+import org.jetbrains.annotations.ApiStatus;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Locale;
@@ -142,6 +143,16 @@ public class I18n implements Resolver<String> {
     /// @return the localized message or the key if not found
     @Override
     public String resolve(String combinedKey, Locale locale, Map<String, @Nullable Object> placeholder) {
+        return localize(key(combinedKey), locale, placeholder);
+    }
+
+    /// Splits the given combined key into the bundle and the message key. If no bundle is stated explicitly, it is
+    /// searched for as described in the class docs.
+    ///
+    /// @param combinedKey the messages key, optionally prefixed with the bundle
+    /// @return the [BundleKey]
+    @ApiStatus.Internal
+    public BundleKey key(String combinedKey) {
         String[] bundleSplit = combinedKey.split("\\$", 2);
         String bundle = bundleSplit.length == 2 && !bundleSplit[0].isEmpty()
                 ? bundleSplit[0].trim()
@@ -151,6 +162,21 @@ public class I18n implements Resolver<String> {
                 ? bundleSplit[1]
                 : bundleSplit[0];
 
+        return new BundleKey(combinedKey, bundle, key);
+    }
+
+    /// Localizes the message identified by the given [BundleKey].
+    ///
+    /// @param bundleKey   the [BundleKey] to localize
+    /// @param locale      the [Locale] to be used to localize the key
+    /// @param placeholder the placeholder to be used
+    /// @return the localized message or the combined key if not found
+    @ApiStatus.Internal
+    public String localize(BundleKey bundleKey, Locale locale, Map<String, @Nullable Object> placeholder) {
+        String bundle = bundleKey.bundle();
+        String key = bundleKey.key();
+        String combinedKey = bundleKey.combinedKey();
+
         if (bundle.equals(JDAC_BUNDLE)) {
             return localizer.localize(locale, JDAC_BUNDLE, key, placeholder)
                     .or(() -> defaultsLocalizer.localize(locale, JDAC_BUNDLE + "_default", key, placeholder))
@@ -162,6 +188,24 @@ public class I18n implements Resolver<String> {
                 : localizer.localize(locale, bundle, key, placeholder)).orElse(combinedKey);
     }
 
+    /// Whether the result of [#localize(BundleKey, Locale, Map)] only depends on its arguments. This is only known for
+    /// the [FluavaLocalizer], whose bundles never change once loaded. Other [Localizer]s, including the [CachingLocalizer],
+    /// might return different messages over time. Also, this isn't the case while localizing commands for JDA.
+    ///
+    /// @return `true` if the result may be cached
+    @ApiStatus.Internal
+    public boolean cacheable() {
+        return !JDACLocalizationFunction.JDA_LOCALIZATION.orElse(false) && localizer instanceof FluavaLocalizer;
+    }
+
+    /// A message key split into its bundle and the key inside that bundle.
+    ///
+    /// @param combinedKey the original key, as passed to [#key(String)]
+    /// @param bundle      the bundle name
+    /// @param key         the message key inside the bundle
+    @ApiStatus.Internal
+    public record BundleKey(String combinedKey, String bundle, String key) { }
+
     /// @return 2000
     @Override
     public int priority() {
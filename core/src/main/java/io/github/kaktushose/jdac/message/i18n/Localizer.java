@@ -14,6 +14,10 @@ import java.util.Optional;
 /// [Fluava].
 ///
 /// For an example implementation take a look at [FluavaLocalizer]
+///
+/// Implementations must be thread safe. Besides being called concurrently by different interactions, the
+/// localizations of commands are resolved for all locales in parallel on the common
+/// [ForkJoinPool][java.util.concurrent.ForkJoinPool].
 public interface Localizer {
 
     /// This method localizes a given key for a specific bundle and locale.
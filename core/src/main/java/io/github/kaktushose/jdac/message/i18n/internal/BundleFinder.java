@@ -4,17 +4,32 @@ import io.github.kaktushose.jdac.annotations.i18n.Bundle;
 import io.github.kaktushose.jdac.definitions.description.ClassDescription;
 import io.github.kaktushose.jdac.definitions.description.Description;
 import io.github.kaktushose.jdac.definitions.description.Descriptor;
+import io.github.kaktushose.jdac.definitions.description.MethodDescription;
+import io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition;
 import io.github.kaktushose.jdac.message.i18n.I18n;
 import org.apache.commons.collections4.map.LRUMap;
 import org.jetbrains.annotations.ApiStatus;
 import org.jspecify.annotations.Nullable;
 
+import java.lang.invoke.MethodType;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
+/// Finds the bundle to use for messages that don't state one explicitly, see [I18n] for the search order.
+///
+/// The effective bundle of each interaction method is computed once by [#index(Iterable)] and bound to [#INTERACTION]
+/// while the interaction is executed. If the first user frame on the call stack is that interaction method, its
+/// precomputed bundle is used. Otherwise, e.g. for helper methods or outside an interaction, the whole call stack is
+/// searched.
 @ApiStatus.Internal
 public class BundleFinder {
+
+    /// The [InteractionBundle] of the currently executed interaction, bound by the event handler.
+    public static final ScopedValue<InteractionBundle> INTERACTION = ScopedValue.newInstance();
+
     // skipped classes during stack scanning (Class.getName().startWith(X))
     private static final List<String> SKIPPED = List.of(
             "io.github.kaktushose.jdac",
@@ -27,13 +42,55 @@ public class BundleFinder {
 
     private final StackWalker walker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
 
+    private final Map<String, InteractionBundle> interactions = new ConcurrentHashMap<>();
+
     private final Descriptor descriptor;
 
     public BundleFinder(Descriptor descriptor) {
         this.descriptor = descriptor;
     }
 
+    /// Computes the effective bundle of the given [InteractionDefinition]s.
+    ///
+    /// @param definitions the [InteractionDefinition]s to index
+    public void index(Iterable<? extends InteractionDefinition> definitions) {
+        definitions.forEach(this::interaction);
+    }
+
+    /// Gets the [InteractionBundle] of the given [InteractionDefinition], computing it if it wasn't indexed yet.
+    ///
+    /// @param definition the [InteractionDefinition] to get the [InteractionBundle] for
+    /// @return the [InteractionBundle]
+    public InteractionBundle interaction(InteractionDefinition definition) {
+        return interactions.computeIfAbsent(definition.definitionId(), _ -> {
+            MethodDescription method = definition.methodDescription();
+            String bundle = readAnnotation(method).orElseGet(() -> {
+                ClassDescription classDescription = definition.classDescription();
+                return readAnnotation(classDescription)
+                        .or(() -> readAnnotation(classDescription.packageDescription()))
+                        .orElse(I18n.DEFAULT_BUNDLE);
+            });
+            return new InteractionBundle(method.declaringClass(), method.name(), method.toMethodType(), bundle);
+        });
+    }
+
     public String findBundle() {
+        if (INTERACTION.isBound()) {
+            InteractionBundle interaction = INTERACTION.get();
+
+            // only the first user frame is needed to check whether the message is resolved inside the interaction method
+            Optional<StackWalker.StackFrame> caller = walker.walk(stream -> stream
+                    .filter(frame -> !skipped(frame.getClassName()))
+                    .findFirst()
+            );
+            if (caller.isEmpty()) {
+                return I18n.DEFAULT_BUNDLE;
+            }
+            if (interaction.matches(caller.get())) {
+                return interaction.bundle();
+            }
+        }
+
         // isn't intended for that, but who cares
         AtomicReference<@Nullable ClassDescription> last = new AtomicReference<>();
 
@@ -52,10 +109,8 @@ public class BundleFinder {
     private String checkFrame(StackWalker.StackFrame frame, AtomicReference<@Nullable ClassDescription> last) {
         Class<?> klass = frame.getDeclaringClass();
 
-        String name = klass.getName();
-
         // just some optimization
-        if (SKIPPED.stream().anyMatch(name::startsWith)) {
+        if (skipped(klass.getName())) {
             return "";
         }
 
@@ -83,12 +138,39 @@ public class BundleFinder {
         if (classDescription == null) {
             return "";
         }
-        return cache.computeIfAbsent(classDescription.clazz(), _ -> readAnnotation(classDescription)
-                .orElseGet(() -> readAnnotation(classDescription.packageDescription()).orElse("")));
+        // LRUMap isn't thread safe
+        synchronized (cache) {
+            return cache.computeIfAbsent(classDescription.clazz(), _ -> readAnnotation(classDescription)
+                    .orElseGet(() -> readAnnotation(classDescription.packageDescription()).orElse("")));
+        }
     }
 
     private Optional<String> readAnnotation(Description description) {
         return description.findAnnotation(Bundle.class)
                 .map(Bundle::value);
     }
+
+    private static boolean skipped(String className) {
+        for (String prefix : SKIPPED) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /// The effective bundle of an interaction method.
+    ///
+    /// @param declaringClass the [Class] declaring the interaction method
+    /// @param method         the name of the interaction method
+    /// @param type           the [MethodType] of the interaction method
+    /// @param bundle         the bundle declared by the method, its class or its package
+    public record InteractionBundle(Class<?> declaringClass, String method, MethodType type, String bundle) {
+
+        private boolean matches(StackWalker.StackFrame frame) {
+            return frame.getDeclaringClass() == declaringClass
+                    && frame.getMethodName().equals(method)
+                    && frame.getMethodType().equals(type);
+        }
+    }
 }
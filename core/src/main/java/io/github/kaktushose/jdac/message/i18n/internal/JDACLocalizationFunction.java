@@ -6,15 +6,19 @@ import io.github.kaktushose.jdac.message.resolver.MessageResolver;
 import io.github.kaktushose.jdac.property.Definitions;
 import io.github.kaktushose.jdac.property.JDACIntrospection;
 import io.github.kaktushose.jdac.property.events.FrameworkStartEvent;
+import io.github.kaktushose.jdac.property.internal.JDACIntrospectionImpl;
 import dev.goldmensch.propane.event.Listener;
 import net.dv8tion.jda.api.interactions.DiscordLocale;
 import net.dv8tion.jda.api.interactions.commands.localization.LocalizationFunction;
 import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -27,6 +31,7 @@ import static io.github.kaktushose.jdac.property.internal.JDACInternalProperties
 public final class JDACLocalizationFunction implements LocalizationFunction {
 
     public static final ScopedValue<Boolean> JDA_LOCALIZATION = ScopedValue.newInstance();
+    private static final ScopedValue<Map<LocalizationKey, Optional<String>>> LOCALIZATIONS = ScopedValue.newInstance();
     private static final Logger log = LoggerFactory.getLogger(JDACLocalizationFunction.class);
     private static final Pattern OPTIONS_SEPARATOR = Pattern.compile("[.]options.*([.]name|[.]description)$");
     public static Function<JDACIntrospection, LocalizationFunction> PROVIDER_FUNC = ctx -> {
@@ -39,7 +44,10 @@ public final class JDACLocalizationFunction implements LocalizationFunction {
         ctx.subscribe(Listener.create(FrameworkStartEvent.class, (_, _) -> func.logNotFound()));
         return func;
     };
-    private final Map<String, Collection<DiscordLocale>> missingLocalizations = new HashMap<>();
+    private static final List<DiscordLocale> LOCALES = Arrays.stream(DiscordLocale.values())
+            .filter(locale -> locale != DiscordLocale.UNKNOWN)
+            .toList();
+    private final Map<String, Collection<DiscordLocale>> missingLocalizations = new ConcurrentHashMap<>();
     private final BundleFinder bundleFinder;
     private final Definitions definitions;
     private final MessageResolver resolver;
@@ -83,28 +91,91 @@ public final class JDACLocalizationFunction implements LocalizationFunction {
                 .collect(Collectors.joining(", "));
     }
 
+    /// Runs the given task as one command update. Messages localized during the task are memoized per bundle, key
+    /// and locale, thus commands that are localized more than once during the update don't resolve the same messages
+    /// again. The memoized messages are discarded afterward, so that the next update picks up changed messages.
+    ///
+    /// If this method is called during another command update, the memoized messages of that update are shared.
+    ///
+    /// @param task the command update to run
+    public static void update(Runnable task) {
+        update(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /// Runs the given task as one command update, see [#update(Runnable)].
+    ///
+    /// @param task the command update to run
+    /// @param <T>  the type of the result
+    /// @return the result of the task
+    public static <T> T update(Supplier<T> task) {
+        if (LOCALIZATIONS.isBound()) {
+            return task.get();
+        }
+        return ScopedValue.where(LOCALIZATIONS, new ConcurrentHashMap<>()).call(task::get);
+    }
+
+    /// Localizes the given key for all [DiscordLocale]s in parallel on the common [java.util.concurrent.ForkJoinPool].
+    /// Locales missing in the bundle of the command are localized with the bundle found on the call stack afterward.
+    /// Results are memoized during the current [command update][#update(Runnable)].
     @Override
     public Map<DiscordLocale, String> apply(String localizationKey) {
         String bundle = findBundle(localizationKey);
+        JDACIntrospectionImpl introspection = JDACIntrospectionImpl.INTROSPECTION.isBound()
+                ? JDACIntrospectionImpl.INTROSPECTION.get()
+                : null;
+        Map<LocalizationKey, Optional<String>> localizations = LOCALIZATIONS.isBound()
+                ? LOCALIZATIONS.get()
+                : null;
+
+        Map<DiscordLocale, String> result = new ConcurrentHashMap<>();
+        // with found bundle (or default)
+        LOCALES.parallelStream().forEach(locale ->
+                localize(bundle, localizationKey, locale, introspection, localizations)
+                        .ifPresent(s -> result.put(locale, s))
+        );
+        if (result.size() == LOCALES.size()) {
+            return result;
+        }
 
-        HashMap<DiscordLocale, String> localizations = new HashMap<>();
-        for (DiscordLocale locale : DiscordLocale.values()) {
-            if (locale == DiscordLocale.UNKNOWN) {
-                continue;
-            }
-
-            tryLocalize(bundle + "$" + localizationKey, locale) // with found bundle (or default)
-                    .or(() -> tryLocalize(localizationKey, locale))
-                    .ifPresentOrElse(s -> localizations.put(locale, s), () ->
-                            missingLocalizations.computeIfAbsent(localizationKey, _ -> new HashSet<>()).add(locale)
-                    );
+        // resolved on the calling thread, because the bundle of keys without a bundle depends on the call stack
+        String fallback = bundleFinder.findBundle();
+        List<DiscordLocale> missing = LOCALES.stream().filter(locale -> !result.containsKey(locale)).toList();
+        missing.parallelStream().forEach(locale ->
+                (fallback.equals(bundle) ? Optional.<String>empty() : localize(fallback, localizationKey, locale, introspection, localizations))
+                        .ifPresentOrElse(s -> result.put(locale, s), () ->
+                                missingLocalizations.computeIfAbsent(localizationKey, _ -> ConcurrentHashMap.newKeySet()).add(locale)
+                        )
+        );
+
+        return result;
+    }
+
+    private Optional<String> localize(String bundle, String key, DiscordLocale locale,
+                                      @Nullable JDACIntrospectionImpl introspection,
+                                      @Nullable Map<LocalizationKey, Optional<String>> localizations) {
+        LocalizationKey localizationKey = new LocalizationKey(bundle, key, locale);
+        Optional<String> cached = localizations == null ? null : localizations.get(localizationKey);
+        if (cached != null) {
+            return cached;
         }
 
-        return localizations;
+        // scoped values aren't inherited by the threads of the common pool
+        ScopedValue.Carrier carrier = ScopedValue.where(JDA_LOCALIZATION, true);
+        if (introspection != null) {
+            carrier = carrier.where(JDACIntrospectionImpl.INTROSPECTION, introspection);
+        }
+        Optional<String> result = carrier.call(() -> tryLocalize(bundle + "$" + key, locale));
+        if (localizations != null) {
+            localizations.putIfAbsent(localizationKey, result);
+        }
+        return result;
     }
 
     private Optional<String> tryLocalize(String key, DiscordLocale locale) {
-        String result = ScopedValue.where(JDA_LOCALIZATION, true).call(() -> resolver.resolve(key, locale));
+        String result = resolver.resolve(key, locale);
         return result.equals(key)
                 ? Optional.empty()
                 : Optional.of(result);
@@ -160,4 +231,6 @@ public final class JDACLocalizationFunction implements LocalizationFunction {
         log.warn("Couldn't extract command name out of jda localization key {}. Fallback to default bundle.", key);
         return Optional.empty();
     }
+
+    private record LocalizationKey(String bundle, String key, DiscordLocale locale) { }
 }
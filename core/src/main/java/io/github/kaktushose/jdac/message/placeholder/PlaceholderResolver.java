@@ -1,5 +1,6 @@
 package io.github.kaktushose.jdac.message.placeholder;
 
+import io.github.kaktushose.jdac.internal.LruCache;
 import io.github.kaktushose.jdac.message.resolver.Resolver;
 import io.github.kaktushose.proteus.Proteus;
 import io.github.kaktushose.proteus.conversion.ConversionResult;
@@ -7,7 +8,6 @@ import io.github.kaktushose.proteus.type.Type;
 import org.jspecify.annotations.Nullable;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /// The placeholder resolver is used to do simple placeholder/variable resolution.
 /// JDA-Commands uses a format similar to [project fluent](https://projectfluent.org/fluent/guide/) but with some
@@ -28,14 +28,16 @@ import java.util.stream.Collectors;
 /// 2. if not successful, just calls [Object#toString()]
 ///
 /// If a variable couldn't be found, `null` will be inserted.
+///
+/// @implNote Every string is parsed into a template of literals and references once. The templates of the last 1024
+/// resolved strings (up to 4096 characters) are cached, thus resolving a frequently used string only requires a single
+/// pass over its segments.
 public final class PlaceholderResolver implements Resolver<String> {
 
-    private static final Collection<String> forbiddenCharacters = List.of(
-            " ",
-            "\n",
-            "{",
-            "$"
-    );
+    private static final int CACHE_SIZE = 1024;
+    private static final int MAX_CACHED_LENGTH = 4096;
+
+    private final LruCache<String, Template> templates = new LruCache<>(CACHE_SIZE);
 
     private static String getPlaceholder(String name, Map<String, @Nullable Object> placeholder) {
         Object value = placeholder.get(name);
@@ -50,6 +52,44 @@ public final class PlaceholderResolver implements Resolver<String> {
         };
     }
 
+    private static boolean isForbidden(String reference) {
+        for (int i = 0; i < reference.length(); i++) {
+            switch (reference.charAt(i)) {
+                case ' ', '\n', '{', '$' -> {
+                    return true;
+                }
+                default -> { }
+            }
+        }
+        return false;
+    }
+
+    private static Template compile(String msg) {
+        List<Component> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int literalLength = 0;
+        int references = 0;
+        for (Component component : parse(msg)) {
+            switch (component) {
+                case Component.Literal(String value) -> literal.append(value);
+                case Component.PlaceholderReference _ -> {
+                    if (!literal.isEmpty()) {
+                        segments.add(new Component.Literal(literal.toString()));
+                        literalLength += literal.length();
+                        literal.setLength(0);
+                    }
+                    segments.add(component);
+                    references++;
+                }
+            }
+        }
+        if (!literal.isEmpty()) {
+            segments.add(new Component.Literal(literal.toString()));
+            literalLength += literal.length();
+        }
+        return new Template(segments.toArray(Component[]::new), literalLength, references);
+    }
+
     private static List<Component> parse(String msg) {
         List<Component> components = new ArrayList<>();
 
@@ -87,7 +127,7 @@ public final class PlaceholderResolver implements Resolver<String> {
                 }
 
                 // check for forbidden characters or blank reference -> if found, treat as literal text
-                if (reference.isBlank() || forbiddenCharacters.stream().anyMatch(reference::contains)) {
+                if (reference.isBlank() || isForbidden(reference)) {
                     nextLiteralStart = i;
                     continue;
                 }
@@ -116,15 +156,32 @@ public final class PlaceholderResolver implements Resolver<String> {
     /// @return the string with placeholders replaced by their value
     @Override
     public String resolve(String content, Locale locale, Map<String, @Nullable Object> placeholders) {
-        return parse(content)
-                .stream()
-                .map(component -> switch (component) {
-                    case Component.Literal(String value) -> value;
-                    case Component.PlaceholderReference(String reference) -> getPlaceholder(reference, placeholders);
-                })
-                .collect(Collectors.joining());
+        Template template = content.length() > MAX_CACHED_LENGTH
+                ? compile(content)
+                : templates.computeIfAbsent(content, PlaceholderResolver::compile);
+
+        // adjacent literals are merged, thus a string without placeholders consists of at most one literal
+        if (template.references() == 0) {
+            return template.segments().length == 0 ? "" : ((Component.Literal) template.segments()[0]).value();
+        }
+
+        StringBuilder builder = new StringBuilder(template.literalLength() + template.references() * 16);
+        for (Component component : template.segments()) {
+            switch (component) {
+                case Component.Literal(String value) -> builder.append(value);
+                case Component.PlaceholderReference(String reference) -> builder.append(getPlaceholder(reference, placeholders));
+            }
+        }
+        return builder.toString();
     }
 
+    /// A parsed string, consisting of literal text and placeholder references.
+    ///
+    /// @param segments      the [Component]s of the string in order, adjacent literals are merged
+    /// @param literalLength the summed up length of all literals
+    /// @param references    the amount of placeholder references
+    private record Template(Component[] segments, int literalLength, int references) { }
+
     /// @return 1000
     @Override
     public int priority() {
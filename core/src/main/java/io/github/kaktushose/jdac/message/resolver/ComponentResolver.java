@@ -1,6 +1,7 @@
 package io.github.kaktushose.jdac.message.resolver;
 
 import io.github.kaktushose.jdac.exceptions.ParsingException;
+import io.github.kaktushose.jdac.message.resolver.internal.ComponentTreeResolver;
 import net.dv8tion.jda.api.components.Component;
 import net.dv8tion.jda.api.components.utils.ComponentDeserializer;
 import net.dv8tion.jda.api.components.utils.ComponentSerializer;
@@ -19,6 +20,10 @@ import static io.github.kaktushose.jdac.message.placeholder.Entry.entry;
 /// - `label`
 /// - `placeholder`
 /// - `value`
+/// - `description`
+///
+/// Message components are resolved by walking the component tree directly. Components that aren't supported by the
+/// direct walk, e.g. modal components, are resolved by serializing them to JSON and deserializing the result.
 ///
 /// As with other [Resolver]s, this class is not intended to be directly used by end users but part of the public api
 /// to allow manual execution of the frameworks resolving logic for dynamic values if needed.
@@ -28,6 +33,7 @@ public final class ComponentResolver<T extends Component> implements Resolver<T>
 
     private static final ComponentSerializer serializer = new ComponentSerializer();
     private final DataObjectResolver jsonResolver;
+    private final ComponentTreeResolver treeResolver;
 
     private final Class<T> type;
 
@@ -38,6 +44,7 @@ public final class ComponentResolver<T extends Component> implements Resolver<T>
     public ComponentResolver(Resolver<String> resolver, Class<T> type) {
         this.type = type;
         jsonResolver = new DataObjectResolver(resolver, Set.of("content", "label", "placeholder", "value", "description"));
+        treeResolver = new ComponentTreeResolver(resolver);
     }
 
     /// Resolves a [Collection] of [Component]s. [FileUpload]s will be preserved.
@@ -58,6 +65,9 @@ public final class ComponentResolver<T extends Component> implements Resolver<T>
     /// @return the resolved [Component]
     @Override
     public T resolve(T component, Locale locale, Map<String, @Nullable Object> placeholders) {
+        if (treeResolver.supports(component)) {
+            return type.cast(treeResolver.resolve(component, locale, placeholders));
+        }
         List<FileUpload> fileUploads = serializer.getFileUploads(component);
         DataObject data = serializer.serialize(component);
         try {
@@ -1,7 +1,10 @@
 package io.github.kaktushose.jdac.message.resolver;
 
+import io.github.kaktushose.jdac.internal.LruCache;
 import io.github.kaktushose.jdac.message.emoji.EmojiResolver;
+import io.github.kaktushose.jdac.message.i18n.FluavaLocalizer;
 import io.github.kaktushose.jdac.message.i18n.I18n;
+import io.github.kaktushose.jdac.message.i18n.Localizer;
 import io.github.kaktushose.jdac.message.placeholder.PlaceholderResolver;
 import io.github.kaktushose.jdac.property.JDACProperty;
 import org.jspecify.annotations.Nullable;
@@ -21,13 +24,23 @@ import java.util.*;
 /// Please note that this class is a helper and doesn't have own resolving logic, it's more of a pipeline
 /// of all string resolvers. It is not intended to be directly used by end users but part of the public api
 /// to allow manual execution of the frameworks resolving logic for dynamic values if needed.
+///
+/// @implNote If only the three default resolvers are registered, they are fused into one pipeline: the message
+/// key is split only once. If the [FluavaLocalizer] is used, the final result of messages resolved without placeholders
+/// is also cached per bundle, key and locale. Other [Localizer]s aren't known to always return the same message, thus
+/// their results aren't cached. As soon as a custom [`Resolver<String>`][JDACProperty#STRING_RESOLVER] is registered,
+/// all resolvers are applied one after another instead.
 public final class MessageResolver implements Resolver<String> {
 
+    private static final int CACHE_SIZE = 2048;
+
     private final Collection<Resolver<String>> resolvers;
+    private final @Nullable Fused fused;
 
     public MessageResolver(Collection<Resolver<String>> resolvers) {
         this.resolvers = new TreeSet<>(Comparator.comparingInt(Resolver::priority));
         this.resolvers.addAll(resolvers);
+        this.fused = Fused.of(this.resolvers);
     }
 
     /// Applies all registered [`Resolver<String>`][JDACProperty#STRING_RESOLVER] to the given message with
@@ -39,6 +52,10 @@ public final class MessageResolver implements Resolver<String> {
     /// @return the resolved message
     @Override
     public String resolve(String message, Locale locale, Map<String, @Nullable Object> placeholder) {
+        if (fused != null) {
+            return fused.resolve(message, locale, placeholder);
+        }
+
         String content = message;
         for (Resolver<String> resolver : resolvers) {
             content = resolver.resolve(content, locale, placeholder);
@@ -52,4 +69,42 @@ public final class MessageResolver implements Resolver<String> {
     public int priority() {
         return 0;
     }
+
+    private record CacheKey(String bundle, String combinedKey, Locale locale) { }
+
+    // subclasses of I18n might override resolve, thus only the exact default resolvers can be fused
+    private record Fused(PlaceholderResolver placeholders, I18n i18n, EmojiResolver emojis, LruCache<CacheKey, String> cache) {
+
+        private static @Nullable Fused of(Collection<Resolver<String>> resolvers) {
+            if (resolvers.size() != 3) {
+                return null;
+            }
+            PlaceholderResolver placeholders = null;
+            I18n i18n = null;
+            EmojiResolver emojis = null;
+            for (Resolver<String> resolver : resolvers) {
+                switch (resolver) {
+                    case PlaceholderResolver it -> placeholders = it;
+                    case EmojiResolver it -> emojis = it;
+                    case I18n it when it.getClass() == I18n.class -> i18n = it;
+                    default -> { }
+                }
+            }
+            return placeholders == null || i18n == null || emojis == null
+                    ? null
+                    : new Fused(placeholders, i18n, emojis, new LruCache<>(CACHE_SIZE));
+        }
+
+        private String resolve(String message, Locale locale, Map<String, @Nullable Object> placeholder) {
+            I18n.BundleKey key = i18n.key(placeholders.resolve(message, locale, placeholder));
+
+            if (placeholder.isEmpty() && i18n.cacheable()) {
+                return cache.computeIfAbsent(
+                        new CacheKey(key.bundle(), key.combinedKey(), locale),
+                        _ -> emojis.resolve(i18n.localize(key, locale, placeholder))
+                );
+            }
+            return emojis.resolve(i18n.localize(key, locale, placeholder));
+        }
+    }
 }
@@ -18,6 +18,10 @@ import java.util.Map;
 /// Most Resolvers are not intended to be directly used by end users but part of the public api to allow manual execution
 /// of the frameworks resolving logic for dynamic values if needed.
 ///
+/// Implementations must be thread safe. Besides being called concurrently by different interactions, the
+/// [`Resolver<String>`][io.github.kaktushose.jdac.property.JDACProperty#STRING_RESOLVER]s are used to localize
+/// commands for all locales in parallel on the common [ForkJoinPool][java.util.concurrent.ForkJoinPool].
+///
 /// @param <T> the type to resolve
 /// @see MessageResolver
 /// @see DataObjectResolver
@@ -0,0 +1,134 @@
+package io.github.kaktushose.jdac.message.resolver.internal;
+
+import io.github.kaktushose.jdac.components.internal.SequencedComponent;
+import io.github.kaktushose.jdac.message.resolver.Resolver;
+import net.dv8tion.jda.api.components.Component;
+import net.dv8tion.jda.api.components.actionrow.ActionRow;
+import net.dv8tion.jda.api.components.buttons.Button;
+import net.dv8tion.jda.api.components.container.Container;
+import net.dv8tion.jda.api.components.filedisplay.FileDisplay;
+import net.dv8tion.jda.api.components.mediagallery.MediaGallery;
+import net.dv8tion.jda.api.components.mediagallery.MediaGalleryItem;
+import net.dv8tion.jda.api.components.replacer.ComponentReplacer;
+import net.dv8tion.jda.api.components.replacer.IReplaceable;
+import net.dv8tion.jda.api.components.section.Section;
+import net.dv8tion.jda.api.components.selections.EntitySelectMenu;
+import net.dv8tion.jda.api.components.selections.SelectOption;
+import net.dv8tion.jda.api.components.selections.StringSelectMenu;
+import net.dv8tion.jda.api.components.separator.Separator;
+import net.dv8tion.jda.api.components.textdisplay.TextDisplay;
+import net.dv8tion.jda.api.components.thumbnail.Thumbnail;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+
+/// Resolves the textual fields of [Component]s by walking the component tree directly, without serializing it to JSON.
+///
+/// Only the component types known to this class are supported, see [#supports(Component)]. Container-like components
+/// are traversed via [IReplaceable#replace(ComponentReplacer)], the leaf components are copied with their resolved
+/// fields. Thus, file references and unique ids stay untouched.
+@ApiStatus.Internal
+public final class ComponentTreeResolver implements Resolver<Component> {
+
+    private final Resolver<String> resolver;
+
+    public ComponentTreeResolver(Resolver<String> resolver) {
+        this.resolver = resolver;
+    }
+
+    /// Checks whether the given [Component] and all of its children can be resolved by this class.
+    ///
+    /// @param component the [Component] to check
+    /// @return `true` if the whole tree only consists of supported components
+    public boolean supports(Component component) {
+        return switch (component) {
+            case SequencedComponent<?> _ -> false;
+            case Container container -> container.getComponents().stream().allMatch(this::supports);
+            case Section section -> supports(section.getAccessory())
+                    && section.getContentComponents().stream().allMatch(this::supports);
+            case ActionRow row -> row.getComponents().stream().allMatch(this::supports);
+            case TextDisplay _, Button _, StringSelectMenu _, EntitySelectMenu _, Thumbnail _, MediaGallery _,
+                 Separator _, FileDisplay _ -> true;
+            default -> false;
+        };
+    }
+
+    /// Resolves the given [Component]. Callers must check [#supports(Component)] first.
+    ///
+    /// @param component    the [Component] to resolve
+    /// @param locale       the [Locale] to use for localization
+    /// @param placeholders the placeholders to use if supported by the used String [Resolver]
+    /// @return the resolved [Component]
+    @Override
+    public Component resolve(Component component, Locale locale, Map<String, @Nullable Object> placeholders) {
+        if (component instanceof IReplaceable replaceable) {
+            // the replacer is applied to every nested component, containers themselves have no textual fields
+            return (Component) replaceable.replace(ComponentReplacer.of(
+                    Component.class,
+                    _ -> true,
+                    child -> resolveFields(child, locale, placeholders)
+            ));
+        }
+        return resolveFields(component, locale, placeholders);
+    }
+
+    /// @return 0
+    @Override
+    public int priority() {
+        return 0;
+    }
+
+    private Component resolveFields(Component component, Locale locale, Map<String, @Nullable Object> placeholders) {
+        return switch (component) {
+            case TextDisplay textDisplay -> textDisplay.withContent(resolve(textDisplay.getContent(), locale, placeholders));
+            case Button button when !button.getLabel().isEmpty() ->
+                    button.withLabel(resolve(button.getLabel(), locale, placeholders));
+            case StringSelectMenu menu -> {
+                StringSelectMenu.Builder builder = menu.createCopy();
+                if (menu.getPlaceholder() != null) {
+                    builder.setPlaceholder(resolve(menu.getPlaceholder(), locale, placeholders));
+                }
+                builder.getOptions().replaceAll(option -> resolveOption(option, locale, placeholders));
+                yield withUniqueId(builder.build(), menu.getUniqueId());
+            }
+            case EntitySelectMenu menu when menu.getPlaceholder() != null -> withUniqueId(
+                    menu.createCopy().setPlaceholder(resolve(menu.getPlaceholder(), locale, placeholders)).build(),
+                    menu.getUniqueId()
+            );
+            case Thumbnail thumbnail when thumbnail.getDescription() != null ->
+                    thumbnail.withDescription(resolve(thumbnail.getDescription(), locale, placeholders));
+            case MediaGallery gallery -> MediaGallery.of(gallery.getItems().stream()
+                    .map(item -> resolveItem(item, locale, placeholders))
+                    .toList()
+            ).withUniqueId(gallery.getUniqueId());
+            default -> component;
+        };
+    }
+
+    private SelectOption resolveOption(SelectOption option, Locale locale, Map<String, @Nullable Object> placeholders) {
+        option = option
+                .withLabel(resolve(option.getLabel(), locale, placeholders))
+                .withValue(resolve(option.getValue(), locale, placeholders));
+        if (option.getDescription() != null) {
+            option = option.withDescription(resolve(option.getDescription(), locale, placeholders));
+        }
+        return option;
+    }
+
+    private MediaGalleryItem resolveItem(MediaGalleryItem item, Locale locale, Map<String, @Nullable Object> placeholders) {
+        return item.getDescription() == null
+                ? item
+                : item.withDescription(resolve(item.getDescription(), locale, placeholders));
+    }
+
+    private String resolve(String value, Locale locale, Map<String, @Nullable Object> placeholders) {
+        return resolver.resolve(value, locale, placeholders);
+    }
+
+    // copies created via the builders lose the unique id
+    private static <T extends Component> Component withUniqueId(T component, int uniqueId) {
+        return uniqueId > 0 ? component.withUniqueId(uniqueId) : component;
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.kaktushose.jdac.permissions;
 
+import io.github.kaktushose.jdac.definitions.interactions.PermissionMask;
 import io.github.kaktushose.jdac.dispatching.context.InvocationContext;
 import io.github.kaktushose.jdac.internal.Helpers;
 import io.github.kaktushose.jdac.internal.logging.JDACLogger;
@@ -8,8 +9,6 @@ import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.User;
 import org.slf4j.Logger;
 
-import java.util.Arrays;
-
 /// Default implementation of [PermissionsProvider] with the following behaviour:
 ///
 ///   - [#hasPermission(User,InvocationContext)] will always return `true`
@@ -34,19 +33,20 @@ public class DefaultPermissionsProvider implements PermissionsProvider {
     /// Checks against the default Discord permissions.
     ///
     /// More formally, this method will work with any permission provided by [Permission#values()], case-insensitive.
-    /// Any other permission String will be ignored.
+    /// Any other permission String will be ignored. The Discord permissions are taken from the
+    /// [PermissionMask] of the definition and checked at once.
     @Override
     public boolean hasPermission(Member member, InvocationContext<?> context) {
-        for (String s : context.definition().permissions()) {
-            // not a discord perm, continue
-            if (Arrays.stream(Permission.values()).noneMatch(p -> p.name().equalsIgnoreCase(s))) {
-                continue;
-            }
-            Helpers.checkDetached(member, DefaultPermissionsProvider.class);
-            if (!member.hasPermission(Permission.valueOf(s.toUpperCase()))) {
-                log.debug("{} permission is missing!", s.toUpperCase());
-                return false;
+        PermissionMask mask = context.definition().permissionMask();
+        if (!mask.hasDiscordPermissions()) {
+            return true;
+        }
+        Helpers.checkDetached(member, DefaultPermissionsProvider.class);
+        if (!member.hasPermission(mask.discordPermissions())) {
+            if (log.isDebugEnabled()) {
+                log.debug("{} permission(s) missing!", Permission.getPermissions(mask.discord() & ~Permission.getRaw(member.getPermissions())));
             }
+            return false;
         }
         return true;
     }
@@ -12,9 +12,12 @@ import io.github.kaktushose.jdac.dispatching.context.InvocationContext;
 import io.github.kaktushose.jdac.dispatching.context.KeyValueStore;
 import io.github.kaktushose.jdac.dispatching.events.Event;
 import io.github.kaktushose.jdac.dispatching.expiration.ExpirationStrategy;
+import io.github.kaktushose.jdac.dispatching.runtime.ExecutionMode;
+import io.github.kaktushose.jdac.dispatching.runtime.RuntimeIdGenerator;
 import io.github.kaktushose.jdac.dispatching.instance.Instantiator;
 import io.github.kaktushose.jdac.dispatching.middleware.Middleware;
 import io.github.kaktushose.jdac.dispatching.middleware.Priority;
+import io.github.kaktushose.jdac.dispatching.reply.AcknowledgementStrategy;
 import io.github.kaktushose.jdac.dispatching.validation.Validator;
 import io.github.kaktushose.jdac.embeds.EmbedConfig;
 import io.github.kaktushose.jdac.embeds.EmbedDataSource;
@@ -33,6 +36,7 @@ import io.github.kaktushose.jdac.property.extension.ExtensionFilter;
 import io.github.kaktushose.jdac.property.internal.JDACEnumerationProperty;
 import io.github.kaktushose.jdac.property.internal.JDACMappingProperty;
 import io.github.kaktushose.jdac.property.internal.JDACSingletonProperty;
+import io.github.kaktushose.jdac.register.CommandSync;
 import io.github.kaktushose.jdac.scope.GuildScopeProvider;
 import io.github.kaktushose.proteus.type.Type;
 import dev.goldmensch.propane.property.*;
@@ -181,6 +185,26 @@ public interface JDACProperty<T> extends SpecificProperty<T> {
     JDACProperty<ExpirationStrategy> EXPIRATION_STRATEGY =
             new JDACSingletonProperty<>("EXPIRATION_STRATEGY", Property.Source.BUILDER, JDACScope.CONFIGURATION, ExpirationStrategy.class);
 
+    /// @see JDACBuilder#runtimeIdGenerator(RuntimeIdGenerator)
+    @PropertyInformation(scope = JDACScope.CONFIGURATION, source = Property.Source.BUILDER)
+    JDACProperty<RuntimeIdGenerator> RUNTIME_ID_GENERATOR =
+            new JDACSingletonProperty<>("RUNTIME_ID_GENERATOR", Property.Source.BUILDER, JDACScope.CONFIGURATION, RuntimeIdGenerator.class);
+
+    /// @see JDACBuilder#executionMode(ExecutionMode)
+    @PropertyInformation(scope = JDACScope.CONFIGURATION, source = Property.Source.BUILDER)
+    JDACProperty<ExecutionMode> EXECUTION_MODE =
+            new JDACSingletonProperty<>("EXECUTION_MODE", Property.Source.BUILDER, JDACScope.CONFIGURATION, ExecutionMode.class);
+
+    /// @see JDACBuilder#acknowledgementStrategy(AcknowledgementStrategy)
+    @PropertyInformation(scope = JDACScope.CONFIGURATION, source = Property.Source.BUILDER)
+    JDACProperty<AcknowledgementStrategy> ACKNOWLEDGEMENT_STRATEGY =
+            new JDACSingletonProperty<>("ACKNOWLEDGEMENT_STRATEGY", Property.Source.BUILDER, JDACScope.CONFIGURATION, AcknowledgementStrategy.class);
+
+    /// @see JDACBuilder#commandSync(CommandSync)
+    @PropertyInformation(scope = JDACScope.CONFIGURATION, source = Property.Source.BUILDER)
+    JDACProperty<CommandSync> COMMAND_SYNC =
+            new JDACSingletonProperty<>("COMMAND_SYNC", Property.Source.BUILDER, JDACScope.CONFIGURATION, CommandSync.class);
+
     /// @see JDACBuilder#localizeCommands(boolean)
     @PropertyInformation(scope = JDACScope.CONFIGURATION, source = Property.Source.BUILDER)
     JDACProperty<Boolean> LOCALIZE_COMMANDS =
@@ -276,7 +300,10 @@ public interface JDACProperty<T> extends SpecificProperty<T> {
     JDACProperty<JDA> JDA =
             new JDACSingletonProperty<>("JDA", Property.Source.PROVIDED, JDACScope.RUNTIME, JDA.class);
 
-    /// The identifier bound to this runtime. Same as [Event#runtimeId()].
+    /// The identifier bound to this runtime.
+    ///
+    /// Unlike [Event#runtimeId()], reading this property doesn't keep the runtime open after the current interaction
+    /// finished. Thus, it must not be used to create runtime-bound components manually, use [Event#runtimeId()] instead.
     @PropertyInformation(scope = JDACScope.RUNTIME, source = Property.Source.PROVIDED)
     JDACProperty<String> RUNTIME_ID =
             new JDACSingletonProperty<>("RUNTIME_ID", Property.Source.PROVIDED, JDACScope.RUNTIME, String.class);
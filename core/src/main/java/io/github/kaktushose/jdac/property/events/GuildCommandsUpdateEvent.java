@@ -0,0 +1,33 @@
+package io.github.kaktushose.jdac.property.events;
+
+import io.github.kaktushose.jdac.JDACommands;
+import io.github.kaktushose.jdac.annotations.IntrospectionAccess;
+import io.github.kaktushose.jdac.property.JDACScope;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+
+/// Published after the guild scoped commands of a guild were sent to Discord, either on startup or after calling
+/// [JDACommands#updateGuildCommands(Collection)]. Can be used to track the progress of the update.
+///
+/// Guilds whose commands are unchanged according to the [io.github.kaktushose.jdac.register.CommandSync] are skipped
+/// and not counted. If no guild had to be updated, a single event with a `guildId` and `total` of `0` is published,
+/// thus every update publishes at least one [finished][#finished()] event.
+///
+/// @param guildId   the id of the updated guild or `0` if no guild had to be updated
+/// @param exception the [Throwable] the update failed with after all retries or `null` if the update succeeded
+/// @param completed the amount of guilds of this update that were already processed, including this one
+/// @param total     the total amount of guilds of this update
+@IntrospectionAccess(JDACScope.INITIALIZED)
+public record GuildCommandsUpdateEvent(
+        long guildId,
+        @Nullable Throwable exception,
+        int completed,
+        int total
+) implements JDACEvent {
+
+    /// @return whether all guilds of this update were processed
+    public boolean finished() {
+        return completed == total;
+    }
+}
@@ -4,6 +4,7 @@ import io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.InteractionRegistry;
 import io.github.kaktushose.jdac.dispatching.Runtime;
 import io.github.kaktushose.jdac.dispatching.context.InvocationContext;
+import io.github.kaktushose.jdac.dispatching.reply.internal.Acknowledgement;
 import io.github.kaktushose.jdac.embeds.internal.Embeds;
 import io.github.kaktushose.jdac.message.i18n.I18n;
 import io.github.kaktushose.jdac.message.resolver.MessageResolver;
@@ -23,6 +24,10 @@ public class IntrospectionAccess {
         return JDACInternalProperties.RUNTIME.scopedGet();
     }
 
+    public static Acknowledgement scopedAcknowledgement() {
+        return JDACInternalProperties.ACKNOWLEDGEMENT.scopedGet();
+    }
+
     public static Locale scopedUserLocale() {
         return scopedInvocationContext().event().getUserLocale().toLocale();
     }
@@ -4,6 +4,7 @@ import io.github.kaktushose.jdac.definitions.interactions.InteractionRegistry;
 import io.github.kaktushose.jdac.dispatching.Runtime;
 import io.github.kaktushose.jdac.dispatching.adapter.internal.TypeAdapters;
 import io.github.kaktushose.jdac.dispatching.middleware.internal.Middlewares;
+import io.github.kaktushose.jdac.dispatching.reply.internal.Acknowledgement;
 import io.github.kaktushose.jdac.embeds.internal.Embeds;
 import io.github.kaktushose.jdac.internal.JDAContext;
 import io.github.kaktushose.jdac.message.i18n.internal.BundleFinder;
@@ -29,6 +30,8 @@ public interface JDACInternalProperties {
 
     JDACProperty<Runtime> RUNTIME = new JDACSingletonProperty<>("RUNTIME", Property.Source.PROVIDED, JDACScope.RUNTIME, Runtime.class);
 
+    JDACProperty<Acknowledgement> ACKNOWLEDGEMENT = new JDACSingletonProperty<>("ACKNOWLEDGEMENT", Property.Source.PROVIDED, JDACScope.INTERACTION, Acknowledgement.class);
+
     JDACProperty<BundleFinder> BUNDLE_FINDER = new JDACSingletonProperty<>("BUNDLE_FINDER", Property.Source.PROVIDED, JDACScope.CONFIGURATION, BundleFinder.class);
 
 }
@@ -14,6 +14,7 @@ public final class Registry extends dev.goldmensch.propane.Registry<JDACScope> {
         super(Map.ofEntries(
                 entry(FrameworkShutdownEvent.class, JDACScope.INITIALIZED),
                 entry(FrameworkStartEvent.class, JDACScope.INITIALIZED),
+                entry(GuildCommandsUpdateEvent.class, JDACScope.INITIALIZED),
                 entry(InteractionFinishedEvent.class, JDACScope.INTERACTION),
                 entry(InteractionStartEvent.class, JDACScope.INTERACTION),
                 entry(RuntimeCloseEvent.class, JDACScope.RUNTIME),
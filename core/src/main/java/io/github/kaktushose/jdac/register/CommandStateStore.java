@@ -0,0 +1,71 @@
+package io.github.kaktushose.jdac.register;
+
+import io.github.kaktushose.jdac.internal.register.FileCommandStateStore;
+import io.github.kaktushose.jdac.internal.register.InMemoryCommandStateStore;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/// Stores the fingerprints of the commands last sent to Discord, used by [CommandSync.Fingerprint] to skip
+/// updates of unchanged commands.
+///
+/// A fingerprint is stored per target, which is the id of the application followed by a dot and either [#GLOBAL] for
+/// the global commands or the id of a guild for its guild scoped commands, e.g. `1234.global` or `1234.5678`. Thus,
+/// multiple bots, for example a development and a production bot, can share the same store.
+///
+/// Implementations must be thread safe, because fingerprints get saved from the callbacks of the update requests.
+/// Thus, [#save(String, String)] should be cheap. Expensive work, like writing to a file, belongs into [#flush()],
+/// which is called once after the global commands or all guilds of an update were processed.
+///
+/// @see #file(Path)
+/// @see #inMemory()
+public interface CommandStateStore {
+
+    /// The suffix of the target used for the global commands.
+    String GLOBAL = "global";
+
+    /// The default location of the file used by [#file()].
+    Path DEFAULT_PATH = Path.of(".jdac", "command-state.properties");
+
+    /// Creates a [CommandStateStore] that persists the fingerprints in a properties file at [#DEFAULT_PATH].
+    ///
+    /// @return a new file based [CommandStateStore]
+    static CommandStateStore file() {
+        return file(DEFAULT_PATH);
+    }
+
+    /// Creates a [CommandStateStore] that persists the fingerprints in a properties file at the given [Path]. The
+    /// file and its parent directories are created on the first save.
+    ///
+    /// @param path the [Path] of the file to store the fingerprints in
+    /// @return a new file based [CommandStateStore]
+    static CommandStateStore file(Path path) {
+        return new FileCommandStateStore(path);
+    }
+
+    /// Creates a [CommandStateStore] that only holds the fingerprints in memory. Thus, all commands are sent to
+    /// Discord again after a restart. Mostly useful for testing.
+    ///
+    /// @return a new in-memory [CommandStateStore]
+    static CommandStateStore inMemory() {
+        return new InMemoryCommandStateStore();
+    }
+
+    /// Gets the fingerprint of the commands last sent to Discord for the given target.
+    ///
+    /// @param target the id of the application followed by either [#GLOBAL] or the id of a guild
+    /// @return an [Optional] holding the fingerprint or an empty [Optional] if nothing was stored yet
+    Optional<String> load(String target);
+
+    /// Saves the fingerprint of the commands that were sent to Discord for the given target.
+    ///
+    /// @param target      the id of the application followed by either [#GLOBAL] or the id of a guild
+    /// @param fingerprint the fingerprint to save
+    void save(String target, String fingerprint);
+
+    /// Persists the fingerprints saved since the last call of this method. Does nothing by default.
+    default void flush() { }
+
+    /// Removes all stored fingerprints, forcing the next synchronization to send all commands to Discord again.
+    void clear();
+}
@@ -0,0 +1,42 @@
+package io.github.kaktushose.jdac.register;
+
+/// Classes implementing [CommandSync] define how JDA-Commands synchronizes the commands with Discord on startup and
+/// when calling [io.github.kaktushose.jdac.JDACommands#updateGuildCommands(java.util.Collection)].
+///
+/// There are two modes available:
+/// - [Overwrite]: the commands are always sent to Discord, overwriting the existing ones (default)
+/// - [Fingerprint]: the commands are only sent to Discord if they changed since the last update
+///
+/// @implNote [Fingerprint] computes a SHA-256 hash of the serialized commands for the global commands and for the
+/// commands of each guild. Only if the hash differs from the one stored in the [CommandStateStore], the commands get
+/// sent to Discord. Keep in mind that changes made to the commands outside of JDA-Commands, e.g. by another
+/// application, aren't detected. Call [CommandStateStore#clear()] to enforce a full update in that case.
+public sealed interface CommandSync {
+
+    /// Default [CommandSync] of [Overwrite].
+    CommandSync OVERWRITE = new Overwrite();
+
+    /// Creates a [Fingerprint] [CommandSync] that stores the fingerprints in a file at
+    /// [CommandStateStore#DEFAULT_PATH].
+    ///
+    /// @return a new [Fingerprint]
+    static CommandSync fingerprint() {
+        return new Fingerprint(CommandStateStore.file());
+    }
+
+    /// Creates a [Fingerprint] [CommandSync] that uses the given [CommandStateStore].
+    ///
+    /// @param store the [CommandStateStore] to store the fingerprints in
+    /// @return a new [Fingerprint]
+    static CommandSync fingerprint(CommandStateStore store) {
+        return new Fingerprint(store);
+    }
+
+    /// [CommandSync] that sends all commands to Discord on every update.
+    record Overwrite() implements CommandSync { }
+
+    /// [CommandSync] that only sends commands to Discord whose fingerprint differs from the stored one.
+    ///
+    /// @param store the [CommandStateStore] holding the fingerprints of the commands last sent to Discord
+    record Fingerprint(CommandStateStore store) implements CommandSync { }
+}
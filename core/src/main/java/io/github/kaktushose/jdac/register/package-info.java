@@ -0,0 +1,2 @@
+/// Contains everything to configure how commands are synchronized with Discord.
+package io.github.kaktushose.jdac.register;
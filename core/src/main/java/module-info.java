@@ -58,6 +58,8 @@ module io.github.kaktushose.jdac.core {
 
     exports io.github.kaktushose.jdac.dispatching.instance;
 
+    exports io.github.kaktushose.jdac.dispatching.runtime;
+
     // embed
     exports io.github.kaktushose.jdac.embeds;
     exports io.github.kaktushose.jdac.embeds.error;
@@ -68,6 +70,9 @@ module io.github.kaktushose.jdac.core {
     // command scope api
     exports io.github.kaktushose.jdac.scope;
 
+    // command synchronization api
+    exports io.github.kaktushose.jdac.register;
+
     // extensions + property
     exports io.github.kaktushose.jdac.property;
     exports io.github.kaktushose.jdac.property.extension;
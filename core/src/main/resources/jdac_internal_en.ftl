@@ -60,6 +60,9 @@ validator-type-not-supported =
         -> { $supportedTypes}
 wildcard-optional = Generic parameter of Optional cannot be parsed to class. Please provide a valid generic type and don't use any wildcard.
 unknown-command-type = Unknown command type isn't allowed here.
+definition-id-collision =
+    The interaction methods "{ $first }" and "{ $second }" share the same definition id "{ $id }".
+    Please rename one of the methods to make their ids unique again.
 invalid-context-command-type = Invalid command type for context command! Must either be USER or MESSAGE
 invalid-parameter = { $index ->
         [one] First
@@ -135,10 +138,13 @@ duplicate-component =
 outside-event-handler = This method cannot be used outside outside of an event handler because it relies on the Introspection API. Use the appropriate constructor instead.
 
 # CustomId
-invalid-runtime-id = Invalid runtime id! Must either be a UUID or "independent".
+invalid-runtime-id = Invalid runtime id! Must either consist of up to 36 url safe base64 characters or be "independent".
 invalid-custom-id = Provided custom id is invalid.
 independent-runtime-id = Provided custom id is runtime-independent.
 
+# AcknowledgementStrategy
+invalid-acknowledgement-deadline = The acknowledgement deadline must be positive and below 3 seconds.
+
 # ConfigurableReply
 modal-as-component = Modals cannot be attached as components! "{ $method }" is a modal method! You have to reply with "ModalReplyableEvent#replyModal".
 
@@ -148,6 +154,9 @@ component-replacer-v1 = Cannot use ComponentReplacers on a message that isn't Co
 component-no-op-v1 = Cannot use no-op reply on a message that isn't Components V2. Upgrade this message to Components V2 first or
     use the V1 API for replying.
 
+# ModalReplyableEvent
+modal-already-acknowledged = Cannot reply with a modal, because the interaction was already acknowledged, e.g. by a reply or a defer.
+
 # ComponentEvent
 remove-components-v2 = Cannot remove components on a message with Components V2. This would result in an empty message.
 
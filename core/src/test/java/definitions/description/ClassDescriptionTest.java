@@ -43,6 +43,18 @@ class ClassDescriptionTest {
         assertTrue(Descriptor.REFLECTIVE.describe(NestedClass.class).packageDescription().annotations().isEmpty());
     }
 
+    @Test
+    void testCachedDescription() {
+        assertSame(classDescription, Descriptor.REFLECTIVE.describe(BaseClass.class));
+    }
+
+    @Test
+    void testAnnotationLookup() {
+        assertTrue(classDescription.hasAnnotation(Interaction.class));
+        assertFalse(classDescription.hasAnnotation(Param.class));
+        assertTrue(classDescription.findAnnotation(Bundle.class).isEmpty());
+    }
+
     @Test
     void testClassDescription() {
         ClassDescription description = classDescription;
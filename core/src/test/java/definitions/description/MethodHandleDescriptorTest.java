@@ -0,0 +1,88 @@
+package definitions.description;
+
+import io.github.kaktushose.jdac.definitions.description.Descriptor;
+import io.github.kaktushose.jdac.definitions.description.Invoker;
+import io.github.kaktushose.jdac.definitions.description.MethodDescription;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MethodHandleDescriptorTest {
+
+    @Test
+    void invokes_all_arities() throws Exception {
+        Handlers handlers = new Handlers();
+
+        assertEquals("", invoker("zero").invoke(handlers, List.of()));
+        assertEquals("a", invoker("one").invoke(handlers, List.of("a")));
+        assertEquals("a1", invoker("two").invoke(handlers, List.of("a", 1)));
+        assertEquals("abcdef", invoker("six").invoke(handlers, List.of("a", "b", "c", "d", "e", "f")));
+        assertEquals("abcdefg", invoker("seven").invoke(handlers, List.of("a", "b", "c", "d", "e", "f", "g")));
+    }
+
+    @Test
+    void invokes_void_and_static() throws Exception {
+        Handlers handlers = new Handlers();
+
+        assertNull(invoker("nothing").invoke(handlers, List.of("a")));
+        assertEquals("a", handlers.last);
+        assertEquals("static", invoker("statically").invoke(null, List.of()));
+    }
+
+    @Test
+    void wraps_exceptions() {
+        InvocationTargetException exception = assertThrows(InvocationTargetException.class,
+                () -> invoker("failing").invoke(new Handlers(), List.of()));
+
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertThrows(IllegalArgumentException.class, () -> invoker("one").invoke(new Handlers(), List.of()));
+    }
+
+    private static Invoker invoker(String name) {
+        return Descriptor.METHOD_HANDLES.describe(Handlers.class).methods().stream()
+                .filter(it -> it.name().equals(name))
+                .findFirst()
+                .map(MethodDescription::invoker)
+                .orElseThrow();
+    }
+
+    public static class Handlers {
+
+        private String last;
+
+        public String zero() {
+            return "";
+        }
+
+        public String one(String a) {
+            return a;
+        }
+
+        public String two(String a, int b) {
+            return a + b;
+        }
+
+        public String six(String a, String b, String c, String d, String e, String f) {
+            return a + b + c + d + e + f;
+        }
+
+        public String seven(String a, String b, String c, String d, String e, String f, String g) {
+            return a + b + c + d + e + f + g;
+        }
+
+        public void nothing(String a) {
+            last = a;
+        }
+
+        public static String statically() {
+            return "static";
+        }
+
+        public String failing() {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package definitions.interactions;
+
+import io.github.kaktushose.jdac.definitions.interactions.CustomId;
+import io.github.kaktushose.jdac.dispatching.runtime.RuntimeIdGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomIdTest {
+
+    private static final String RUNTIME_ID = "0f8fad5b-d9cb-469f-a165-70867728950e";
+
+    @Test
+    void parse_withBoundId_shouldReturnCustomId() {
+        CustomId customId = CustomId.parse("jdac.%s.-12345".formatted(RUNTIME_ID));
+
+        assertNotNull(customId);
+        assertTrue(customId.isBound());
+        assertEquals(RUNTIME_ID, customId.runtimeId());
+        assertEquals("-12345", customId.definitionId());
+    }
+
+    @Test
+    void parse_withIndependentId_shouldReturnCustomId() {
+        CustomId customId = CustomId.parse("jdac.independent.42");
+
+        assertNotNull(customId);
+        assertTrue(customId.isIndependent());
+        assertEquals("42", customId.definitionId());
+    }
+
+    @Test
+    void merged_shouldBeParsedToEqualCustomId() {
+        CustomId customId = new CustomId(UUID.randomUUID().toString(), "987654321");
+
+        assertEquals(customId, CustomId.fromMerged(customId.merged()));
+    }
+
+    @Test
+    void parse_withCompactRuntimeId_shouldReturnCustomId() {
+        RuntimeIdGenerator generator = RuntimeIdGenerator.compact();
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            String runtimeId = generator.generate();
+            assertTrue(ids.add(runtimeId));
+
+            CustomId customId = CustomId.parse("jdac.%s.-1".formatted(runtimeId));
+            assertNotNull(customId);
+            assertTrue(customId.isBound());
+            assertEquals(runtimeId, customId.runtimeId());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "jdac",
+            "jdac.",
+            "jdac.independent",
+            "jdac.independent.",
+            "jdac.independent.-",
+            "jdac.independent.12a",
+            "jdac..12",
+            "jdac.AbC+12.12",
+            "jdac.0f8fad5b-d9cb-469f-a165-70867728950ef.12",
+            "jdac.0f8fad5b-d9cb-469f-a165-70867728950e12",
+            "jdax.independent.12",
+            "jdac,independent.12",
+            "some-foreign-button"
+    })
+    void parse_withForeignId_shouldReturnNull(String customId) {
+        assertNull(CustomId.parse(customId));
+        assertTrue(CustomId.isInvalid(customId));
+        assertThrows(IllegalArgumentException.class, () -> CustomId.fromMerged(customId));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "jdac.independent.12",
+            "jdac.independent.-12",
+            "jdac.0f8fad5b-d9cb-469f-a165-70867728950e.12",
+            "jdac.independent.12a",
+            "jdac.xY_9-a.42",
+            "jdac.0f8fad5b-d9cb-469f-a165-70867728950ef.12",
+            "jdac.0f8fad5b-d9cb-469f-a165-70867728950e12",
+            "jdac.independent."
+    })
+    void isInvalid_shouldMatchRegex(String customId) {
+        boolean regexValid = customId.matches(CustomId.BOUND_CUSTOM_ID_REGEX) || customId.matches(CustomId.INDEPENDENT_CUSTOM_ID_REGEX);
+
+        assertEquals(!regexValid, CustomId.isInvalid(customId));
+    }
+}
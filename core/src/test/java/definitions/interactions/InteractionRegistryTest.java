@@ -0,0 +1,133 @@
+package definitions.interactions;
+
+import io.github.kaktushose.jdac.annotations.interactions.AutoComplete;
+import io.github.kaktushose.jdac.annotations.interactions.Button;
+import io.github.kaktushose.jdac.annotations.interactions.Command;
+import io.github.kaktushose.jdac.annotations.interactions.Interaction;
+import io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition;
+import io.github.kaktushose.jdac.definitions.interactions.InteractionRegistry;
+import io.github.kaktushose.jdac.definitions.interactions.MethodBuildContext;
+import io.github.kaktushose.jdac.definitions.interactions.command.ContextCommandDefinition;
+import io.github.kaktushose.jdac.definitions.interactions.command.SlashCommandDefinition;
+import io.github.kaktushose.jdac.definitions.interactions.component.ButtonDefinition;
+import io.github.kaktushose.jdac.definitions.interactions.component.ComponentDefinition;
+import io.github.kaktushose.jdac.dispatching.events.interactions.AutoCompleteEvent;
+import io.github.kaktushose.jdac.dispatching.events.interactions.CommandEvent;
+import io.github.kaktushose.jdac.dispatching.events.interactions.ComponentEvent;
+import io.github.kaktushose.jdac.exceptions.InternalException;
+import io.github.kaktushose.jdac.exceptions.InvalidDeclarationException;
+import io.github.kaktushose.jdac.property.internal.JDACIntrospectionImpl;
+import net.dv8tion.jda.api.interactions.commands.Command.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static definitions.TestHelpers.INTROSPECTION;
+import static definitions.TestHelpers.getBuildContextOptionalAutoComplete;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InteractionRegistryTest {
+
+    private ButtonDefinition button;
+    private SlashCommandDefinition command;
+    private InteractionRegistry registry;
+
+    @BeforeEach
+    void setup() {
+        ScopedValue.where(JDACIntrospectionImpl.INTROSPECTION, INTROSPECTION).run(() -> {
+            button = ButtonDefinition.build(context("button"));
+            command = SlashCommandDefinition.build(context("command"));
+        });
+        Set<InteractionDefinition> definitions = new HashSet<>(Set.of(button, command));
+        definitions.add(command.commandOptions().getFirst().autoComplete());
+        registry = new InteractionRegistry(null, null, null, definitions);
+    }
+
+    @Test
+    void findById_withExistingId_shouldReturnDefinition() {
+        assertSame(button, registry.findById(ButtonDefinition.class, false, button.definitionId()));
+        assertSame(button, registry.findById(ComponentDefinition.class, false, button.definitionId()));
+    }
+
+    @Test
+    void findById_withWrongType_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> registry.findById(SlashCommandDefinition.class, false, button.definitionId()));
+        assertThrows(InternalException.class, () -> registry.findById(ButtonDefinition.class, true, "unknown"));
+    }
+
+    @Test
+    void findById_withHash_shouldReturnDefinition() {
+        assertEquals(Integer.parseInt(button.definitionId()), button.definitionHash());
+        assertSame(button, registry.findById(ButtonDefinition.class, false, button.definitionHash()));
+    }
+
+    @Test
+    void index_withCollidingIds_shouldThrowInvalidDeclarationException() {
+        ButtonDefinition[] colliding = new ButtonDefinition[2];
+        ScopedValue.where(JDACIntrospectionImpl.INTROSPECTION, INTROSPECTION).run(() -> {
+            colliding[0] = ButtonDefinition.build(context("Aa"));
+            colliding[1] = ButtonDefinition.build(context("BB"));
+        });
+
+        assertEquals(colliding[0].definitionHash(), colliding[1].definitionHash());
+        assertThrows(InvalidDeclarationException.class, () -> new InteractionRegistry(null, null, null, Set.of(colliding[0], colliding[1])));
+    }
+
+    @Test
+    void index_withCopyOfSameMethod_shouldNotThrow() {
+        ButtonDefinition other = button.with("other", null, null, null, null);
+        assertDoesNotThrow(() -> new InteractionRegistry(null, null, null, Set.of(button, other)));
+    }
+
+    @Test
+    void findCommand_withName_shouldReturnDefinition() {
+        assertSame(command, registry.findCommand(SlashCommandDefinition.class, false, Type.SLASH, "command"));
+        assertThrows(IllegalArgumentException.class, () -> registry.findCommand(ContextCommandDefinition.class, false, Type.USER, "command"));
+    }
+
+    @Test
+    void findAutoComplete_withOption_shouldReturnDefinition() {
+        assertTrue(registry.findAutoComplete("command", "arg").isPresent());
+        assertTrue(registry.findAutoComplete("command", "unknown").isEmpty());
+    }
+
+    @Test
+    void find_withType_shouldMatchSlowPath() {
+        assertEquals(
+                Set.copyOf(registry.find(ComponentDefinition.class, _ -> true)),
+                Set.copyOf(registry.find(ComponentDefinition.class))
+        );
+        assertEquals(3, registry.find(InteractionDefinition.class).size());
+    }
+
+    private MethodBuildContext context(String method) {
+        return getBuildContextOptionalAutoComplete(TestController.class, method, true);
+    }
+
+    @Interaction
+    private static class TestController {
+
+        @Button("button")
+        public void button(ComponentEvent event) {
+        }
+
+        // "Aa" and "BB" have the same String#hashCode, thus the same definition id
+        @Button("Aa")
+        public void Aa(ComponentEvent event) {
+        }
+
+        @Button("BB")
+        public void BB(ComponentEvent event) {
+        }
+
+        @Command("command")
+        public void command(CommandEvent event, String arg) {
+        }
+
+        @AutoComplete("command")
+        public void autoComplete(AutoCompleteEvent event) {
+        }
+    }
+}
@@ -3,14 +3,24 @@ package definitions.interactions;
 import io.github.kaktushose.jdac.annotations.interactions.Command;
 import io.github.kaktushose.jdac.annotations.interactions.Interaction;
 import io.github.kaktushose.jdac.annotations.interactions.Permissions;
+import io.github.kaktushose.jdac.definitions.interactions.PermissionMask;
+import io.github.kaktushose.jdac.definitions.interactions.command.SlashCommandDefinition;
+import io.github.kaktushose.jdac.dispatching.context.InvocationContext;
 import io.github.kaktushose.jdac.dispatching.events.interactions.CommandEvent;
 import io.github.kaktushose.jdac.internal.Helpers;
+import io.github.kaktushose.jdac.permissions.DefaultPermissionsProvider;
 import definitions.TestHelpers;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Member;
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class PermissionsTest {
 
@@ -42,6 +52,60 @@ class PermissionsTest {
         assertEquals(Set.of("CLASS", "METHOD"), permissions);
     }
 
+    @Test
+    void permissionMask_shouldSplitDiscordAndCustomPermissions() {
+        PermissionMask mask = PermissionMask.of(List.of("ban_members", "KICK_MEMBERS", "MODERATOR"));
+
+        assertEquals(Permission.getRaw(Permission.BAN_MEMBERS, Permission.KICK_MEMBERS), mask.discord());
+        assertEquals(EnumSet.of(Permission.BAN_MEMBERS, Permission.KICK_MEMBERS), mask.discordPermissions());
+        assertEquals(Set.of("MODERATOR"), mask.custom());
+    }
+
+    @Test
+    void permissionMask_withoutPermissions_shouldBeEmpty() {
+        PermissionMask mask = PermissionMask.of(Set.of());
+
+        assertSame(PermissionMask.EMPTY, mask);
+        assertFalse(mask.hasDiscordPermissions());
+    }
+
+    @Test
+    void interaction_withPermissions_shouldHavePermissionMask() {
+        PermissionMask mask = Helpers.permissionMask(
+                TestHelpers.getBuildContext(DiscordPermissions.class, "onEvent")
+        );
+
+        assertEquals(Permission.BAN_MEMBERS.getRawValue(), mask.discord());
+        assertEquals(Set.of("CLASS"), mask.custom());
+    }
+
+    @Test
+    void defaultPermissionsProvider_shouldCheckPermissionMask() {
+        PermissionMask mask = PermissionMask.of(Set.of("BAN_MEMBERS", "CUSTOM"));
+        SlashCommandDefinition definition = mock(SlashCommandDefinition.class);
+        when(definition.permissionMask()).thenReturn(mask);
+        InvocationContext<?> context = mock(InvocationContext.class);
+        when(context.definition()).thenReturn(definition);
+
+        Member member = mock(Member.class);
+        when(member.hasPermission(EnumSet.of(Permission.BAN_MEMBERS))).thenReturn(true);
+        assertTrue(new DefaultPermissionsProvider().hasPermission(member, context));
+
+        Member missing = mock(Member.class);
+        when(missing.getPermissions()).thenReturn(EnumSet.noneOf(Permission.class));
+        assertFalse(new DefaultPermissionsProvider().hasPermission(missing, context));
+    }
+
+    @Interaction
+    @Permissions("CLASS")
+    private static class DiscordPermissions {
+
+        @Command("discord")
+        @Permissions("ban_members")
+        public void onEvent(CommandEvent event) {
+        }
+    }
+
     @Interaction
     private static class MethodPermissions {
 
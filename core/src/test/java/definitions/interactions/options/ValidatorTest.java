@@ -9,6 +9,7 @@ import io.github.kaktushose.jdac.annotations.interactions.Interaction;
 import io.github.kaktushose.jdac.definitions.interactions.command.OptionDataDefinition;
 import io.github.kaktushose.jdac.definitions.interactions.command.SlashCommandDefinition;
 import io.github.kaktushose.jdac.dispatching.events.interactions.CommandEvent;
+import io.github.kaktushose.jdac.dispatching.middleware.impl.ConstraintMiddleware;
 import io.github.kaktushose.jdac.dispatching.validation.impl.PermissionValidator;
 import io.github.kaktushose.jdac.exceptions.ConfigurationException;
 import io.github.kaktushose.jdac.exceptions.InvalidDeclarationException;
@@ -23,6 +24,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.List;
 
 import static definitions.TestHelpers.getBuildContext;
 import static org.junit.jupiter.api.Assertions.*;
@@ -62,6 +64,11 @@ class ValidatorTest {
         assertEquals(PermissionValidator.class, definition.constraints().stream().findAny().orElseThrow().validator().getClass());
     }
 
+    @Test
+    void command_withConstraint_shouldCompileValidationPlan() {
+        assertDoesNotThrow(() -> new ConstraintMiddleware(null).index(List.of(build("constraint"), build("noConstraint"))));
+    }
+
     private OptionDataDefinition optionData(String method) {
         return build(method).commandOptions().getFirst();
     }
@@ -0,0 +1,115 @@
+package dispatching.middleware;
+
+import io.github.kaktushose.jdac.dispatching.context.InvocationContext;
+import io.github.kaktushose.jdac.dispatching.middleware.Middleware;
+import io.github.kaktushose.jdac.dispatching.middleware.Priority;
+import io.github.kaktushose.jdac.dispatching.middleware.impl.ConstraintMiddleware;
+import io.github.kaktushose.jdac.dispatching.middleware.impl.PermissionsMiddleware;
+import io.github.kaktushose.jdac.dispatching.middleware.internal.Middlewares;
+import io.github.kaktushose.jdac.embeds.error.ErrorMessageFactory;
+import io.github.kaktushose.jdac.permissions.PermissionsProvider;
+import net.dv8tion.jda.api.interactions.InteractionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class MiddlewaresTest {
+
+    private final Middleware low = new NoOpMiddleware(null, null);
+    private final Middleware high = new NoOpMiddleware(null, null);
+    private final Middleware specific = new NoOpMiddleware(List.of(SpecificController.class), null);
+    private final Middleware componentsOnly = new NoOpMiddleware(null, List.of(InteractionType.COMPONENT));
+
+    private Middlewares middlewares(Middleware... userDefined) {
+        return new Middlewares(
+                Arrays.stream(userDefined).map(it -> Map.entry(it == low ? Priority.LOW : Priority.HIGH, it)).toList(),
+                mock(ErrorMessageFactory.class),
+                mock(PermissionsProvider.class)
+        );
+    }
+
+    @Test
+    void chain_shouldBeOrderedByPriority() {
+        Middleware[] chain = middlewares(low, high).chain(DefaultController.class, InteractionType.COMMAND);
+
+        assertEquals(4, chain.length);
+        assertInstanceOf(PermissionsMiddleware.class, chain[0]);
+        assertSame(high, chain[1]);
+        assertInstanceOf(ConstraintMiddleware.class, chain[2]);
+        assertSame(low, chain[3]);
+    }
+
+    @Test
+    void chain_forAutoComplete_shouldSkipPermissionsAndConstraints() {
+        Middleware[] chain = middlewares(low).chain(DefaultController.class, InteractionType.COMMAND_AUTOCOMPLETE);
+
+        assertArrayEquals(new Middleware[]{low}, chain);
+    }
+
+    @Test
+    void chain_shouldOnlyContainMiddlewaresForInteractionType() {
+        Middlewares middlewares = middlewares(componentsOnly);
+
+        assertFalse(List.of(middlewares.chain(DefaultController.class, InteractionType.COMMAND)).contains(componentsOnly));
+        assertTrue(List.of(middlewares.chain(DefaultController.class, InteractionType.COMPONENT)).contains(componentsOnly));
+    }
+
+    @Test
+    void chain_shouldOnlyContainMiddlewaresForController() {
+        Middlewares middlewares = middlewares(specific);
+        middlewares.index(List.of(DefaultController.class, SpecificController.class), List.of());
+
+        assertFalse(List.of(middlewares.chain(DefaultController.class, InteractionType.COMMAND)).contains(specific));
+        assertTrue(List.of(middlewares.chain(SpecificController.class, InteractionType.COMMAND)).contains(specific));
+    }
+
+    @Test
+    void chain_withoutControllerSpecificMiddlewares_shouldBeShared() {
+        Middlewares middlewares = middlewares(specific);
+
+        assertSame(
+                middlewares.chain(DefaultController.class, InteractionType.COMMAND),
+                middlewares.chain(OtherController.class, InteractionType.COMMAND)
+        );
+        assertNotSame(
+                middlewares.chain(DefaultController.class, InteractionType.COMMAND),
+                middlewares.chain(SpecificController.class, InteractionType.COMMAND)
+        );
+    }
+
+    private static class NoOpMiddleware implements Middleware {
+
+        private final Collection<Class<?>> runFor;
+        private final Collection<InteractionType> interactionTypes;
+
+        private NoOpMiddleware(Collection<Class<?>> runFor, Collection<InteractionType> interactionTypes) {
+            this.runFor = runFor;
+            this.interactionTypes = interactionTypes;
+        }
+
+        @Override
+        public void accept(InvocationContext<?> context) { }
+
+        @Override
+        public Collection<Class<?>> runFor() {
+            return runFor;
+        }
+
+        @Override
+        public Collection<InteractionType> interactionTypes() {
+            return interactionTypes;
+        }
+    }
+
+    private static class DefaultController { }
+
+    private static class SpecificController { }
+
+    private static class OtherController { }
+}
@@ -0,0 +1,74 @@
+package dispatching.runtime;
+
+import io.github.kaktushose.jdac.annotations.interactions.Button;
+import io.github.kaktushose.jdac.annotations.interactions.Command;
+import io.github.kaktushose.jdac.annotations.interactions.Interaction;
+import io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition.ReplyConfig;
+import io.github.kaktushose.jdac.dispatching.events.interactions.CommandEvent;
+import io.github.kaktushose.jdac.dispatching.events.interactions.ComponentEvent;
+import io.github.kaktushose.jdac.dispatching.runtime.ExecutionMode;
+import io.github.kaktushose.jdac.testing.TestScenario;
+import io.github.kaktushose.jdac.testing.reply.MessageEventReply;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MailboxExecutionTest {
+
+    private static ExecutorService executor;
+    private static TestScenario scenario;
+
+    @BeforeAll
+    static void init() {
+        // a single thread makes sure that both events of the runtime are executed by the same thread
+        executor = Executors.newSingleThreadExecutor();
+        scenario = TestScenario.with(TestController.class)
+                .replyConfig(new ReplyConfig())
+                .configure(builder -> builder.executionMode(ExecutionMode.mailbox(executor)))
+                .create();
+    }
+
+    @AfterAll
+    static void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void cancelledEvent_shouldNotCancelNextEvent() {
+        MessageEventReply reply = scenario.slash("start").invoke();
+
+        assertEquals("cancelled", reply.button("cancel").invoke().content());
+        assertEquals("greeted", reply.button("greet").invoke().content());
+    }
+
+    @Test
+    void mailbox_shouldBeShared() {
+        assertEquals(ExecutionMode.mailbox(), ExecutionMode.mailbox());
+    }
+
+    @Interaction
+    public static class TestController {
+
+        @Command("start")
+        public void onStart(CommandEvent event) {
+            event.with().components("cancel", "greet").reply("started");
+        }
+
+        @Button("cancel")
+        public void onCancel(ComponentEvent event) {
+            event.reply("cancelled");
+            // leaves the interrupt flag set, just like a cancelled blocking call would
+            Thread.currentThread().interrupt();
+        }
+
+        @Button("greet")
+        public void onGreet(ComponentEvent event) {
+            event.reply("greeted");
+        }
+    }
+}
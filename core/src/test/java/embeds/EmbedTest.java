@@ -26,6 +26,7 @@ import java.util.Map;
 import static io.github.kaktushose.jdac.message.placeholder.Entry.entry;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Bundle("embeds")
 class EmbedTest {
@@ -157,4 +158,10 @@ class EmbedTest {
         Embed second = embeds.get("sourceModification");
         assertEquals("Original Title", second.build().getTitle());
     }
+
+    @Test
+    void testFind() {
+        assertTrue(embeds.find("unknown").isEmpty());
+        assertEquals(new EmbedBuilder().setTitle("Test Title").build(), embeds.find("minimum").orElseThrow().build());
+    }
 }
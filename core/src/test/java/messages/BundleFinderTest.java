@@ -0,0 +1,43 @@
+package messages;
+
+import io.github.kaktushose.jdac.annotations.i18n.Bundle;
+import io.github.kaktushose.jdac.definitions.description.Descriptor;
+import io.github.kaktushose.jdac.message.i18n.internal.BundleFinder;
+import io.github.kaktushose.jdac.message.i18n.internal.BundleFinder.InteractionBundle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodType;
+
+@Bundle("class")
+public class BundleFinderTest {
+
+    private static final BundleFinder FINDER = new BundleFinder(Descriptor.REFLECTIVE);
+    private static final InteractionBundle INTERACTION = new InteractionBundle(
+            BundleFinderTest.class, "interaction", MethodType.methodType(Object.class), "scoped"
+    );
+
+    @Test
+    void outside_interaction() {
+        Assertions.assertEquals("method", annotated());
+    }
+
+    @Test
+    void interaction_method() {
+        Assertions.assertEquals("scoped", ScopedValue.where(BundleFinder.INTERACTION, INTERACTION).call(this::interaction));
+    }
+
+    @Test
+    void helper_inside_interaction() {
+        Assertions.assertEquals("method", ScopedValue.where(BundleFinder.INTERACTION, INTERACTION).call(this::annotated));
+    }
+
+    @Bundle("method")
+    private String annotated() {
+        return FINDER.findBundle();
+    }
+
+    private Object interaction() {
+        return FINDER.findBundle();
+    }
+}
@@ -0,0 +1,112 @@
+package messages;
+
+import io.github.kaktushose.jdac.message.i18n.CachingLocalizer;
+import io.github.kaktushose.jdac.message.i18n.Localizer;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+public class CachingLocalizerTest {
+
+    private Counting counting;
+    private CachingLocalizer localizer;
+
+    @BeforeEach
+    void setup() {
+        counting = new Counting();
+        localizer = CachingLocalizer.of(counting, 2);
+    }
+
+    @Test
+    void caches_without_arguments() {
+        Assertions.assertEquals(Optional.of("bundle:key"), localizer.localize(Locale.ENGLISH, "bundle", "key", Map.of()));
+        Assertions.assertEquals(Optional.of("bundle:key"), localizer.localize(Locale.ENGLISH, "bundle", "key", Map.of()));
+
+        Assertions.assertEquals(1, counting.calls);
+        Assertions.assertEquals(new CachingLocalizer.Stats(1, 1, 1), localizer.stats());
+    }
+
+    @Test
+    void bypasses_with_arguments() {
+        localizer.localize(Locale.ENGLISH, "bundle", "key", Map.of("name", "value"));
+        localizer.localize(Locale.ENGLISH, "bundle", "key", Map.of("name", "value"));
+
+        Assertions.assertEquals(2, counting.calls);
+        Assertions.assertEquals(0, localizer.stats().size());
+    }
+
+    @Test
+    void evicts_least_recently_used() {
+        localizer.localize(Locale.ENGLISH, "bundle", "one", Map.of());
+        localizer.localize(Locale.ENGLISH, "bundle", "two", Map.of());
+        localizer.localize(Locale.ENGLISH, "bundle", "three", Map.of());
+        localizer.localize(Locale.ENGLISH, "bundle", "one", Map.of());
+
+        Assertions.assertEquals(4, counting.calls);
+        Assertions.assertEquals(2, localizer.stats().size());
+    }
+
+    @Test
+    void invalidates_bundle() {
+        localizer.localize(Locale.ENGLISH, "first", "key", Map.of());
+        localizer.localize(Locale.ENGLISH, "second", "key", Map.of());
+
+        localizer.invalidate("first");
+        localizer.localize(Locale.ENGLISH, "first", "key", Map.of());
+        localizer.localize(Locale.ENGLISH, "second", "key", Map.of());
+
+        Assertions.assertEquals(3, counting.calls);
+    }
+
+    @Test
+    void separates_jda_keys() {
+        localizer.localize(Locale.ENGLISH, "bundle", "key", Map.of());
+        localizer.localizeJDA(Locale.ENGLISH, "bundle", "key", Map.of());
+
+        Assertions.assertEquals(2, counting.calls);
+    }
+
+    @Test
+    void invalidation_during_lookup_is_not_overwritten() {
+        Invalidating invalidating = new Invalidating();
+        CachingLocalizer localizer = CachingLocalizer.of(invalidating);
+        invalidating.localizer = localizer;
+
+        Assertions.assertEquals(Optional.of("old"), localizer.localize(Locale.ENGLISH, "bundle", "key", Map.of()));
+        Assertions.assertEquals(Optional.of("new"), localizer.localize(Locale.ENGLISH, "bundle", "key", Map.of()));
+        Assertions.assertEquals(Optional.of("new"), localizer.localize(Locale.ENGLISH, "bundle", "key", Map.of()));
+    }
+
+    // changes the message and invalidates the bundle while the first message is localized, like a concurrent reload
+    private static final class Invalidating implements Localizer {
+
+        private CachingLocalizer localizer;
+        private boolean reloaded;
+
+        @Override
+        public Optional<String> localize(Locale locale, String bundle, String key, Map<String, @Nullable Object> arguments) {
+            if (reloaded) {
+                return Optional.of("new");
+            }
+            reloaded = true;
+            localizer.invalidate(bundle);
+            return Optional.of("old");
+        }
+    }
+
+    private static final class Counting implements Localizer {
+
+        private int calls;
+
+        @Override
+        public Optional<String> localize(Locale locale, String bundle, String key, Map<String, @Nullable Object> arguments) {
+            calls++;
+            return Optional.of(bundle + ":" + key);
+        }
+    }
+}
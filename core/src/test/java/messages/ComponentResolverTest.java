@@ -0,0 +1,66 @@
+package messages;
+
+import io.github.kaktushose.jdac.message.placeholder.PlaceholderResolver;
+import io.github.kaktushose.jdac.message.resolver.ComponentResolver;
+import net.dv8tion.jda.api.components.actionrow.ActionRow;
+import net.dv8tion.jda.api.components.buttons.Button;
+import net.dv8tion.jda.api.components.container.Container;
+import net.dv8tion.jda.api.components.section.Section;
+import net.dv8tion.jda.api.components.selections.SelectOption;
+import net.dv8tion.jda.api.components.selections.StringSelectMenu;
+import net.dv8tion.jda.api.components.textdisplay.TextDisplay;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+
+public class ComponentResolverTest {
+
+    private static final ComponentResolver<Container> RESOLVER = new ComponentResolver<>(new PlaceholderResolver(), Container.class);
+    private static final Map<String, Object> VARIABLES = Map.of("var", "resolved");
+
+    @Test
+    void text_display() {
+        Container container = Container.of(TextDisplay.of("{ $var }").withUniqueId(5));
+
+        Container resolved = RESOLVER.resolve(container, Locale.ENGLISH, VARIABLES);
+
+        TextDisplay textDisplay = resolved.getComponents().getFirst().asTextDisplay();
+        Assertions.assertEquals("resolved", textDisplay.getContent());
+        Assertions.assertEquals(5, textDisplay.getUniqueId());
+    }
+
+    @Test
+    void nested_section() {
+        Container container = Container.of(Section.of(
+                Button.primary("button", "{ $var }"),
+                TextDisplay.of("{ $var }")
+        ));
+
+        Section section = RESOLVER.resolve(container, Locale.ENGLISH, VARIABLES).getComponents().getFirst().asSection();
+
+        Assertions.assertEquals("resolved", section.getAccessory().asButton().getLabel());
+        Assertions.assertEquals("resolved", section.getContentComponents().getFirst().asTextDisplay().getContent());
+    }
+
+    @Test
+    void select_menu() {
+        Container container = Container.of(ActionRow.of(StringSelectMenu.create("menu")
+                .setPlaceholder("{ $var }")
+                .addOptions(SelectOption.of("{ $var }", "value").withDescription("{ $var }"))
+                .build()
+                .withUniqueId(7)
+        ));
+
+        StringSelectMenu menu = RESOLVER.resolve(container, Locale.ENGLISH, VARIABLES)
+                .getComponents().getFirst().asActionRow()
+                .getComponents().getFirst().asStringSelectMenu();
+
+        Assertions.assertEquals("resolved", menu.getPlaceholder());
+        Assertions.assertEquals("resolved", menu.getOptions().getFirst().getLabel());
+        Assertions.assertEquals("resolved", menu.getOptions().getFirst().getDescription());
+        Assertions.assertEquals("value", menu.getOptions().getFirst().getValue());
+        Assertions.assertEquals(7, menu.getUniqueId());
+    }
+}
@@ -0,0 +1,117 @@
+package messages;
+
+import io.github.kaktushose.jdac.definitions.description.Descriptor;
+import io.github.kaktushose.jdac.definitions.interactions.InteractionRegistry;
+import io.github.kaktushose.jdac.message.emoji.EmojiResolver;
+import io.github.kaktushose.jdac.message.i18n.I18n;
+import io.github.kaktushose.jdac.message.i18n.Localizer;
+import io.github.kaktushose.jdac.message.i18n.internal.BundleFinder;
+import io.github.kaktushose.jdac.message.i18n.internal.JDACLocalizationFunction;
+import io.github.kaktushose.jdac.message.placeholder.PlaceholderResolver;
+import io.github.kaktushose.jdac.message.resolver.MessageResolver;
+import io.github.kaktushose.jdac.property.JDACIntrospection;
+import io.github.kaktushose.jdac.property.JDACProperty;
+import io.github.kaktushose.jdac.property.internal.JDACInternalProperties;
+import net.dv8tion.jda.api.interactions.DiscordLocale;
+import net.dv8tion.jda.api.interactions.commands.localization.LocalizationFunction;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.*;
+
+public class JDACLocalizationFunctionTest {
+
+    private static final List<DiscordLocale> LOCALES = Arrays.stream(DiscordLocale.values())
+            .filter(locale -> locale != DiscordLocale.UNKNOWN)
+            .toList();
+
+    private RecordingLocalizer localizer;
+    private BundleFinder bundleFinder;
+    private LocalizationFunction function;
+
+    @BeforeEach
+    void setup() {
+        localizer = new RecordingLocalizer();
+        bundleFinder = spy(new BundleFinder(Descriptor.REFLECTIVE));
+
+        JDACIntrospection introspection = mock(JDACIntrospection.class);
+        when(introspection.get(JDACInternalProperties.BUNDLE_FINDER)).thenReturn(bundleFinder);
+        when(introspection.get(JDACProperty.DEFINITIONS)).thenReturn(new InteractionRegistry(null, null, null));
+        when(introspection.get(JDACProperty.MESSAGE_RESOLVER)).thenReturn(new MessageResolver(List.of(
+                new PlaceholderResolver(), new I18n(new BundleFinder(Descriptor.REFLECTIVE), localizer), new EmojiResolver(List.of())
+        )));
+
+        function = JDACLocalizationFunction.PROVIDER_FUNC.apply(introspection);
+    }
+
+    @Test
+    void localizes_all_locales_concurrently() {
+        Map<DiscordLocale, String> expected = LOCALES.stream()
+                .collect(Collectors.toMap(locale -> locale, locale -> "greet.name " + locale.toLocale().toLanguageTag()));
+
+        Assertions.assertEquals(expected, function.apply("greet.name"));
+        Assertions.assertEquals(LOCALES.size(), localizer.calls.get());
+    }
+
+    @Test
+    void fallback_only_searched_for_missing_locales() {
+        function.apply("greet.name");
+        verify(bundleFinder, never()).findBundle();
+
+        localizer.missing = Locale.GERMAN.getLanguage();
+        Map<DiscordLocale, String> result = function.apply("greet.name");
+
+        verify(bundleFinder, times(1)).findBundle();
+        Assertions.assertFalse(result.containsKey(DiscordLocale.GERMAN));
+        Assertions.assertEquals(LOCALES.size() - 1, result.size());
+    }
+
+    @Test
+    void memoized_during_one_update() {
+        JDACLocalizationFunction.update(() -> {
+            function.apply("greet.name");
+            function.apply("greet.name");
+        });
+
+        Assertions.assertEquals(LOCALES.size(), localizer.calls.get());
+    }
+
+    @Test
+    void next_update_picks_up_changed_messages() {
+        JDACLocalizationFunction.update(() -> function.apply("greet.name"));
+        localizer.suffix = "changed";
+
+        Map<DiscordLocale, String> result = JDACLocalizationFunction.update(() -> function.apply("greet.name"));
+
+        Assertions.assertEquals("greet.name en-US changed", result.get(DiscordLocale.ENGLISH_US));
+        Assertions.assertEquals(LOCALES.size() * 2, localizer.calls.get());
+    }
+
+    // called concurrently on the common pool, thus must be thread safe
+    private static final class RecordingLocalizer implements Localizer {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile String suffix = "";
+        private volatile String missing = "";
+
+        @Override
+        public Optional<String> localize(Locale locale, String bundle, String key, Map<String, @Nullable Object> arguments) {
+            calls.incrementAndGet();
+            if (locale.getLanguage().equals(missing)) {
+                return Optional.empty();
+            }
+            String message = key + " " + locale.toLanguageTag();
+            return Optional.of(suffix.isEmpty() ? message : message + " " + suffix);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package messages;
+
+import io.github.kaktushose.jdac.definitions.description.Descriptor;
+import io.github.kaktushose.jdac.message.emoji.EmojiResolver;
+import io.github.kaktushose.jdac.message.i18n.FluavaLocalizer;
+import io.github.kaktushose.jdac.message.i18n.I18n;
+import io.github.kaktushose.jdac.message.i18n.Localizer;
+import io.github.kaktushose.jdac.message.i18n.internal.BundleFinder;
+import io.github.kaktushose.jdac.message.placeholder.PlaceholderResolver;
+import io.github.kaktushose.jdac.message.resolver.MessageResolver;
+import io.github.kaktushose.jdac.message.resolver.Resolver;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+public class MessageResolverTest {
+
+    private static final I18n I18N = new I18n(new BundleFinder(Descriptor.REFLECTIVE), FluavaLocalizer.create(Locale.ENGLISH));
+
+    private static final MessageResolver FUSED = new MessageResolver(List.of(
+            new PlaceholderResolver(), I18N, new EmojiResolver(List.of())
+    ));
+
+    private static final MessageResolver CHAINED = new MessageResolver(List.of(
+            new PlaceholderResolver(), I18N, new EmojiResolver(List.of()), new Identity()
+    ));
+
+    @Test
+    void fused_matches_chain() {
+        String message = "Hello { $name } :joy:";
+        Map<String, Object> placeholders = Map.of("name", "Kaktus");
+
+        Assertions.assertEquals("Hello Kaktus 😂", CHAINED.resolve(message, Locale.ENGLISH, placeholders));
+        Assertions.assertEquals("Hello Kaktus 😂", FUSED.resolve(message, Locale.ENGLISH, placeholders));
+    }
+
+    @Test
+    void cached_without_placeholders() {
+        String message = "no key :joy:";
+
+        Assertions.assertEquals("no key 😂", FUSED.resolve(message, Locale.ENGLISH, Map.of()));
+        Assertions.assertEquals("no key 😂", FUSED.resolve(message, Locale.ENGLISH, Map.of()));
+        Assertions.assertEquals(CHAINED.resolve(message, Locale.ENGLISH, Map.of()), FUSED.resolve(message, Locale.ENGLISH, Map.of()));
+    }
+
+    @Test
+    void not_cached_for_custom_localizer() {
+        MutableLocalizer localizer = new MutableLocalizer();
+        MessageResolver resolver = new MessageResolver(List.of(
+                new PlaceholderResolver(), new I18n(new BundleFinder(Descriptor.REFLECTIVE), localizer), new EmojiResolver(List.of())
+        ));
+
+        localizer.message = "first";
+        Assertions.assertEquals("first", resolver.resolve("bundle$key", Locale.ENGLISH, Map.of()));
+        localizer.message = "second";
+        Assertions.assertEquals("second", resolver.resolve("bundle$key", Locale.ENGLISH, Map.of()));
+    }
+
+    private static final class MutableLocalizer implements Localizer {
+
+        private volatile String message = "";
+
+        @Override
+        public Optional<String> localize(Locale locale, String bundle, String key, Map<String, @Nullable Object> arguments) {
+            return Optional.of(message);
+        }
+    }
+
+    private static final class Identity implements Resolver<String> {
+
+        @Override
+        public String resolve(String object, Locale locale, Map<String, @Nullable Object> placeholders) {
+            return object;
+        }
+
+        @Override
+        public int priority() {
+            return 4000;
+        }
+    }
+}
@@ -242,5 +242,19 @@ public class PlaceholderResolverTest {
                 \\ 12""", resolved);
     }
 
+    @Test
+    void cached_template_uses_current_variables() {
+        String text = "Hello { $var }!";
+
+        Assertions.assertEquals("Hello first!", PLACEHOLDER_RESOLVER.resolve(text, Locale.ENGLISH, Map.of("var", "first")));
+        Assertions.assertEquals("Hello second!", PLACEHOLDER_RESOLVER.resolve(text, Locale.ENGLISH, Map.of("var", "second")));
+    }
 
+    @Test
+    void escaped_without_variables() {
+        String text = "\\{ $var } stays";
+
+        Assertions.assertEquals("{ $var } stays", PLACEHOLDER_RESOLVER.resolve(text, Locale.ENGLISH, Map.of()));
+        Assertions.assertEquals("{ $var } stays", PLACEHOLDER_RESOLVER.resolve(text, Locale.ENGLISH, Map.of()));
+    }
 }
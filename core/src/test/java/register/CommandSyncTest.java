@@ -0,0 +1,122 @@
+package register;
+
+import io.github.kaktushose.jdac.definitions.interactions.InteractionRegistry;
+import io.github.kaktushose.jdac.internal.JDAContext;
+import io.github.kaktushose.jdac.internal.register.CommandFingerprint;
+import io.github.kaktushose.jdac.internal.register.CommandUpdater;
+import io.github.kaktushose.jdac.register.CommandStateStore;
+import io.github.kaktushose.jdac.register.CommandSync;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.SelfUser;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.api.requests.restaction.CommandListUpdateAction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class CommandSyncTest {
+
+    @Test
+    void fingerprint_ignores_order() {
+        CommandData first = Commands.slash("first", "first command").addOption(OptionType.STRING, "name", "the name");
+        CommandData second = Commands.slash("second", "second command");
+
+        Assertions.assertEquals(
+                CommandFingerprint.of(List.of(first, second)),
+                CommandFingerprint.of(List.of(second, first))
+        );
+    }
+
+    @Test
+    void fingerprint_detects_changes() {
+        String before = CommandFingerprint.of(List.of(Commands.slash("command", "description")));
+        String after = CommandFingerprint.of(List.of(Commands.slash("command", "changed description")));
+
+        Assertions.assertNotEquals(before, after);
+        Assertions.assertNotEquals(before, CommandFingerprint.of(List.of()));
+    }
+
+    @Test
+    void in_memory_store() {
+        CommandStateStore store = CommandStateStore.inMemory();
+
+        Assertions.assertEquals(Optional.empty(), store.load(CommandStateStore.GLOBAL));
+        store.save(CommandStateStore.GLOBAL, "fingerprint");
+        Assertions.assertEquals(Optional.of("fingerprint"), store.load(CommandStateStore.GLOBAL));
+
+        store.clear();
+        Assertions.assertEquals(Optional.empty(), store.load(CommandStateStore.GLOBAL));
+    }
+
+    @Test
+    void file_store_persists(@TempDir Path directory) {
+        Path file = directory.resolve("state").resolve("commands.properties");
+
+        CommandStateStore store = CommandStateStore.file(file);
+        store.save("1234567890", "fingerprint");
+        Assertions.assertFalse(Files.exists(file));
+        store.flush();
+
+        Assertions.assertEquals(Optional.of("fingerprint"), CommandStateStore.file(file).load("1234567890"));
+        Assertions.assertEquals(Optional.empty(), CommandStateStore.file(file).load(CommandStateStore.GLOBAL));
+    }
+
+    @Test
+    void fingerprint_is_stored_per_application() {
+        CommandStateStore store = CommandStateStore.inMemory();
+        JDA development = jda(1);
+        JDA production = jda(2);
+
+        updater(development, store).updateGlobalCommands();
+        updater(production, store).updateGlobalCommands();
+        updater(development, store).updateGlobalCommands();
+
+        verify(development, times(1)).updateCommands();
+        verify(production, times(1)).updateCommands();
+        Assertions.assertTrue(store.load("1." + CommandStateStore.GLOBAL).isPresent());
+        Assertions.assertTrue(store.load("2." + CommandStateStore.GLOBAL).isPresent());
+    }
+
+    private static CommandUpdater updater(JDA jda, CommandStateStore store) {
+        return new CommandUpdater(
+                new JDAContext(jda),
+                _ -> Set.of(),
+                new InteractionRegistry(null, null, null),
+                _ -> Map.of(),
+                CommandSync.fingerprint(store),
+                _ -> { }
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JDA jda(long applicationId) {
+        SelfUser selfUser = mock(SelfUser.class);
+        when(selfUser.getApplicationIdLong()).thenReturn(applicationId);
+
+        CommandListUpdateAction action = mock(CommandListUpdateAction.class);
+        when(action.addCommands(anyCollection())).thenReturn(action);
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(List.of());
+            return null;
+        }).when(action).queue(any());
+
+        JDA jda = mock(JDA.class);
+        when(jda.getSelfUser()).thenReturn(selfUser);
+        when(jda.updateCommands()).thenReturn(action);
+        return jda;
+    }
+}
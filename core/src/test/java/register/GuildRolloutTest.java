@@ -0,0 +1,118 @@
+package register;
+
+import io.github.kaktushose.jdac.internal.register.GuildRollout;
+import io.github.kaktushose.jdac.property.events.GuildCommandsUpdateEvent;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.requests.restaction.CommandListUpdateAction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class GuildRolloutTest {
+
+    private final List<InvocationOnMock> pending = new ArrayList<>();
+    private final List<GuildCommandsUpdateEvent> events = new ArrayList<>();
+    private int finished;
+    private JDA shard;
+    private CommandListUpdateAction action;
+
+    @BeforeEach
+    void setup() {
+        shard = mock(JDA.class);
+        action = mock(CommandListUpdateAction.class);
+        when(action.addCommands(anyCollection())).thenReturn(action);
+        doAnswer(this::defer).when(action).queue(any(), any());
+        doAnswer(this::defer).when(action).queueAfter(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void limits_concurrency_per_shard() {
+        GuildRollout rollout = rollout(GuildRollout.CONCURRENCY + 2);
+
+        rollout.start();
+        Assertions.assertEquals(GuildRollout.CONCURRENCY, pending.size());
+
+        succeed(pending.removeFirst());
+        Assertions.assertEquals(GuildRollout.CONCURRENCY, pending.size());
+        Assertions.assertEquals(new GuildCommandsUpdateEvent(0, null, 1, GuildRollout.CONCURRENCY + 2), events.getFirst());
+    }
+
+    @Test
+    void retries_failed_updates() {
+        GuildRollout rollout = rollout(1);
+        rollout.start();
+
+        for (int i = 0; i < GuildRollout.MAX_ATTEMPTS; i++) {
+            Assertions.assertTrue(events.isEmpty());
+            fail(pending.removeFirst(), new RuntimeException("network error"));
+        }
+
+        Assertions.assertTrue(pending.isEmpty());
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertTrue(events.getFirst().finished());
+        Assertions.assertNotNull(events.getFirst().exception());
+        verify(action, times(GuildRollout.MAX_ATTEMPTS - 1)).queueAfter(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void calls_on_finished_once_after_all_guilds() {
+        GuildRollout rollout = rollout(2);
+        rollout.start();
+
+        succeed(pending.removeFirst());
+        Assertions.assertEquals(0, finished);
+        // client errors aren't retried
+        fail(pending.removeFirst(), mock(ErrorResponseException.class));
+        Assertions.assertEquals(1, finished);
+    }
+
+    @Test
+    void publishes_event_without_guilds() {
+        rollout(0).start();
+
+        Assertions.assertTrue(pending.isEmpty());
+        Assertions.assertEquals(List.of(new GuildCommandsUpdateEvent(0, null, 0, 0)), events);
+        Assertions.assertTrue(events.getFirst().finished());
+        Assertions.assertEquals(1, finished);
+    }
+
+    private GuildRollout rollout(int guilds) {
+        GuildRollout rollout = new GuildRollout(events::add, () -> finished++);
+        for (int i = 0; i < guilds; i++) {
+            Guild guild = mock(Guild.class);
+            when(guild.getJDA()).thenReturn(shard);
+            when(guild.getIdLong()).thenReturn((long) i);
+            when(guild.updateCommands()).thenReturn(action);
+            rollout.add(guild, Set.of(), () -> { });
+        }
+        return rollout;
+    }
+
+    private Object defer(InvocationOnMock invocation) {
+        pending.add(invocation);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void succeed(InvocationOnMock invocation) {
+        Consumer<Object> success = invocation.getArgument(invocation.getArguments().length - 2);
+        success.accept(List.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void fail(InvocationOnMock invocation, Throwable error) {
+        Consumer<Throwable> failure = invocation.getArgument(invocation.getArguments().length - 1);
+        failure.accept(error);
+    }
+}
@@ -0,0 +1,160 @@
+package reply;
+
+import io.github.kaktushose.jdac.annotations.interactions.Command;
+import io.github.kaktushose.jdac.annotations.interactions.Interaction;
+import io.github.kaktushose.jdac.annotations.interactions.Modal;
+import io.github.kaktushose.jdac.definitions.interactions.InteractionDefinition.ReplyConfig;
+import io.github.kaktushose.jdac.dispatching.events.interactions.CommandEvent;
+import io.github.kaktushose.jdac.dispatching.events.interactions.ModalEvent;
+import io.github.kaktushose.jdac.dispatching.reply.AcknowledgementStrategy;
+import io.github.kaktushose.jdac.dispatching.reply.internal.Acknowledgement;
+import io.github.kaktushose.jdac.exceptions.ReplyException;
+import io.github.kaktushose.jdac.testing.TestScenario;
+import net.dv8tion.jda.api.components.textdisplay.TextDisplay;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.requests.restaction.interactions.MessageEditCallbackAction;
+import net.dv8tion.jda.api.requests.restaction.interactions.ReplyCallbackAction;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+class AcknowledgementTest {
+
+    private static TestScenario scenario;
+
+    @BeforeAll
+    static void init() {
+        scenario = TestScenario.with(TestController.class)
+                .replyConfig(new ReplyConfig())
+                .create();
+    }
+
+    @Test
+    void adaptive_deadline_must_be_below_three_seconds() {
+        assertThrows(IllegalArgumentException.class, () -> AcknowledgementStrategy.adaptive(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> AcknowledgementStrategy.adaptive(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> AcknowledgementStrategy.adaptive(Duration.ofSeconds(3)));
+        assertDoesNotThrow(() -> AcknowledgementStrategy.adaptive(Duration.ofMillis(2999)));
+    }
+
+    @Test
+    void defer_strategy_never_replies_directly() {
+        SlashCommandInteractionEvent event = slashEvent(OffsetDateTime.now());
+        Acknowledgement acknowledgement = Acknowledgement.create(event, new ReplyConfig(), AcknowledgementStrategy.DEFER);
+
+        assertTrue(acknowledgement.claim());
+        assertFalse(acknowledgement.replyDirectly());
+        acknowledgement.finish();
+        verify(event, after(200).never()).deferReply(anyBoolean());
+    }
+
+    @Test
+    void timer_defers_unacknowledged_interaction() {
+        SlashCommandInteractionEvent event = slashEvent(OffsetDateTime.now());
+        Acknowledgement acknowledgement = Acknowledgement.create(event, new ReplyConfig(), AcknowledgementStrategy.adaptive(Duration.ofMillis(50)));
+
+        verify(event, timeout(1000)).deferReply(false);
+        assertFalse(acknowledgement.claim());
+        assertFalse(acknowledgement.replyDirectly());
+    }
+
+    @Test
+    void claimed_interaction_is_not_deferred_by_timer() {
+        SlashCommandInteractionEvent event = slashEvent(OffsetDateTime.now());
+        Acknowledgement acknowledgement = Acknowledgement.create(event, new ReplyConfig(), AcknowledgementStrategy.adaptive(Duration.ofMillis(200)));
+
+        assertTrue(acknowledgement.claim());
+        assertTrue(acknowledgement.replyDirectly());
+        verify(event, after(600).never()).deferReply(anyBoolean());
+    }
+
+    @Test
+    void passed_deadline_defers_exactly_once() {
+        SlashCommandInteractionEvent event = slashEvent(OffsetDateTime.now().minusSeconds(5));
+        Acknowledgement acknowledgement = Acknowledgement.create(event, new ReplyConfig(), AcknowledgementStrategy.adaptive());
+
+        // either the timer or the reply claims the interaction, but it never gets acknowledged twice
+        if (acknowledgement.claim()) {
+            assertFalse(acknowledgement.replyDirectly());
+            Acknowledgement.defer(event, false, false).queue();
+        }
+
+        verify(event, after(300).times(1)).deferReply(false);
+        verify(event, never()).reply(any(MessageCreateData.class));
+    }
+
+    @Test
+    void finish_cancels_timer() {
+        SlashCommandInteractionEvent event = slashEvent(OffsetDateTime.now());
+        Acknowledgement acknowledgement = Acknowledgement.create(event, new ReplyConfig(), AcknowledgementStrategy.adaptive(Duration.ofMillis(200)));
+
+        acknowledgement.finish();
+
+        verify(event, after(600).never()).deferReply(anyBoolean());
+        assertTrue(acknowledgement.claim());
+    }
+
+    @Test
+    void defer_edits_original_message_of_components() {
+        ButtonInteractionEvent event = mock(ButtonInteractionEvent.class);
+        when(event.deferEdit()).thenReturn(mock(MessageEditCallbackAction.class));
+        when(event.deferReply(anyBoolean())).thenReturn(mock(ReplyCallbackAction.class));
+
+        Acknowledgement.defer(event, false, true);
+        verify(event).deferEdit();
+
+        Acknowledgement.defer(event, true, false);
+        verify(event).deferReply(true);
+    }
+
+    @Test
+    void modal_after_acknowledgement_is_rejected() {
+        assertEquals("already acknowledged", scenario.slash("modal").invoke().content());
+    }
+
+    @Test
+    void reply_async_sends_reply() {
+        assertEquals("async", scenario.slash("async").invoke().content());
+    }
+
+    private static SlashCommandInteractionEvent slashEvent(OffsetDateTime created) {
+        SlashCommandInteractionEvent event = mock(SlashCommandInteractionEvent.class);
+        when(event.getTimeCreated()).thenReturn(created);
+        when(event.isAcknowledged()).thenReturn(false);
+        when(event.deferReply(anyBoolean())).thenReturn(mock(ReplyCallbackAction.class));
+        return event;
+    }
+
+    @Interaction
+    public static class TestController {
+
+        @Command("modal")
+        public void onModalCommand(CommandEvent event) {
+            event.deferReply(false);
+            try {
+                event.replyModal("onModal", TextDisplay.of("modal"));
+            } catch (ReplyException e) {
+                event.reply("already acknowledged");
+            }
+        }
+
+        @Command("async")
+        public void onAsync(CommandEvent event) {
+            event.replyAsync("async");
+        }
+
+        @Modal("Test Modal")
+        public void onModal(ModalEvent event) {
+            event.reply("submitted");
+        }
+    }
+}
@@ -21,7 +21,7 @@ public final class ModalInvocation extends ReplyableInvocation<ModalInteractionE
 
         lenient().when(event.getModalId()).thenReturn(modalId);
 
-        lenient().when(event.deferEdit()).thenReturn(mock(MessageEditCallbackAction.class));
+        lenient().when(event.deferEdit()).thenReturn(acknowledgement(MessageEditCallbackAction.class));
 
         modalMappings = new ArrayList<>();
         lenient().when(event.getValues()).thenReturn(modalMappings);
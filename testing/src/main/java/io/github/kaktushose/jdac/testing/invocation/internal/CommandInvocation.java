@@ -22,7 +22,7 @@ public abstract sealed class CommandInvocation<T extends GenericCommandInteracti
 
         when(event.getFullCommandName()).thenReturn(command);
 
-        lenient().when(event.deferReply(anyBoolean())).thenReturn(mock(ReplyCallbackAction.class));
+        lenient().when(event.deferReply(anyBoolean())).thenReturn(acknowledgement(ReplyCallbackAction.class));
 
         lenient().when(event.replyModal(any(Modal.class))).then(invocation -> {
             modal.complete(invocation.getArgument(0));
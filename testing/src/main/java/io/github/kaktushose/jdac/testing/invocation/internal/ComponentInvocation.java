@@ -27,7 +27,7 @@ public abstract sealed class ComponentInvocation<T extends GenericComponentInter
 
         when(event.getComponentId()).thenReturn(customId);
         when(event.getCustomId()).thenReturn(customId);
-        lenient().when(event.deferEdit()).thenReturn(mock(MessageEditCallbackAction.class));
+        lenient().when(event.deferEdit()).thenReturn(acknowledgement(MessageEditCallbackAction.class));
 
         Message message = mock(Message.class);
         lenient().when(event.getMessage()).thenReturn(message);
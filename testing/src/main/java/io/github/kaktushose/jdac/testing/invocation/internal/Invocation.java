@@ -9,7 +9,11 @@ import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
 import net.dv8tion.jda.api.interactions.DiscordLocale;
 import net.dv8tion.jda.api.interactions.Interaction;
 import net.dv8tion.jda.api.interactions.InteractionType;
+import net.dv8tion.jda.api.requests.RestAction;
 
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 public abstract sealed class Invocation<T extends Interaction, R> permits AutoCompleteInvocation, ReplyableInvocation {
@@ -59,4 +63,11 @@ public abstract sealed class Invocation<T extends Interaction, R> permits AutoCo
     }
 
     protected abstract R complete();
+
+    // replies chain the acknowledgement and the actual message via RestAction#flatMap
+    protected static <A extends RestAction<?>> A acknowledgement(Class<A> type) {
+        A action = mock(type);
+        lenient().when(action.flatMap(any())).then(invocation -> invocation.<Function<Object, ?>>getArgument(0).apply(null));
+        return action;
+    }
 }
@@ -40,7 +40,7 @@ public sealed class ReplyableInvocation<T extends IReplyCallback> extends Invoca
     public ReplyableInvocation(TestScenario.Context context, Class<T> eventClass, InteractionType interactionType) {
         super(context, eventClass, interactionType);
 
-        lenient().when(event.deferReply(anyBoolean())).thenReturn(mock(ReplyCallbackAction.class));
+        lenient().when(event.deferReply(anyBoolean())).thenReturn(acknowledgement(ReplyCallbackAction.class));
 
         InteractionHook hook = mock(InteractionHook.class);
         lenient().when(event.getHook()).thenReturn(hook);
@@ -0,0 +1,120 @@
+package io.github.kaktushose.jdac.testing;
+
+import io.github.kaktushose.jdac.annotations.constraints.Constraint;
+import io.github.kaktushose.jdac.annotations.constraints.Max;
+import io.github.kaktushose.jdac.annotations.interactions.Command;
+import io.github.kaktushose.jdac.annotations.interactions.Interaction;
+import io.github.kaktushose.jdac.annotations.interactions.Param;
+import io.github.kaktushose.jdac.dispatching.events.interactions.CommandEvent;
+import io.github.kaktushose.jdac.dispatching.validation.Validator;
+import io.github.kaktushose.jdac.testing.invocation.commands.SlashCommandInvocation.Option;
+import io.github.kaktushose.jdac.testing.reply.MessageEventReply;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ConstraintTest {
+
+    private static final List<Object> validated = new CopyOnWriteArrayList<>();
+    private static TestScenario scenario;
+
+    @BeforeAll
+    static void init() {
+        scenario = TestScenario.with(TestController.class)
+                .configure(builder -> builder.validator(Blocked.class, new BlockedValidator()))
+                .create();
+    }
+
+    @BeforeEach
+    void clear() {
+        validated.clear();
+    }
+
+    @Test
+    void validArgument_shouldInvokeCommand() {
+        MessageEventReply reply = scenario.slash("echo").option("text", Option.string("hello")).invoke();
+
+        assertEquals("hello", reply.content());
+        assertEquals(List.of("hello"), validated);
+    }
+
+    @Test
+    void invalidArgument_shouldCancelCommand() {
+        MessageEventReply reply = scenario.slash("echo").option("text", Option.string("forbidden")).invoke();
+
+        assertNotEquals("forbidden", reply.content());
+        assertEquals(List.of("forbidden"), validated);
+    }
+
+    @Test
+    void optionalArgument_shouldBeValidatedUnwrapped() {
+        MessageEventReply reply = scenario.slash("optional").option("text", Option.string("hello")).invoke();
+
+        assertEquals("hello", reply.content());
+        assertEquals(List.of("hello"), validated);
+    }
+
+    @Test
+    void missingArgument_shouldSkipValidation() {
+        MessageEventReply reply = scenario.slash("optional").invoke();
+
+        assertEquals("none", reply.content());
+        assertEquals(List.of(), validated);
+    }
+
+    @Test
+    void discordHandledConstraint_shouldInvokeCommand() {
+        MessageEventReply reply = scenario.slash("limited").option("number", Option.integer(5)).invoke();
+
+        assertEquals("5", reply.content());
+        assertEquals(List.of(), validated);
+    }
+
+    @Target(ElementType.PARAMETER)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Constraint(String.class)
+    public @interface Blocked {
+        String value();
+    }
+
+    public static class BlockedValidator implements Validator<String, Blocked> {
+
+        @Override
+        public void apply(String argument, Blocked annotation, Context context) {
+            validated.add(argument);
+            if (argument.equals(annotation.value())) {
+                context.fail("blocked");
+            }
+        }
+    }
+
+    @Interaction
+    public static class TestController {
+
+        @Command("echo")
+        public void onEcho(CommandEvent event, @Blocked("forbidden") String text) {
+            event.reply(text);
+        }
+
+        @Command("optional")
+        public void onOptional(CommandEvent event, @Param(optional = true) @Blocked("forbidden") Optional<String> text) {
+            event.reply(text.orElse("none"));
+        }
+
+        @Command("limited")
+        public void onLimited(CommandEvent event, @Max(10) int number) {
+            event.reply(String.valueOf(number));
+        }
+    }
+}
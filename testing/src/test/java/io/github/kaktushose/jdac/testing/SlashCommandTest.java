@@ -0,0 +1,63 @@
+package io.github.kaktushose.jdac.testing;
+
+import io.github.kaktushose.jdac.annotations.interactions.Command;
+import io.github.kaktushose.jdac.annotations.interactions.Interaction;
+import io.github.kaktushose.jdac.annotations.interactions.Param;
+import io.github.kaktushose.jdac.dispatching.events.interactions.CommandEvent;
+import io.github.kaktushose.jdac.testing.invocation.commands.SlashCommandInvocation.Option;
+import io.github.kaktushose.jdac.testing.reply.MessageEventReply;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SlashCommandTest {
+
+    private static TestScenario scenario;
+
+    @BeforeAll
+    static void init() {
+        scenario = TestScenario.create(TestController.class);
+    }
+
+    @Test
+    void bindsPresentOptions() {
+        MessageEventReply reply = scenario.slash("greet")
+                .option("name", Option.string("Kaktus"))
+                .option("suffix", Option.string("!"))
+                .invoke();
+
+        assertEquals("Kaktus!0", reply.content());
+    }
+
+    @Test
+    void bindsMissingOptionsToDefaults() {
+        MessageEventReply reply = scenario.slash("greet")
+                .option("name", Option.string("Kaktus"))
+                .invoke();
+
+        assertEquals("Kaktus0", reply.content());
+    }
+
+    @Test
+    void bindsRepeatedInvocations() {
+        scenario.slash("greet").option("name", Option.string("first")).invoke();
+        MessageEventReply reply = scenario.slash("greet").option("name", Option.string("second")).invoke();
+
+        assertEquals("second0", reply.content());
+    }
+
+    @Interaction
+    public static class TestController {
+
+        @Command("greet")
+        public void onGreet(CommandEvent event,
+                            String name,
+                            @Param(optional = true) Optional<String> suffix,
+                            @Param(optional = true) int count) {
+            event.reply(name + suffix.orElse("") + count);
+        }
+    }
+}